@@ -0,0 +1,16 @@
+package com.wirebarley.transfer.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = {
+        "com.wirebarley.transfer.reactive",
+        "com.wirebarley.transfer.infra.r2dbc"
+})
+public class ReactiveTransferServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTransferServiceApplication.class, args);
+    }
+
+}
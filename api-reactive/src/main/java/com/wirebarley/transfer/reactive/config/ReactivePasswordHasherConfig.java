@@ -0,0 +1,35 @@
+package com.wirebarley.transfer.reactive.config;
+
+import com.wirebarley.transfer.core.common.security.PasswordHasher;
+import com.wirebarley.transfer.core.common.security.PasswordHashes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 신규 비밀번호 해시에 사용할 알고리즘 설정 (서블릿 애플리케이션의 PasswordHasherConfig와 같은 설정 키 사용)
+ */
+@Configuration
+public class ReactivePasswordHasherConfig {
+
+    @Value("${security.password.algorithm}")
+    private String ALGORITHM;
+
+    @Value("${security.password.pbkdf2.iterations}")
+    private int PBKDF2_ITERATIONS;
+
+    @Value("${security.password.argon2.memory-kb}")
+    private int ARGON2_MEMORY_KB;
+
+    @Value("${security.password.argon2.iterations}")
+    private int ARGON2_ITERATIONS;
+
+    @Value("${security.password.argon2.parallelism}")
+    private int ARGON2_PARALLELISM;
+
+    @Bean
+    public PasswordHasher passwordHasher() {
+        return PasswordHashes.forAlgorithm(ALGORITHM, PBKDF2_ITERATIONS,
+                ARGON2_MEMORY_KB, ARGON2_ITERATIONS, ARGON2_PARALLELISM);
+    }
+}
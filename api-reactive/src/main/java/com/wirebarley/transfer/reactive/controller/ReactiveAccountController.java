@@ -0,0 +1,174 @@
+package com.wirebarley.transfer.reactive.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transfer.core.common.csv.CsvUtil;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.dto.HistoryExportFormat;
+import com.wirebarley.transfer.reactive.service.ReactiveAccountService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AccountController와 같은 경로/요청/응답을 제공하는 WebFlux 컨트롤러
+ * (일괄 송금, 일괄 입금, 잔액 분산 슬롯 설정, 페이지 조회는 서블릿 애플리케이션에서만 제공)
+ */
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class ReactiveAccountController {
+
+    private static final String CSV_HEADER =
+            "type,amount,fee,transactedAt,counterpartyAccountNumber,counterpartyOwnerName";
+
+    private final ReactiveAccountService accountService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 계좌 생성 API
+     * [POST] /api/v1/accounts
+     */
+    @PostMapping
+    public Mono<ResponseEntity<AccountDto.CreateResponse>> createAccount(
+            @Valid @RequestBody AccountDto.CreateRequest request
+    ) {
+        return accountService.createAccount(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * 계좌 삭제 API
+     * [DELETE] /api/v1/accounts/{accountNumber}
+     */
+    @DeleteMapping("/{accountNumber}")
+    public Mono<ResponseEntity<Void>> deleteAccount(
+            @PathVariable("accountNumber") String accountNumber,
+            @Valid @RequestBody AccountDto.DeleteRequest request
+    ) {
+        return accountService.deleteAccount(accountNumber, request)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * 계좌 잔액 조회 API
+     * [GET] /api/v1/accounts/{accountNumber}/balance
+     */
+    @GetMapping("/{accountNumber}/balance")
+    public Mono<ResponseEntity<AccountDto.BalanceResponse>> getAccountBalance(
+            @PathVariable("accountNumber") String accountNumber
+    ) {
+        return accountService.getAccountBalance(accountNumber)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 송금 API
+     * [POST] /api/v1/accounts/transfer
+     */
+    @PostMapping("/transfer")
+    public Mono<ResponseEntity<AccountDto.TransferResponse>> transfer(
+            @Valid @RequestBody AccountDto.TransferRequest request
+    ) {
+        return accountService.transfer(request)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 거래 내역 조회 API
+     * [GET] /api/v1/accounts/{accountNumber}/history
+     */
+    @GetMapping("/{accountNumber}/history")
+    public Mono<ResponseEntity<AccountDto.HistoryResponse>> getTransactionHistory(
+            @PathVariable("accountNumber") String accountNumber
+    ) {
+        return accountService.getTransactionHistory(accountNumber)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 거래 내역 내보내기 API (스트리밍)
+     * [GET] /api/v1/accounts/{accountNumber}/history/export?format={ndjson|csv}
+     * 조회한 행을 모아두지 않고 클라이언트의 요청량(backpressure)에 맞춰 한 줄씩 응답합니다.
+     */
+    @GetMapping("/{accountNumber}/history/export")
+    public Mono<ResponseEntity<Flux<String>>> exportTransactionHistory(
+            @PathVariable("accountNumber") String accountNumber,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        HistoryExportFormat exportFormat = HistoryExportFormat.from(format);
+
+        return accountService.exportTransactionHistory(accountNumber)
+                .map(details -> {
+                    Flux<String> lines = details.map(detail -> toLine(exportFormat, detail) + "\n");
+                    if (exportFormat == HistoryExportFormat.CSV) {
+                        lines = Flux.concat(Mono.just(CSV_HEADER + "\n"), lines);
+                    }
+
+                    return ResponseEntity.ok()
+                            .contentType(new MediaType(MediaType.parseMediaType(exportFormat.getContentType()),
+                                    StandardCharsets.UTF_8))
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"history-" + accountNumber
+                                    + "." + exportFormat.getFileExtension() + "\"")
+                            .body(lines);
+                });
+    }
+
+    /**
+     * 입금 API
+     * [POST] /api/v1/accounts/deposit
+     */
+    @PostMapping("/deposit")
+    public Mono<ResponseEntity<AccountDto.DepositResponse>> deposit(
+            @Valid @RequestBody AccountDto.DepositRequest request
+    ) {
+        return accountService.deposit(request)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 출금 API
+     * [POST] /api/v1/accounts/withdraw
+     */
+    @PostMapping("/withdraw")
+    public Mono<ResponseEntity<AccountDto.WithdrawResponse>> withdraw(
+            @Valid @RequestBody AccountDto.WithdrawRequest request
+    ) {
+        return accountService.withdraw(request)
+                .map(ResponseEntity::ok);
+    }
+
+    private String toLine(HistoryExportFormat format, AccountDto.TransactionDetail detail) {
+        if (format == HistoryExportFormat.NDJSON) {
+            try {
+                return objectMapper.writeValueAsString(detail);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return String.join(",",
+                detail.getType().name(),
+                Long.toString(detail.getAmount()),
+                Long.toString(detail.getFee()),
+                detail.getTransactedAt().toString(),
+                CsvUtil.escape(detail.getCounterpartyAccountNumber()),
+                CsvUtil.escape(detail.getCounterpartyOwnerName())
+        );
+    }
+}
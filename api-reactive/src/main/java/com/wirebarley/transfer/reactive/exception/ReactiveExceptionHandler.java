@@ -0,0 +1,60 @@
+package com.wirebarley.transfer.reactive.exception;
+
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.exception.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * WebFlux 변형의 예외 처리 (GlobalExceptionHandler와 같은 상태 코드/응답 형식)
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+
+        log.warn("BusinessException occurred: {} - {}", errorCode.name(), e.getMessage());
+
+        HttpStatus status = switch (errorCode) {
+            case ACCOUNT_NOT_FOUND -> HttpStatus.NOT_FOUND; // 404
+            case CONCURRENT_UPDATE_CONFLICT -> HttpStatus.CONFLICT; // 409
+            case ENGINE_UNAVAILABLE, PASSWORD_HASHING_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE; // 503
+            case ENGINE_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT; // 504
+            default -> HttpStatus.BAD_REQUEST;
+        };
+
+        return new ResponseEntity<>(ErrorResponse.of(errorCode), status);
+    }
+
+    /**
+     * @Valid를 통한 DTO 검증 실패 처리 (WebFlux는 WebExchangeBindException)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException e) {
+        String errorMessage = e.getBindingResult()
+                .getAllErrors()
+                .get(0)
+                .getDefaultMessage();
+
+        log.warn("ValidationException occurred: {}", errorMessage);
+
+        ErrorResponse response = ErrorResponse.of("INVALID_INPUT_VALUE", errorMessage);
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleUnhandledException(Exception e) {
+        log.error("UnhandledException occurred: {}", e.getMessage(), e);
+
+        ErrorResponse response = ErrorResponse.of("INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다.");
+        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,94 @@
+package com.wirebarley.transfer.reactive.service;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+import com.wirebarley.transfer.core.domain.account.AccountNumberPermutation;
+import com.wirebarley.transfer.infra.r2dbc.repository.R2dbcAccountNumberBlockRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 신규 계좌번호 발급기 (hi/lo, 논블로킹)
+ * 서블릿 애플리케이션의 AccountNumberAllocator와 같은 시퀀스/순열/형식을 사용하며,
+ * 블록을 다 쓴 경우에만 새 블록을 예약합니다. (동시에 여러 요청이 예약하면 먼저 교체된 블록을 사용하고 남은 블록은 버림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveAccountNumberAllocator {
+
+    private final R2dbcAccountNumberBlockRepository accountNumberBlockRepository;
+
+    @Value("${account.policy.prefix}")
+    private String ACCOUNT_PREFIX; // 계좌번호 접두사 "110"
+
+    @Value("${account.number.scramble-key}")
+    private long SCRAMBLE_KEY; // 순번을 섞는 키 (0이면 순번 그대로 사용, 발급 시작 후 변경 금지)
+
+    private AccountNumberPermutation permutation;
+
+    private final AtomicReference<BlockCursor> current = new AtomicReference<>(new BlockCursor(0, 0));
+
+    @PostConstruct
+    void init() {
+        permutation = (SCRAMBLE_KEY == 0) ? null : new AccountNumberPermutation(SCRAMBLE_KEY);
+    }
+
+    public Mono<String> allocate() {
+        return nextSequence().map(sequence -> {
+            long number = (permutation == null) ? sequence : permutation.permute(sequence);
+
+            // "110" + "-" + 3자리 + "-" + 6자리
+            String digits = String.format("%09d", number);
+            return ACCOUNT_PREFIX + "-" + digits.substring(0, 3) + "-" + digits.substring(3);
+        });
+    }
+
+    private Mono<Long> nextSequence() {
+        return Mono.defer(() -> {
+            BlockCursor cursor = current.get();
+            long sequence = cursor.next();
+            if (sequence >= 0) {
+                return Mono.just(sequence);
+            }
+            return accountNumberBlockRepository.reserveBlock()
+                    .doOnNext(block -> {
+                        if (block.getStart() >= AccountNumberPermutation.DOMAIN_SIZE) {
+                            throw new IllegalStateException("발급 가능한 계좌번호를 모두 사용했습니다.");
+                        }
+                        current.compareAndSet(cursor, BlockCursor.of(block));
+                        log.debug("계좌번호 순번 블록 예약: {}", block);
+                    })
+                    .then(nextSequence());
+        });
+    }
+
+    /**
+     * 예약한 블록 안에서 다음 순번을 원자적으로 발급하는 커서 (모두 소진하면 -1)
+     */
+    private static final class BlockCursor {
+
+        private final AtomicLong nextSequence;
+        private final long blockEnd;
+
+        private BlockCursor(long start, long end) {
+            this.nextSequence = new AtomicLong(start);
+            this.blockEnd = end;
+        }
+
+        static BlockCursor of(AccountNumberBlock block) {
+            return new BlockCursor(block.getStart(), Math.min(block.end(), AccountNumberPermutation.DOMAIN_SIZE));
+        }
+
+        long next() {
+            long sequence = nextSequence.getAndIncrement();
+            return (sequence < blockEnd) ? sequence : -1;
+        }
+    }
+}
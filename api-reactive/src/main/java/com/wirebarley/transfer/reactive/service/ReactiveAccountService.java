@@ -0,0 +1,359 @@
+package com.wirebarley.transfer.reactive.service;
+
+import com.wirebarley.transfer.core.common.security.SecurityUtil;
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.infra.r2dbc.repository.R2dbcAccountBalanceSlotRepository;
+import com.wirebarley.transfer.infra.r2dbc.repository.R2dbcAccountRepository;
+import com.wirebarley.transfer.infra.r2dbc.repository.R2dbcTransactionHistoryRepository;
+import com.wirebarley.transfer.infra.r2dbc.repository.R2dbcTransactionUsageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AccountServiceImpl의 논블로킹(R2DBC) 변형
+ * 비밀번호 검증과 한도 계산 등 준비 단계는 트랜잭션 밖에서 수행하고, 잔액 변경과 거래 내역 저장만
+ * TransactionalOperator로 묶은 리액티브 트랜잭션 안에서 실행합니다. (이벤트 루프 스레드를 블로킹하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAccountService {
+
+    private final R2dbcAccountRepository accountRepository;
+    private final R2dbcAccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final R2dbcTransactionHistoryRepository transactionHistoryRepository;
+    private final R2dbcTransactionUsageRepository transactionUsageRepository;
+    private final ReactiveTransactionManager transactionManager;
+    private final ReactivePasswordHashingService passwordHashingService;
+    private final ReactiveAccountNumberAllocator accountNumberAllocator;
+    private final TransactionPolicy transactionPolicy;
+
+    private static final int EXPORT_CHUNK_SIZE = 500; // 내보내기 시 상대방 계좌를 일괄 조회하는 단위
+    private static final int ACCOUNT_NUMBER_MAX_ATTEMPTS = 3; // 계좌번호 충돌 시 최대 발급 시도 횟수
+
+    private TransactionalOperator writeTransaction;
+    private TransactionalOperator readTransaction;
+
+    @PostConstruct
+    void init() {
+        writeTransaction = TransactionalOperator.create(transactionManager);
+
+        DefaultTransactionDefinition readOnly = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRED);
+        readOnly.setReadOnly(true);
+        readTransaction = TransactionalOperator.create(transactionManager, readOnly);
+    }
+
+
+    public Mono<AccountDto.CreateResponse> createAccount(AccountDto.CreateRequest request) {
+        // 비밀번호 해시는 트랜잭션 밖, 제한된 스케줄러에서 계산
+        String salt = SecurityUtil.generateSalt();
+
+        return passwordHashingService.hash(request.getPassword(), salt)
+                .flatMap(passwordHash -> accountNumberAllocator.allocate()
+                        .flatMap(newAccountNumber -> writeTransaction.transactional(
+                                saveNewAccount(request, newAccountNumber, passwordHash, salt)))
+                        // 발급기의 번호가 기존(임의 발급) 번호와 충돌한 경우에만 다음 번호로 재시도
+                        .retryWhen(Retry.max(ACCOUNT_NUMBER_MAX_ATTEMPTS - 1)
+                                .filter(e -> e instanceof DataIntegrityViolationException)
+                                .doBeforeRetry(signal -> log.warn("기존 계좌번호와 충돌하여 재발급"))
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure())))
+                .doOnNext(savedAccount -> log.info("새 계좌 생성: {}", savedAccount.getAccountNumber()))
+                .map(AccountDto.CreateResponse::from);
+    }
+
+    /**
+     * 발급받은 계좌 번호로 계좌와 초기 입금 내역을 저장하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 구독)
+     */
+    private Mono<Account> saveNewAccount(AccountDto.CreateRequest request, String newAccountNumber,
+                                         String passwordHash, String salt) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            Account newAccount = Account.builder()
+                    .accountNumber(newAccountNumber)
+                    .ownerName(request.getOwnerName())
+                    .passwordHash(passwordHash)
+                    .salt(salt)
+                    .balance(Account.toInitialBalance(request.getInitialBalance()))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .status(Account.AccountStatus.ACTIVE)
+                    .build();
+
+            return accountRepository.insert(newAccount)
+                    .flatMap(savedAccount -> {
+                        if (!savedAccount.getBalance().isPositive()) {
+                            return Mono.just(savedAccount);
+                        }
+                        TransactionHistory initialDeposit = TransactionHistory.deposit(
+                                savedAccount.getId(), savedAccount.getBalance(), savedAccount.getCreatedAt());
+                        return transactionHistoryRepository.saveAll(List.of(initialDeposit))
+                                .thenReturn(savedAccount);
+                    });
+        });
+    }
+
+    public Mono<Void> deleteAccount(String accountNumber, AccountDto.DeleteRequest request) {
+        // 준비 단계 (트랜잭션 밖): 계좌 확인 및 비밀번호 해시 검증
+        return findActiveAccount(accountNumber)
+                .flatMap(account -> verifyPassword(account, request.getPassword()).thenReturn(account))
+                .flatMap(account -> writeTransaction.transactional(deleteVerifiedAccount(account.getId())))
+                .doOnSuccess(ignored -> log.info("계좌 삭제 (Soft Delete): {}", accountNumber));
+    }
+
+    /**
+     * 비밀번호 검증을 마친 계좌를 잠근 뒤 잔액(슬롯 잔액 포함) 확인 후 삭제 상태로 변경하는 헬퍼 메서드
+     */
+    private Mono<Void> deleteVerifiedAccount(Long id) {
+        return accountRepository.findByIdForUpdate(id)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND)))
+                .flatMap(account -> totalBalanceOf(account)
+                        .flatMap(totalBalance -> {
+                            if (!totalBalance.isZero()) {
+                                return Mono.error(new BusinessException(ErrorCode.BALANCE_NOT_ZERO));
+                            }
+                            return accountRepository.markDeleted(id, LocalDateTime.now());
+                        }));
+    }
+
+    public Mono<AccountDto.BalanceResponse> getAccountBalance(String accountNumber) {
+        // 락 없이 읽으므로 수취 집중 계좌는 본 잔액과 슬롯 합계를 한 문장으로 다시 조회 (회수와 엇갈려 읽지 않도록)
+        return findActiveAccount(accountNumber)
+                .flatMap(account -> (account.isHotAccount()
+                        ? accountBalanceSlotRepository.totalBalance(account.getId())
+                        : Mono.just(account.getBalance()))
+                        .map(totalBalance -> AccountDto.BalanceResponse.of(account, totalBalance)));
+    }
+
+    public Mono<AccountDto.TransferResponse> transfer(AccountDto.TransferRequest request) {
+        return Mono.defer(() -> {
+            // 준비 단계 (트랜잭션 밖): 계좌 확인, 비밀번호 해시 검증, 수수료/한도 계산
+            String fromAccountNumber = request.getFromAccountNumber();
+            String toAccountNumber = request.getToAccountNumber();
+            LocalDateTime now = LocalDateTime.now();
+
+            if (fromAccountNumber.equals(toAccountNumber)) {
+                return Mono.error(new BusinessException(ErrorCode.SELF_TRANSFER_NOT_ALLOWED));
+            }
+            Money amount = Account.validateWithdrawAmount(request.getAmount());
+
+            Money fee = transactionPolicy.transferFee(amount);
+
+            return Mono.zip(findActiveAccount(fromAccountNumber), findActiveAccount(toAccountNumber))
+                    .flatMap(accounts -> verifyPassword(accounts.getT1(), request.getPassword())
+                            .then(checkDailyLimit(accounts.getT1().getId(), TransactionHistory.TransactionType.TRANSFER_SEND,
+                                    amount, now))
+                            .then(writeTransaction.transactional(
+                                    transferInTransaction(fromAccountNumber, toAccountNumber, amount, fee, now))))
+                    .doOnNext(response -> log.info("송금 성공: {} -> {} (원금: {}, 수수료: {})",
+                            fromAccountNumber, toAccountNumber, amount, fee));
+        });
+    }
+
+    /**
+     * 두 계좌를 한 문장의 SELECT ... FOR UPDATE로 id 오름차순 잠금한 뒤 잔액 변경과 거래 내역 저장을 수행하는 헬퍼 메서드
+     * 수취 계좌가 수취 집중 계좌여도 본 잔액에 입금합니다. (행 락을 이미 잡았으므로 슬롯 적립의 이점이 없음)
+     */
+    private Mono<AccountDto.TransferResponse> transferInTransaction(String fromAccountNumber, String toAccountNumber,
+                                                                    Money amount, Money fee, LocalDateTime now) {
+        Money totalWithdrawAmount = amount.plus(fee);
+
+        return accountRepository.findAllByAccountNumbersForUpdate(List.of(fromAccountNumber, toAccountNumber))
+                .collectMap(Account::getAccountNumber)
+                .flatMap(lockedAccounts -> {
+                    Account fromAccount = lockedAccounts.get(fromAccountNumber);
+                    Account toAccount = lockedAccounts.get(toAccountNumber);
+                    if (fromAccount == null || toAccount == null) {
+                        return Mono.error(new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND));
+                    }
+
+                    return prepareDebit(fromAccount, totalWithdrawAmount, now)
+                            .then(Mono.defer(() -> {
+                                fromAccount.withdraw(totalWithdrawAmount);
+                                toAccount.deposit(amount);
+
+                                List<TransactionHistory> histories = TransactionHistory.transferPair(
+                                        fromAccount.getId(), toAccount.getId(), amount, fee, now);
+
+                                return accountRepository.updateBalance(fromAccount, now)
+                                        .then(accountRepository.updateBalance(toAccount, now))
+                                        .then(transactionHistoryRepository.saveAll(histories))
+                                        .then(transactionUsageRepository.accumulate(histories.get(0)))
+                                        .then(totalBalanceOf(toAccount))
+                                        .map(toAccountBalance -> AccountDto.TransferResponse.of(
+                                                fromAccount, toAccountNumber, toAccountBalance, amount));
+                            }));
+                });
+    }
+
+    public Mono<AccountDto.DepositResponse> deposit(AccountDto.DepositRequest request) {
+        return Mono.defer(() -> {
+            Money amount = Account.validateDepositAmount(request.getAmount());
+            LocalDateTime now = LocalDateTime.now();
+
+            return findActiveAccount(request.getAccountNumber())
+                    .flatMap(account -> writeTransaction.transactional(
+                            // 조건부 UPDATE 한 문장으로 잔액 반영 (별도 행 락 조회 없음, 수취 집중 계좌도 본 잔액에 반영)
+                            accountRepository.addBalance(account.getId(), amount, now)
+                                    .switchIfEmpty(Mono.error(new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND)))
+                                    .flatMap(balance -> transactionHistoryRepository
+                                            .saveAll(List.of(TransactionHistory.deposit(account.getId(), amount, now)))
+                                            .then(account.isHotAccount()
+                                                    ? accountBalanceSlotRepository.sumBalances(account.getId()).map(balance::plus)
+                                                    : Mono.just(balance)))))
+                    .doOnNext(finalBalance -> log.info("입금 성공: {} ({}원)", request.getAccountNumber(), amount))
+                    .map(finalBalance -> AccountDto.DepositResponse.of(request.getAccountNumber(), finalBalance));
+        });
+    }
+
+    public Mono<AccountDto.WithdrawResponse> withdraw(AccountDto.WithdrawRequest request) {
+        return Mono.defer(() -> {
+            // 준비 단계 (트랜잭션 밖): 계좌 확인, 비밀번호 해시 검증, 한도 계산
+            Money amount = Account.validateWithdrawAmount(request.getAmount());
+            LocalDateTime now = LocalDateTime.now();
+
+            return findActiveAccount(request.getAccountNumber())
+                    .flatMap(account -> verifyPassword(account, request.getPassword())
+                            .then(checkDailyLimit(account.getId(), TransactionHistory.TransactionType.WITHDRAW, amount, now))
+                            .then(writeTransaction.transactional(withdrawInTransaction(account.getId(), amount, now))))
+                    .doOnNext(finalBalance -> log.info("출금 성공: {} ({}원)", request.getAccountNumber(), amount))
+                    .map(finalBalance -> AccountDto.WithdrawResponse.of(request.getAccountNumber(), finalBalance));
+        });
+    }
+
+    /**
+     * 사전 검증을 마친 출금의 잔액 변경과 거래 내역 저장만 수행하고 변경 후 잔액을 반환하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 구독)
+     */
+    private Mono<Money> withdrawInTransaction(Long id, Money amount, LocalDateTime now) {
+        // 잔액이 충분한 경우에만 감소시키는 조건부 UPDATE 한 문장으로 반영, 실패 시에만 슬롯 잔액 회수 후 재시도
+        return accountRepository.addBalance(id, amount.negate(), now)
+                .switchIfEmpty(Mono.defer(() -> withdrawWithSlots(id, amount, now)))
+                .flatMap(finalBalance -> {
+                    TransactionHistory withdrawHistory = TransactionHistory.withdraw(id, amount, now);
+                    return transactionHistoryRepository.saveAll(List.of(withdrawHistory))
+                            .then(transactionUsageRepository.accumulate(withdrawHistory))
+                            .thenReturn(finalBalance);
+                });
+    }
+
+    /**
+     * 조건부 잔액 감소가 반영되지 않았을 때 계좌를 잠그고, 수취 집중 계좌면 슬롯 잔액을 본 잔액으로 회수한 뒤 한 번 더 시도하는 헬퍼 메서드
+     */
+    private Mono<Money> withdrawWithSlots(Long id, Money amount, LocalDateTime now) {
+        return accountRepository.findByIdForUpdate(id)
+                .switchIfEmpty(Mono.error(new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND)))
+                .filter(Account::isHotAccount)
+                .flatMap(account -> accountBalanceSlotRepository.drain(id, now))
+                .filter(Money::isPositive)
+                .flatMap(drainedAmount -> accountRepository.addBalance(id, drainedAmount, now))
+                .flatMap(ignored -> accountRepository.addBalance(id, amount.negate(), now))
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.INSUFFICIENT_FUNDS)));
+    }
+
+    public Mono<AccountDto.HistoryResponse> getTransactionHistory(String accountNumber) {
+        return exportTransactionHistory(accountNumber)
+                .flatMap(Flux::collectList)
+                .map(transactionDetails -> new AccountDto.HistoryResponse(accountNumber, transactionDetails));
+    }
+
+    /**
+     * 계좌를 확인한 뒤 전체 거래 내역을 최신순으로 스트리밍합니다.
+     * 계좌 확인은 바깥 Mono에서 끝나므로, 존재하지 않는 계좌는 응답을 시작하기 전에 에러로 처리됩니다.
+     * 상대방 계좌는 EXPORT_CHUNK_SIZE 건마다 한 번의 IN 조회로 일괄 조회합니다. (N+1 방지)
+     */
+    public Mono<Flux<AccountDto.TransactionDetail>> exportTransactionHistory(String accountNumber) {
+        return findActiveAccount(accountNumber)
+                .map(account -> readTransaction.transactional(
+                        transactionHistoryRepository.streamByAccountId(account.getId())
+                                .buffer(EXPORT_CHUNK_SIZE)
+                                .concatMap(this::toTransactionDetails)));
+    }
+
+    /**
+     * 거래 내역 목록을 상세 DTO로 변환하는 헬퍼 메서드
+     */
+    private Flux<AccountDto.TransactionDetail> toTransactionDetails(List<TransactionHistory> histories) {
+        Set<Long> counterpartyIds = histories.stream()
+                .map(TransactionHistory::getCounterpartyAccountId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return accountRepository.findAllByIds(counterpartyIds)
+                .collectMap(Account::getId, Function.identity())
+                .flatMapIterable(counterparties -> histories.stream()
+                        .map(history -> AccountDto.TransactionDetail.of(
+                                history, counterparties.get(history.getCounterpartyAccountId())))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * 잔액 변경용으로 잠근 수취 집중 계좌의 본 잔액이 출금액보다 적으면 슬롯 잔액을 본 잔액으로 회수하는 헬퍼 메서드
+     */
+    private Mono<Void> prepareDebit(Account account, Money requiredAmount, LocalDateTime now) {
+        if (!account.isHotAccount() || !account.getBalance().isLessThan(requiredAmount)) {
+            return Mono.empty();
+        }
+        return accountBalanceSlotRepository.drain(account.getId(), now)
+                .doOnNext(account::absorbSlotBalance)
+                .then();
+    }
+
+    /**
+     * 24시간 누적 사용량에 이번 금액을 더해 한도를 넘으면 에러를 발생시키는 헬퍼 메서드
+     */
+    private Mono<Void> checkDailyLimit(Long accountId, TransactionHistory.TransactionType type, Money amount,
+                                       LocalDateTime now) {
+        return transactionUsageRepository.sumAmountAfter(accountId, type, transactionPolicy.limitWindowStart(now))
+                .doOnNext(usedAmount -> transactionPolicy.checkDailyLimit(type, usedAmount, amount))
+                .then();
+    }
+
+    private Mono<Void> verifyPassword(Account account, String password) {
+        return passwordHashingService.matches(account, password)
+                .flatMap(matched -> matched
+                        ? Mono.empty()
+                        : Mono.error(new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD)));
+    }
+
+    /**
+     * 계좌번호로 'ACTIVE' 계좌를 조회하는 헬퍼 메서드
+     */
+    private Mono<Account> findActiveAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND)));
+    }
+
+    /**
+     * 본 잔액과 슬롯 잔액을 합한 잔액을 계산하는 헬퍼 메서드 (일반 계좌는 본 잔액)
+     */
+    private Mono<Money> totalBalanceOf(Account account) {
+        if (!account.isHotAccount()) {
+            return Mono.just(account.getBalance());
+        }
+        return accountBalanceSlotRepository.sumBalances(account.getId())
+                .map(account.getBalance()::plus);
+    }
+}
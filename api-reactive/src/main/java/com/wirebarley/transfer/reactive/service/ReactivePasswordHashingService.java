@@ -0,0 +1,69 @@
+package com.wirebarley.transfer.reactive.service;
+
+import com.wirebarley.transfer.core.common.security.PasswordHasher;
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 해시 생성/검증을 이벤트 루프 밖의 제한된 스케줄러에서 실행하는 서비스
+ * 스레드 수와 대기 작업 수가 제한되어, 초과 요청은 PASSWORD_HASHING_UNAVAILABLE(503)로 빠르게 거절됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactivePasswordHashingService {
+
+    private final PasswordHasher passwordHasher; // 신규 해시 생성용 (검증은 저장된 해시 형식을 따름)
+
+    @Value("${security.password.executor.threads}")
+    private int THREADS; // 동시에 해시를 계산하는 스레드 수
+
+    @Value("${security.password.executor.queue-capacity}")
+    private int QUEUE_CAPACITY; // 대기 가능한 해시 작업 수 (초과 시 거절)
+
+    @Value("${security.password.executor.timeout-ms}")
+    private long TIMEOUT_MS; // 대기 + 계산 제한 시간
+
+    private Scheduler scheduler;
+
+    @PostConstruct
+    void start() {
+        scheduler = Schedulers.newBoundedElastic(THREADS, QUEUE_CAPACITY, "password-hasher");
+        log.info("비밀번호 해시 스케줄러 시작: 알고리즘 {}, 스레드 {}개, 대기열 {}",
+                passwordHasher.algorithm(), THREADS, QUEUE_CAPACITY);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.dispose();
+    }
+
+    public Mono<String> hash(String password, String salt) {
+        return execute(Mono.fromCallable(() -> passwordHasher.hash(password, salt)));
+    }
+
+    public Mono<Boolean> matches(Account account, String password) {
+        return execute(Mono.fromCallable(() -> account.verifyPassword(password)));
+    }
+
+    private <T> Mono<T> execute(Mono<T> task) {
+        return task.subscribeOn(scheduler)
+                .timeout(Duration.ofMillis(TIMEOUT_MS))
+                .onErrorMap(e -> e instanceof RejectedExecutionException || e instanceof TimeoutException,
+                        e -> new BusinessException(ErrorCode.PASSWORD_HASHING_UNAVAILABLE));
+    }
+}
@@ -0,0 +1,213 @@
+package com.wirebarley.transfer.reactive.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+/**
+ * ReactiveAccountController 통합 테스트
+ * Testcontainers PostgreSQL에 bootstrap과 같은 Flyway 마이그레이션을 적용한 뒤, WebTestClient로 성공/실패 경로를 검증합니다.
+ * 테스트마다 새 계좌를 만들어 사용하므로 실행 순서와 무관합니다.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveAccountControllerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final String PASSWORD = "1111";
+    private static final String UNKNOWN_ACCOUNT_NUMBER = "110-999-999999";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void r2dbcProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getFirstMappedPort() + "/" + POSTGRES.getDatabaseName());
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("filesystem:" + System.getProperty("flyway.migration-dir"))
+                .load()
+                .migrate();
+    }
+
+    @Test
+    @DisplayName("송금하면 보낸 계좌에서 원금과 수수료(1%)가, 받은 계좌에는 원금이 반영된다")
+    void transfer_success() {
+        String from = createAccount("User A", 100000);
+        String to = createAccount("User B", 50000);
+
+        post("/api/v1/accounts/transfer", new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("30000")))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.fromAccountNumber").isEqualTo(from)
+                .jsonPath("$.fromAccountBalance").isEqualTo(69700)
+                .jsonPath("$.toAccountNumber").isEqualTo(to)
+                .jsonPath("$.toAccountBalance").isEqualTo(80000)
+                .jsonPath("$.transferredAmount").isEqualTo(30000);
+
+        expectBalance(from, 69700);
+        expectBalance(to, 80000);
+    }
+
+    @Test
+    @DisplayName("송금 실패(비밀번호 불일치, 잔액 부족, 자기 자신, 없는 계좌) 시 두 계좌의 잔액은 바뀌지 않는다")
+    void transfer_failures() {
+        String from = createAccount("User A", 10000);
+        String to = createAccount("User B", 0);
+
+        expectError(post("/api/v1/accounts/transfer",
+                        new AccountDto.TransferRequest(from, "9999", to, new BigDecimal("1000"))),
+                HttpStatus.BAD_REQUEST, "INVALID_ACCOUNT_PASSWORD");
+        expectError(post("/api/v1/accounts/transfer",
+                        new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("10000"))),
+                HttpStatus.BAD_REQUEST, "INSUFFICIENT_FUNDS"); // 수수료 100원 포함 10100원 필요
+        expectError(post("/api/v1/accounts/transfer",
+                        new AccountDto.TransferRequest(from, PASSWORD, from, new BigDecimal("1000"))),
+                HttpStatus.BAD_REQUEST, "SELF_TRANSFER_NOT_ALLOWED");
+        expectError(post("/api/v1/accounts/transfer",
+                        new AccountDto.TransferRequest(from, PASSWORD, UNKNOWN_ACCOUNT_NUMBER, new BigDecimal("1000"))),
+                HttpStatus.NOT_FOUND, "ACCOUNT_NOT_FOUND");
+
+        expectBalance(from, 10000);
+        expectBalance(to, 0);
+    }
+
+    @Test
+    @DisplayName("24시간 누적 송금액이 한도(300만원)를 넘으면 송금이 거절된다")
+    void transfer_daily_limit_exceeded() {
+        String from = createAccount("User A", 5000000);
+        String to = createAccount("User B", 0);
+
+        post("/api/v1/accounts/transfer", new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("2000000")))
+                .expectStatus().isOk();
+        expectError(post("/api/v1/accounts/transfer",
+                        new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("1000001"))),
+                HttpStatus.BAD_REQUEST, "DAILY_LIMIT_EXCEEDED");
+
+        expectBalance(to, 2000000);
+    }
+
+    @Test
+    @DisplayName("출금하면 변경 후 잔액을 응답하고, 잔액 부족/비밀번호 불일치/한도 초과는 거절된다")
+    void withdraw() {
+        String account = createAccount("User A", 2000000);
+
+        post("/api/v1/accounts/withdraw", new AccountDto.WithdrawRequest(account, PASSWORD, new BigDecimal("600000")))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.accountNumber").isEqualTo(account)
+                .jsonPath("$.finalBalance").isEqualTo(1400000);
+
+        expectError(post("/api/v1/accounts/withdraw",
+                        new AccountDto.WithdrawRequest(account, "9999", new BigDecimal("1000"))),
+                HttpStatus.BAD_REQUEST, "INVALID_ACCOUNT_PASSWORD");
+        expectError(post("/api/v1/accounts/withdraw",
+                        new AccountDto.WithdrawRequest(account, PASSWORD, new BigDecimal("400001"))),
+                HttpStatus.BAD_REQUEST, "WITHDRAW_DAILY_LIMIT_EXCEEDED");
+
+        String poorAccount = createAccount("User B", 1000);
+        expectError(post("/api/v1/accounts/withdraw",
+                        new AccountDto.WithdrawRequest(poorAccount, PASSWORD, new BigDecimal("1001"))),
+                HttpStatus.BAD_REQUEST, "INSUFFICIENT_FUNDS");
+
+        expectBalance(account, 1400000);
+        expectBalance(poorAccount, 1000);
+    }
+
+    @Test
+    @DisplayName("입금하면 변경 후 잔액을 응답하고, 없는 계좌/0원 입금은 거절된다")
+    void deposit() {
+        String account = createAccount("User A", 1000);
+
+        post("/api/v1/accounts/deposit", new AccountDto.DepositRequest(account, new BigDecimal("5000")))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.accountNumber").isEqualTo(account)
+                .jsonPath("$.finalBalance").isEqualTo(6000);
+
+        expectError(post("/api/v1/accounts/deposit",
+                        new AccountDto.DepositRequest(UNKNOWN_ACCOUNT_NUMBER, new BigDecimal("5000"))),
+                HttpStatus.NOT_FOUND, "ACCOUNT_NOT_FOUND");
+        expectError(post("/api/v1/accounts/deposit", new AccountDto.DepositRequest(account, BigDecimal.ZERO)),
+                HttpStatus.BAD_REQUEST, "INVALID_DEPOSIT_AMOUNT");
+
+        expectBalance(account, 6000);
+    }
+
+    @Test
+    @DisplayName("잔액이 남았거나 비밀번호가 틀리면 삭제가 거절되고, 잔액이 0원이면 삭제된 뒤 조회되지 않는다")
+    void deleteAccount() {
+        String account = createAccount("User A", 1000);
+
+        expectError(delete(account, PASSWORD), HttpStatus.BAD_REQUEST, "BALANCE_NOT_ZERO");
+        expectError(delete(account, "9999"), HttpStatus.BAD_REQUEST, "INVALID_ACCOUNT_PASSWORD");
+
+        post("/api/v1/accounts/withdraw", new AccountDto.WithdrawRequest(account, PASSWORD, new BigDecimal("1000")))
+                .expectStatus().isOk();
+        delete(account, PASSWORD).expectStatus().isNoContent();
+
+        expectError(webTestClient.get().uri("/api/v1/accounts/{accountNumber}/balance", account).exchange(),
+                HttpStatus.NOT_FOUND, "ACCOUNT_NOT_FOUND");
+        expectError(delete(account, PASSWORD), HttpStatus.NOT_FOUND, "ACCOUNT_NOT_FOUND");
+    }
+
+    private String createAccount(String ownerName, long initialBalance) {
+        return post("/api/v1/accounts",
+                new AccountDto.CreateRequest(ownerName, PASSWORD, BigDecimal.valueOf(initialBalance)))
+                .expectStatus().isCreated()
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody()
+                .get("accountNumber")
+                .asText();
+    }
+
+    private WebTestClient.ResponseSpec post(String uri, Object body) {
+        return webTestClient.post().uri(uri).bodyValue(body).exchange();
+    }
+
+    private WebTestClient.ResponseSpec delete(String accountNumber, String password) {
+        return webTestClient.method(HttpMethod.DELETE)
+                .uri("/api/v1/accounts/{accountNumber}", accountNumber)
+                .bodyValue(new AccountDto.DeleteRequest(password))
+                .exchange();
+    }
+
+    private void expectBalance(String accountNumber, long expectedBalance) {
+        webTestClient.get().uri("/api/v1/accounts/{accountNumber}/balance", accountNumber)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.balance").isEqualTo(expectedBalance);
+    }
+
+    private void expectError(WebTestClient.ResponseSpec response, HttpStatus status, String code) {
+        response.expectStatus().isEqualTo(status)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(code);
+    }
+}
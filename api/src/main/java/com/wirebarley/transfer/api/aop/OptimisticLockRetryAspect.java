@@ -0,0 +1,92 @@
+package com.wirebarley.transfer.api.aop;
+
+import com.wirebarley.transfer.api.service.AccountLockMode;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @RetryOnOptimisticLock 메서드를 지수 백오프 + 지터로 재시도하는 Aspect
+ * 트랜잭션 Advisor(LOWEST_PRECEDENCE)보다 먼저 실행되어, 매 시도가 새 트랜잭션으로 수행됩니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.lock.mode}")
+    private AccountLockMode LOCK_MODE;
+
+    @Value("${account.lock.optimistic.max-attempts}")
+    private int MAX_ATTEMPTS; // 최초 시도를 포함한 최대 시도 횟수 (재시도 예산)
+
+    @Value("${account.lock.optimistic.initial-backoff-ms}")
+    private long INITIAL_BACKOFF_MS;
+
+    @Value("${account.lock.optimistic.max-backoff-ms}")
+    private long MAX_BACKOFF_MS;
+
+    @Around("@annotation(com.wirebarley.transfer.api.aop.RetryOnOptimisticLock)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    meterRegistry.counter("account.lock.optimistic.recovered",
+                            "operation", operation, "mode", LOCK_MODE.name()).increment();
+                }
+                return result;
+
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("account.lock.optimistic.conflicts",
+                        "operation", operation, "mode", LOCK_MODE.name()).increment();
+
+                if (attempt >= MAX_ATTEMPTS) {
+                    meterRegistry.counter("account.lock.optimistic.exhausted",
+                            "operation", operation, "mode", LOCK_MODE.name()).increment();
+                    log.warn("낙관적 락 재시도 횟수 초과: {} ({}회)", operation, attempt);
+                    throw new BusinessException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+                }
+
+                long backoff = backoffMillis(attempt);
+                log.debug("낙관적 락 충돌, {}ms 후 재시도: {} ({}회)", backoff, operation, attempt);
+                sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * Full Jitter: [0, min(max, initial * 2^(attempt-1))] 범위의 임의 대기 시간
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.wirebarley.transfer.api.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 발생 시 메서드 전체를 새 트랜잭션으로 재시도합니다.
+ * 트랜잭션 경계 바깥에서 동작하므로 @Transactional 메서드에 함께 선언할 수 있습니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+}
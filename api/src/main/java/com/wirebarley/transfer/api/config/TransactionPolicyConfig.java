@@ -0,0 +1,29 @@
+package com.wirebarley.transfer.api.config;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+
+/**
+ * 수수료/1일 한도 정책 설정 (AccountServiceImpl과 송금 엔진이 같은 정책 객체를 사용)
+ */
+@Configuration
+public class TransactionPolicyConfig {
+
+    @Value("${transfer.policy.fee-rate}")
+    private BigDecimal FEE_RATE; // 이체 수수료율 0.01
+
+    @Value("${transfer.policy.daily-limit}")
+    private long TRANSFER_DAILY_LIMIT; // 1일 이체 한도 3000000
+
+    @Value("${withdraw.policy.daily-limit}")
+    private long WITHDRAW_DAILY_LIMIT; // 1일 출금 한도 1000000
+
+    @Bean
+    public TransactionPolicy transactionPolicy() {
+        return new TransactionPolicy(FEE_RATE, TRANSFER_DAILY_LIMIT, WITHDRAW_DAILY_LIMIT);
+    }
+}
@@ -1,10 +1,14 @@
 package com.wirebarley.transfer.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transfer.api.export.HistoryExportWriter;
 import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.dto.HistoryExportFormat;
 import com.wirebarley.transfer.core.service.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -15,8 +19,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @Tag(name = "계좌 (Account)", description = "계좌 CRUD, 잔액 조회, 입출금/송금 및 거래내역 조회 API")
 @RestController
 @RequestMapping("/api/v1/accounts")
@@ -24,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AccountController {
 
     private final AccountService accountService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 계좌 생성 API
@@ -67,6 +75,21 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 잔액 분산 슬롯 설정 API (수취 집중 계좌용)
+     * [POST] /api/v1/accounts/{accountNumber}/balance-slots
+     */
+    @Operation(summary = "잔액 분산 슬롯 설정", description = "입금/수취가 몰리는 계좌의 잔액을 여러 슬롯에 나누어 적립하도록 설정합니다. (2~64개, 기존 개수 이상)")
+    @Parameter(name = "accountNumber", description = "설정할 계좌 번호", example = "110-123-456789")
+    @PostMapping("/{accountNumber}/balance-slots")
+    public ResponseEntity<AccountDto.BalanceSlotResponse> enableBalanceSlots(
+            @PathVariable("accountNumber") String accountNumber,
+            @Valid @RequestBody AccountDto.BalanceSlotRequest request
+    ) {
+        AccountDto.BalanceSlotResponse response = accountService.enableBalanceSlots(accountNumber, request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 송금 API
      * [POST] /api/v1/accounts/transfer
@@ -80,6 +103,19 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일괄 송금 API
+     * [POST] /api/v1/accounts/transfer/batch
+     */
+    @Operation(summary = "일괄 송금 실행", description = "여러 건의 송금을 한 번의 요청/트랜잭션으로 요청 순서대로 처리합니다. (ALL_OR_NOTHING: 하나라도 실패 시 전체 취소, PARTIAL: 실패 건만 제외)")
+    @PostMapping("/transfer/batch")
+    public ResponseEntity<AccountDto.BatchTransferResponse> transferBatch(
+            @Valid @RequestBody AccountDto.BatchTransferRequest request
+    ) {
+        AccountDto.BatchTransferResponse response = accountService.transferBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 거래 내역 조회 API
      * [GET] /api/v1/accounts/{accountNumber}/history
@@ -94,6 +130,44 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 거래 내역 페이지 조회 API
+     * [GET] /api/v1/accounts/{accountNumber}/history/page?cursor={cursor}&size={size}
+     */
+    @Operation(summary = "거래 내역 페이지 조회", description = "계좌의 거래 내역을 최신순으로 커서 기반 페이지 단위로 조회합니다. (응답의 nextCursor로 다음 페이지 조회)")
+    @Parameter(name = "accountNumber", description = "조회할 계좌 번호", example = "110-123-456789")
+    @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+    @Parameter(name = "size", description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+    @GetMapping("/{accountNumber}/history/page")
+    public ResponseEntity<AccountDto.HistoryPageResponse> getTransactionHistoryPage(
+            @PathVariable("accountNumber") String accountNumber,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        AccountDto.HistoryPageResponse response = accountService.getTransactionHistoryPage(accountNumber, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 거래 내역 내보내기 API (스트리밍)
+     * [GET] /api/v1/accounts/{accountNumber}/history/export?format={ndjson|csv}
+     */
+    @Operation(summary = "거래 내역 내보내기", description = "계좌의 전체 거래 내역을 최신순으로 NDJSON 또는 CSV 형식으로 스트리밍합니다. (대사/정산용)")
+    @Parameter(name = "accountNumber", description = "내보낼 계좌 번호", example = "110-123-456789")
+    @Parameter(name = "format", description = "내보내기 형식 (ndjson, csv)", example = "ndjson")
+    @GetMapping("/{accountNumber}/history/export")
+    public void exportTransactionHistory(
+            @PathVariable("accountNumber") String accountNumber,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        HistoryExportWriter writer =
+                new HistoryExportWriter(HistoryExportFormat.from(format), accountNumber, response, objectMapper);
+
+        accountService.exportTransactionHistory(accountNumber, writer::write);
+        writer.finish();
+    }
+
     /**
      * 입금 API
      * [POST] /api/v1/accounts/deposit
@@ -107,6 +181,19 @@ public class AccountController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일괄 입금 API (급여 이체 등)
+     * [POST] /api/v1/accounts/deposit/bulk
+     */
+    @Operation(summary = "일괄 입금 실행", description = "여러 계좌에 대한 입금을 한 번에 처리합니다. (최대 10000건, 실패 건은 건별로 응답)")
+    @PostMapping("/deposit/bulk")
+    public ResponseEntity<AccountDto.BulkDepositResponse> depositBulk(
+            @Valid @RequestBody AccountDto.BulkDepositRequest request
+    ) {
+        AccountDto.BulkDepositResponse response = accountService.depositBulk(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 출금 API
      * [POST] /api/v1/accounts/withdraw
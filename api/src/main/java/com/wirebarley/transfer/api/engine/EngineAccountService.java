@@ -0,0 +1,222 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.api.service.PasswordHashingService;
+import com.wirebarley.transfer.api.service.impl.AccountServiceImpl;
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import com.wirebarley.transfer.core.service.AccountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * 송금 엔진(TransferEngine)을 사용하는 AccountService (account.engine.enabled=true)
+ * 입금/출금/송금/잔액 조회는 엔진이 처리하고, 그 외 기능은 AccountServiceImpl에 위임합니다.
+ * 일괄 송금/일괄 입금/잔액 분산 슬롯 설정은 DB를 직접 변경하므로 모든 파티션을 멈춘 상태에서 위임합니다.
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.engine.enabled", havingValue = "true")
+public class EngineAccountService implements AccountService {
+
+    private final TransferEngine transferEngine;
+    private final AccountServiceImpl delegate;
+    private final TransactionUsageRepository transactionUsageRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionPolicy transactionPolicy;
+
+    @Override
+    public AccountDto.CreateResponse createAccount(AccountDto.CreateRequest request) {
+        return delegate.createAccount(request);
+    }
+
+    @Override
+    public void deleteAccount(String accountNumber, AccountDto.DeleteRequest request) {
+        EngineAccountState preCheck = findState(accountNumber);
+
+        if (!passwordHashingService.matches(preCheck.getAccount(), request.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+        }
+        Long accountId = preCheck.getId();
+
+        // 앞선 명령이 모두 저장된 뒤, 적립을 막은 상태에서 잔액 0원을 확인하고 DB에서 삭제
+        transferEngine.executeExclusively(accountId, () -> {
+            EngineAccountState state = findState(accountId);
+            if (!state.closeIfEmpty()) {
+                throw new BusinessException(ErrorCode.BALANCE_NOT_ZERO);
+            }
+            try {
+                delegate.deleteAccount(accountNumber, request);
+            } catch (RuntimeException e) {
+                state.reopen();
+                throw e;
+            }
+            transferEngine.evict(state);
+            return null;
+        });
+    }
+
+    @Override
+    public AccountDto.BalanceResponse getAccountBalance(String accountNumber) {
+        EngineAccountState state = findState(accountNumber);
+        return AccountDto.BalanceResponse.of(state.getAccount(), state.getBalance());
+    }
+
+    @Override
+    public AccountDto.BalanceSlotResponse enableBalanceSlots(String accountNumber, AccountDto.BalanceSlotRequest request) {
+        return transferEngine.executeWithAllPartitionsPaused(() -> delegate.enableBalanceSlots(accountNumber, request));
+    }
+
+    @Override
+    public AccountDto.TransferResponse transfer(AccountDto.TransferRequest request) {
+        Money amount = Account.validateWithdrawAmount(request.getAmount());
+
+        if (request.getFromAccountNumber().equals(request.getToAccountNumber())) {
+            throw new BusinessException(ErrorCode.SELF_TRANSFER_NOT_ALLOWED);
+        }
+
+        EngineAccountState preCheckFrom = findState(request.getFromAccountNumber());
+        EngineAccountState preCheckTo = findState(request.getToAccountNumber());
+
+        if (!passwordHashingService.matches(preCheckFrom.getAccount(), request.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+        }
+
+        Money fee = transactionPolicy.transferFee(amount);
+        Money totalWithdrawAmount = amount.plus(fee);
+        Long fromId = preCheckFrom.getId();
+        Long toId = preCheckTo.getId();
+
+        AccountDto.TransferResponse response = transferEngine.execute(fromId, batch -> {
+            EngineAccountState from = findState(fromId);
+            EngineAccountState to = findState(toId);
+
+            checkDailyLimit(batch, fromId, TransactionHistory.TransactionType.TRANSFER_SEND, amount);
+
+            from.debit(totalWithdrawAmount);
+            if (!to.credit(amount)) {
+                from.cancelDebit(totalWithdrawAmount);
+                throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+
+            batch.addUsage(fromId, TransactionHistory.TransactionType.TRANSFER_SEND, amount);
+            batch.addDelta(fromId, totalWithdrawAmount.negate());
+            batch.addDelta(toId, amount);
+            TransactionHistory.transferPair(fromId, toId, amount, fee, batch.getNow()).forEach(batch::addHistory);
+
+            return new AccountDto.TransferResponse(
+                    request.getFromAccountNumber(), from.getBalance().longValue(),
+                    request.getToAccountNumber(), to.getBalance().longValue(), amount.longValue());
+        });
+
+        log.info("송금 성공(엔진): {} -> {} (원금: {}, 수수료: {})",
+                request.getFromAccountNumber(), request.getToAccountNumber(), amount, fee);
+        return response;
+    }
+
+    @Override
+    public AccountDto.BatchTransferResponse transferBatch(AccountDto.BatchTransferRequest request) {
+        return transferEngine.executeWithAllPartitionsPaused(() -> delegate.transferBatch(request));
+    }
+
+    @Override
+    public AccountDto.HistoryResponse getTransactionHistory(String accountNumber) {
+        return delegate.getTransactionHistory(accountNumber);
+    }
+
+    @Override
+    public AccountDto.HistoryPageResponse getTransactionHistoryPage(String accountNumber, String cursor, Integer size) {
+        return delegate.getTransactionHistoryPage(accountNumber, cursor, size);
+    }
+
+    @Override
+    public void exportTransactionHistory(String accountNumber, Consumer<AccountDto.TransactionDetail> consumer) {
+        delegate.exportTransactionHistory(accountNumber, consumer);
+    }
+
+    @Override
+    public AccountDto.DepositResponse deposit(AccountDto.DepositRequest request) {
+        Money amount = Account.validateDepositAmount(request.getAmount());
+
+        Long accountId = findState(request.getAccountNumber()).getId();
+
+        AccountDto.DepositResponse response = transferEngine.execute(accountId, batch -> {
+            EngineAccountState state = findState(accountId);
+            if (!state.credit(amount)) {
+                throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+
+            batch.addDelta(accountId, amount);
+            batch.addHistory(TransactionHistory.deposit(accountId, amount, batch.getNow()));
+
+            return AccountDto.DepositResponse.of(request.getAccountNumber(), state.getBalance());
+        });
+
+        log.info("입금 성공(엔진): {} ({}원)", request.getAccountNumber(), amount);
+        return response;
+    }
+
+    @Override
+    public AccountDto.BulkDepositResponse depositBulk(AccountDto.BulkDepositRequest request) {
+        return transferEngine.executeWithAllPartitionsPaused(() -> delegate.depositBulk(request));
+    }
+
+    @Override
+    public AccountDto.WithdrawResponse withdraw(AccountDto.WithdrawRequest request) {
+        Money amount = Account.validateWithdrawAmount(request.getAmount());
+
+        EngineAccountState preCheck = findState(request.getAccountNumber());
+        if (!passwordHashingService.matches(preCheck.getAccount(), request.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+        }
+        Long accountId = preCheck.getId();
+
+        AccountDto.WithdrawResponse response = transferEngine.execute(accountId, batch -> {
+            EngineAccountState state = findState(accountId);
+
+            checkDailyLimit(batch, accountId, TransactionHistory.TransactionType.WITHDRAW, amount);
+            state.debit(amount);
+
+            batch.addUsage(accountId, TransactionHistory.TransactionType.WITHDRAW, amount);
+            batch.addDelta(accountId, amount.negate());
+            batch.addHistory(TransactionHistory.withdraw(accountId, amount, batch.getNow()));
+
+            return AccountDto.WithdrawResponse.of(request.getAccountNumber(), state.getBalance());
+        });
+
+        log.info("출금 성공(엔진): {} ({}원)", request.getAccountNumber(), amount);
+        return response;
+    }
+
+    /**
+     * 파티션 스레드에서 1일 한도를 검증하는 헬퍼 메서드
+     * (같은 계좌의 차감은 한 파티션에서만 처리되고 이전 배치는 이미 저장되었으므로, DB 집계값 + 현재 배치 사용량으로 정확히 검증됩니다.)
+     */
+    private void checkDailyLimit(EngineBatch batch, Long accountId, TransactionHistory.TransactionType type, Money amount) {
+        Money usedToday = batch.usage(accountId, type,
+                id -> transactionUsageRepository.sumAmountAfter(id, type, transactionPolicy.limitWindowStart(batch.getNow())));
+        transactionPolicy.checkDailyLimit(type, usedToday, amount);
+    }
+
+    private EngineAccountState findState(String accountNumber) {
+        return transferEngine.findState(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    private EngineAccountState findState(Long accountId) {
+        return transferEngine.findState(accountId)
+                .orElseThrow(() -> new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,102 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.domain.money.Money;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 엔진이 메모리에 보관하는 계좌 잔액 상태
+ * - ownedBalance: 계좌를 소유한 파티션 스레드만 변경 (출금/송금 출금)
+ * - inbound: 다른 파티션을 포함한 어느 스레드든 CAS로 적립 (입금/송금 수취)
+ * 잔액 = ownedBalance + inbound 이며, 출금은 합계 기준으로 검증하므로 잔액은 음수가 되지 않습니다.
+ */
+class EngineAccountState {
+
+    @Getter
+    private final Account account; // 적재 시점의 계좌 정보 (계좌번호, 소유주, 비밀번호 검증용)
+
+    private volatile long ownedBalance;
+    private final AtomicLong inbound = new AtomicLong();
+
+    // 적립(읽기 락)과 삭제(쓰기 락) 사이의 경쟁 방지 (DB의 FOR SHARE / FOR UPDATE와 같은 역할)
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    EngineAccountState(Account account, Money balance) {
+        this.account = account;
+        this.ownedBalance = balance.longValue();
+    }
+
+    Long getId() {
+        return account.getId();
+    }
+
+    Money getBalance() {
+        return Money.of(Math.addExact(ownedBalance, inbound.get()));
+    }
+
+    /**
+     * 어느 스레드에서든 호출 가능한 적립
+     *
+     * @return 삭제 중이거나 삭제된 계좌면 false
+     */
+    boolean credit(Money amount) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            inbound.accumulateAndGet(amount.longValue(), Math::addExact);
+            return true;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 소유 파티션 스레드에서만 호출하는 출금
+     */
+    void debit(Money amount) {
+        if (getBalance().isLessThan(amount)) {
+            throw new BusinessException(ErrorCode.INSUFFICIENT_FUNDS);
+        }
+        ownedBalance = Math.subtractExact(ownedBalance, amount.longValue());
+    }
+
+    /**
+     * 소유 파티션 스레드에서만 호출하는 출금 취소 (같은 명령 안에서 이후 단계가 실패한 경우)
+     */
+    void cancelDebit(Money amount) {
+        ownedBalance = Math.addExact(ownedBalance, amount.longValue());
+    }
+
+    /**
+     * 잔액이 0원이면 이후의 적립을 막고 true를 반환합니다. (소유 파티션 스레드에서만 호출)
+     */
+    boolean closeIfEmpty() {
+        closeLock.writeLock().lock();
+        try {
+            if (!getBalance().isZero()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    void reopen() {
+        closeLock.writeLock().lock();
+        try {
+            closed = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 파티션 스레드가 한 번에 적용한 명령들의 변경분 (EngineBatchWriter가 한 트랜잭션으로 저장)
+ */
+@Getter
+@RequiredArgsConstructor
+public class EngineBatch {
+
+    private final LocalDateTime now;
+    private final Map<Long, Money> balanceDeltas = new HashMap<>();
+    private final List<TransactionHistory> histories = new ArrayList<>();
+
+    // 1일 한도 검증용 사용량 (DB 집계값 + 이 배치에서 추가된 금액)
+    private final Map<TransactionHistory.TransactionType, Map<Long, Money>> usages =
+            new EnumMap<>(TransactionHistory.TransactionType.class);
+
+    boolean isEmpty() {
+        return balanceDeltas.isEmpty() && histories.isEmpty();
+    }
+
+    void addDelta(Long accountId, Money delta) {
+        balanceDeltas.merge(accountId, delta, Money::plus);
+    }
+
+    void addHistory(TransactionHistory history) {
+        histories.add(history);
+    }
+
+    Money usage(Long accountId, TransactionHistory.TransactionType type, Function<Long, Money> loader) {
+        return usages.computeIfAbsent(type, t -> new HashMap<>()).computeIfAbsent(accountId, loader);
+    }
+
+    void addUsage(Long accountId, TransactionHistory.TransactionType type, Money amount) {
+        usages.computeIfAbsent(type, t -> new HashMap<>()).merge(accountId, amount, Money::plus);
+    }
+}
@@ -0,0 +1,45 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 엔진 배치의 변경분(잔액 증감, 거래 내역, 사용량)을 한 트랜잭션으로 저장
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.engine.enabled", havingValue = "true")
+public class EngineBatchWriter {
+
+    private final AccountRepository accountRepository;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionUsageRepository transactionUsageRepository;
+
+    @Transactional
+    public void write(EngineBatch batch) {
+        // 잔액은 절대값이 아닌 증감분으로 반영하며, 음수가 되는 계좌가 있으면 배치 전체를 취소
+        Set<Long> updatedIds = accountRepository.increaseBalances(batch.getBalanceDeltas(), batch.getNow());
+        if (updatedIds.size() != batch.getBalanceDeltas().size()) {
+            Set<Long> rejectedIds = new HashSet<>(batch.getBalanceDeltas().keySet());
+            rejectedIds.removeAll(updatedIds);
+            throw new IllegalStateException("잔액 증감이 반영되지 않은 계좌가 있습니다: " + rejectedIds);
+        }
+
+        List<TransactionHistory> savedHistories = transactionHistoryRepository.saveAll(batch.getHistories());
+        transactionUsageRepository.accumulateAll(savedHistories.stream()
+                .filter(history -> history.getType() == TransactionHistory.TransactionType.TRANSFER_SEND
+                        || history.getType() == TransactionHistory.TransactionType.WITHDRAW)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.wirebarley.transfer.api.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 파티션 스레드에서 실행되는 명령
+ * 결과는 명령이 속한 배치가 DB에 저장된 뒤에 완료됩니다. (검증 실패는 즉시 완료)
+ * 파티션이 실행을 시작하기 전에는 요청 스레드가 취소할 수 있으며, 취소된 명령은 실행되지 않습니다.
+ */
+class EngineCommand<T> {
+
+    private final Function<EngineBatch, T> action;
+    private final boolean barrier; // 앞선 명령들을 먼저 저장한 뒤 단독으로 실행
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean(); // 실행 시작 또는 취소 중 먼저 일어난 쪽만 성공
+    private T result;
+
+    EngineCommand(Function<EngineBatch, T> action, boolean barrier) {
+        this.action = action;
+        this.barrier = barrier;
+    }
+
+    boolean isBarrier() {
+        return barrier;
+    }
+
+    CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    /**
+     * 파티션 스레드가 실행을 시작합니다.
+     * @return 이미 취소된 명령이면 false
+     */
+    boolean start() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * 아직 실행을 시작하지 않은 명령을 취소합니다.
+     * @return 취소되었으면 true (이후 실행되지 않음), 이미 실행을 시작했으면 false
+     */
+    boolean cancel() {
+        if (!claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        future.cancel(false);
+        return true;
+    }
+
+    /**
+     * @return 배치에 반영되었으면 true, 검증 실패 등으로 즉시 완료되었으면 false
+     */
+    boolean apply(EngineBatch batch) {
+        try {
+            result = action.apply(batch);
+            return true;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    void complete() {
+        future.complete(result);
+    }
+
+    void fail(Throwable cause) {
+        future.completeExceptionally(cause);
+    }
+}
@@ -0,0 +1,132 @@
+package com.wirebarley.transfer.api.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 계좌 파티션 하나를 전담하는 단일 쓰기 스레드
+ * 큐에 쌓인 명령을 최대 batchSize 건씩 꺼내 순서대로 메모리에 적용하고, 변경분을 한 트랜잭션으로 저장한 뒤 결과를 완료합니다.
+ * (명령 처리 중에는 DB 행 락을 잡지 않으며, 저장은 요청 스레드가 아닌 이 스레드에서 배치로 수행됩니다.)
+ */
+@Slf4j
+class EnginePartition implements Runnable {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final int index;
+    private final int batchSize;
+    private final BlockingQueue<EngineCommand<?>> queue;
+    private final Consumer<EngineBatch> batchWriter;
+    private final Consumer<EngineBatch> failureHandler;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    EnginePartition(int index, int batchSize, int queueCapacity,
+                    Consumer<EngineBatch> batchWriter, Consumer<EngineBatch> failureHandler) {
+        this.index = index;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchWriter = batchWriter;
+        this.failureHandler = failureHandler;
+        this.thread = new Thread(this, "transfer-engine-" + index);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    boolean offer(EngineCommand<?> command) {
+        return running && queue.offer(command);
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    /**
+     * 새 명령을 받지 않고, 이미 받은 명령을 모두 처리한 뒤 종료합니다.
+     */
+    void shutdown(long timeoutMs) throws InterruptedException {
+        running = false;
+        thread.join(timeoutMs);
+    }
+
+    @Override
+    public void run() {
+        List<EngineCommand<?>> commands = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                EngineCommand<?> first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                commands.add(first);
+                queue.drainTo(commands, batchSize - 1);
+                process(commands);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("엔진 파티션 {} 처리 중 오류", index, e);
+            } finally {
+                commands.clear();
+            }
+        }
+        log.info("엔진 파티션 {} 종료", index);
+    }
+
+    private void process(List<EngineCommand<?>> commands) {
+        EngineBatch batch = new EngineBatch(LocalDateTime.now());
+        List<EngineCommand<?>> applied = new ArrayList<>(commands.size());
+
+        for (EngineCommand<?> command : commands) {
+            if (!command.start()) {
+                continue; // 대기 시간 초과로 취소된 명령
+            }
+
+            if (command.isBarrier()) {
+                // 앞선 명령들을 먼저 저장한 뒤 단독 실행
+                flush(batch, applied);
+                batch = new EngineBatch(LocalDateTime.now());
+                applied = new ArrayList<>();
+
+                if (command.apply(batch)) {
+                    command.complete();
+                }
+                continue;
+            }
+
+            if (command.apply(batch)) {
+                applied.add(command);
+            }
+        }
+        flush(batch, applied);
+    }
+
+    private void flush(EngineBatch batch, List<EngineCommand<?>> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                batchWriter.accept(batch);
+            } catch (RuntimeException e) {
+                log.error("엔진 파티션 {} 배치 저장 실패 ({}건)", index, applied.size(), e);
+                failureHandler.accept(batch);
+                applied.forEach(command -> command.fail(e));
+                return;
+            }
+        }
+        applied.forEach(EngineCommand::complete);
+    }
+}
@@ -0,0 +1,273 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.repository.AccountBalanceSlotRepository;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 단일 쓰기 스레드 기반 송금 엔진 (account.engine.enabled=true)
+ * - 계좌 ID로 파티션을 정하고, 한 계좌의 잔액 차감은 항상 같은 파티션 스레드에서 순서대로 처리합니다.
+ * - 활성 계좌 잔액은 메모리(EngineAccountState)에 보관하며, 처음 접근할 때 DB에서 적재합니다.
+ * - 변경분은 파티션별로 배치 저장되며, 저장이 끝난 뒤에 응답하므로 재시작 시 DB에서 다시 적재하는 것으로 복구됩니다.
+ * - 여러 파티션에 걸친 DB 직접 변경(일괄 처리 등)은 모든 파티션을 멈춘 상태에서 실행한 뒤 메모리 상태를 비웁니다.
+ * (단일 인스턴스 전용: 여러 인스턴스가 같은 계좌를 엔진으로 처리하면 안 됩니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.engine.enabled", havingValue = "true")
+public class TransferEngine {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final EngineBatchWriter engineBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.engine.partitions}")
+    private int PARTITIONS; // 파티션(쓰기 스레드) 개수
+
+    @Value("${account.engine.batch-size}")
+    private int BATCH_SIZE; // 한 트랜잭션으로 저장할 최대 명령 수
+
+    @Value("${account.engine.queue-capacity}")
+    private int QUEUE_CAPACITY; // 파티션별 대기 명령 수 (초과 시 ENGINE_UNAVAILABLE)
+
+    @Value("${account.engine.timeout-ms}")
+    private long TIMEOUT_MS; // 명령 결과 대기 시간
+
+    private final Map<Long, EngineAccountState> states = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByAccountNumber = new ConcurrentHashMap<>();
+    private final AtomicLong stateVersion = new AtomicLong(); // 메모리 상태를 제거할 때마다 증가 (적재 중 제거된 상태를 되살리지 않도록)
+    private final List<EnginePartition> partitions = new ArrayList<>();
+    private final Lock exclusiveLock = new ReentrantLock(); // 대기 중 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용
+
+    private Timer batchWriteTimer;
+
+    @PostConstruct
+    void start() {
+        batchWriteTimer = Timer.builder("account.engine.batch.write")
+                .description("엔진 배치 저장 시간")
+                .register(meterRegistry);
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            EnginePartition partition = new EnginePartition(i, BATCH_SIZE, QUEUE_CAPACITY,
+                    batch -> batchWriteTimer.record(() -> engineBatchWriter.write(batch)),
+                    this::evictBatchAccounts);
+            partitions.add(partition);
+            Gauge.builder("account.engine.queue.size", partition, EnginePartition::queueSize)
+                    .tag("partition", String.valueOf(i))
+                    .register(meterRegistry);
+            partition.start();
+        }
+        log.info("송금 엔진 시작: 파티션 {}개, 배치 {}건", PARTITIONS, BATCH_SIZE);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (EnginePartition partition : partitions) {
+            partition.shutdown(SHUTDOWN_TIMEOUT_MS);
+        }
+        log.info("송금 엔진 종료");
+    }
+
+    /**
+     * 계좌를 소유한 파티션에서 명령을 실행하고, 배치 저장이 끝날 때까지 기다립니다.
+     */
+    public <T> T execute(Long accountId, Function<EngineBatch, T> action) {
+        return await(submit(accountId, new EngineCommand<>(action, false)));
+    }
+
+    /**
+     * 계좌를 소유한 파티션에서, 앞선 명령이 모두 저장된 뒤 단독으로 실행합니다. (계좌 삭제 등)
+     */
+    public <T> T executeExclusively(Long accountId, Supplier<T> action) {
+        return await(submit(accountId, new EngineCommand<>(batch -> action.get(), true)));
+    }
+
+    /**
+     * 모든 파티션을 멈춘 상태에서 DB를 직접 변경하는 작업을 실행하고, 메모리 상태를 비웁니다.
+     */
+    public <T> T executeWithAllPartitionsPaused(Supplier<T> operation) {
+        exclusiveLock.lock();
+        CountDownLatch paused = new CountDownLatch(partitions.size());
+        CountDownLatch resume = new CountDownLatch(1);
+
+        try {
+            for (EnginePartition partition : partitions) {
+                EngineCommand<Void> pause = new EngineCommand<>(batch -> {
+                    paused.countDown();
+                    awaitQuietly(resume);
+                    return null;
+                }, true);
+                if (!partition.offer(pause)) {
+                    throw new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+                }
+            }
+            if (!paused.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+            }
+
+            return operation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+        } finally {
+            stateVersion.incrementAndGet();
+            states.clear();
+            idsByAccountNumber.clear();
+            resume.countDown();
+            exclusiveLock.unlock();
+        }
+    }
+
+    /**
+     * 'ACTIVE' 계좌의 메모리 상태를 조회합니다. (없으면 DB에서 적재)
+     * DB 적재(슬롯 회수 포함)는 맵 밖에서 수행하여, 같은 해시 구간의 다른 계좌 조회가 DB I/O를 기다리지 않도록 합니다.
+     * 동시에 적재되면 먼저 등록된 상태를 사용하며, 적재 중 메모리 상태가 제거되었으면 다시 적재합니다.
+     */
+    Optional<EngineAccountState> findState(Long accountId) {
+        while (true) {
+            EngineAccountState state = states.get(accountId);
+            if (state != null) {
+                return Optional.of(state);
+            }
+
+            long version = stateVersion.get();
+            EngineAccountState loaded = loadState(accountId);
+            if (loaded == null) {
+                return Optional.empty();
+            }
+            state = states.computeIfAbsent(accountId, id -> (stateVersion.get() == version) ? loaded : null);
+            if (state != null) {
+                return Optional.of(state);
+            }
+        }
+    }
+
+    Optional<EngineAccountState> findState(String accountNumber) {
+        Long accountId = idsByAccountNumber.get(accountNumber);
+        if (accountId == null) {
+            accountId = accountRepository.findByAccountNumber(accountNumber).map(Account::getId).orElse(null);
+            if (accountId == null) {
+                return Optional.empty();
+            }
+            idsByAccountNumber.putIfAbsent(accountNumber, accountId);
+        }
+        return findState(accountId);
+    }
+
+    /**
+     * 삭제된 계좌를 메모리에서 제거합니다.
+     */
+    void evict(EngineAccountState state) {
+        stateVersion.incrementAndGet();
+        states.remove(state.getId(), state);
+        idsByAccountNumber.remove(state.getAccount().getAccountNumber(), state.getId());
+    }
+
+    /**
+     * 저장에 실패한 배치의 계좌는 메모리와 DB가 달라졌으므로 제거하여 다음 접근 시 DB에서 다시 적재합니다.
+     * (다시 적재한 잔액은 실제보다 작을 수는 있어도 크지는 않으므로 음수 잔액이 생기지 않습니다.)
+     */
+    private void evictBatchAccounts(EngineBatch batch) {
+        stateVersion.incrementAndGet();
+        batch.getBalanceDeltas().keySet().forEach(states::remove);
+    }
+
+    /**
+     * 잔액 분산 슬롯이 설정된 계좌는 슬롯 잔액을 본 잔액으로 회수한 뒤 적재합니다. (엔진 사용 중에는 슬롯에 적립하지 않음)
+     */
+    private EngineAccountState loadState(Long accountId) {
+        return transactionTemplate.execute(status -> accountRepository.findById(accountId)
+                .filter(account -> account.getStatus() == Account.AccountStatus.ACTIVE)
+                .map(account -> {
+                    Money balance = account.getBalance();
+                    if (account.isHotAccount()) {
+                        LocalDateTime now = LocalDateTime.now();
+                        Money drainedAmount = accountBalanceSlotRepository.drain(accountId, now);
+                        if (drainedAmount.isPositive()) {
+                            balance = accountRepository.increaseBalance(accountId, drainedAmount, now)
+                                    .orElse(balance);
+                        }
+                    }
+                    return new EngineAccountState(account, balance);
+                })
+                .orElse(null));
+    }
+
+    private <T> EngineCommand<T> submit(Long accountId, EngineCommand<T> command) {
+        EnginePartition partition = partitions.get(Math.floorMod(Long.hashCode(accountId), partitions.size()));
+        if (!partition.offer(command)) {
+            throw new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+        }
+        return command;
+    }
+
+    private <T> T await(EngineCommand<T> command) {
+        try {
+            return command.getFuture().get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+        } catch (TimeoutException e) {
+            throw timeout(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw timeout(command);
+        }
+    }
+
+    /**
+     * 아직 파티션이 꺼내지 않은 명령은 취소하여 실행되지 않았음을 보장하고 (ENGINE_UNAVAILABLE, 재시도 가능),
+     * 이미 실행을 시작한 명령은 결과를 알 수 없으므로 ENGINE_TIMEOUT으로 응답합니다. (거래 내역으로 확인 필요)
+     */
+    private BusinessException timeout(EngineCommand<?> command) {
+        if (command.cancel()) {
+            return new BusinessException(ErrorCode.ENGINE_UNAVAILABLE);
+        }
+        return new BusinessException(ErrorCode.ENGINE_TIMEOUT);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.wirebarley.transfer.api.exception;
 
 import com.wirebarley.transfer.core.exception.BusinessException;
 import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.exception.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +30,9 @@ public class GlobalExceptionHandler {
         // 여기서는 BAD_REQUEST (400)을 공통으로 사용.
         HttpStatus status = switch (errorCode) {
             case ACCOUNT_NOT_FOUND -> HttpStatus.NOT_FOUND; // 404
+            case CONCURRENT_UPDATE_CONFLICT -> HttpStatus.CONFLICT; // 409
+            case ENGINE_UNAVAILABLE, PASSWORD_HASHING_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE; // 503
+            case ENGINE_TIMEOUT -> HttpStatus.GATEWAY_TIMEOUT; // 504
             // INSUFFICIENT_FUNDS 등 나머지는 400
             default -> HttpStatus.BAD_REQUEST;
         };
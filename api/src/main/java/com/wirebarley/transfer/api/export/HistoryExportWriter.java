@@ -0,0 +1,99 @@
+package com.wirebarley.transfer.api.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transfer.core.common.csv.CsvUtil;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.dto.HistoryExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 거래 내역을 한 건씩 응답 스트림에 기록하는 writer
+ * 첫 행을 기록하는 시점에 응답 헤더를 설정하므로, 그 전에 발생한 예외는 일반 에러 응답으로 처리됩니다.
+ */
+public class HistoryExportWriter {
+
+    private static final int FLUSH_INTERVAL = 500; // 이 건수마다 클라이언트로 flush
+    private static final String CSV_HEADER =
+            "type,amount,fee,transactedAt,counterpartyAccountNumber,counterpartyOwnerName";
+
+    private final HistoryExportFormat format;
+    private final String accountNumber;
+    private final HttpServletResponse response;
+    private final ObjectMapper objectMapper;
+
+    private Writer writer;
+    private long writtenCount;
+
+    public HistoryExportWriter(HistoryExportFormat format, String accountNumber,
+                               HttpServletResponse response, ObjectMapper objectMapper) {
+        this.format = format;
+        this.accountNumber = accountNumber;
+        this.response = response;
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(AccountDto.TransactionDetail detail) {
+        try {
+            start();
+            writer.write(format == HistoryExportFormat.CSV ? toCsvLine(detail) : toJsonLine(detail));
+            writer.write('\n');
+
+            writtenCount++;
+            if (writtenCount == 1 || writtenCount % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 내역이 없더라도 헤더(CSV)가 포함된 빈 결과를 응답하고 남은 버퍼를 flush 합니다.
+     */
+    public void finish() throws IOException {
+        start();
+        writer.flush();
+    }
+
+    private void start() throws IOException {
+        if (writer != null) {
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"history-" + accountNumber + "." + format.getFileExtension() + "\"");
+
+        writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (format == HistoryExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    private String toJsonLine(AccountDto.TransactionDetail detail) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(detail);
+    }
+
+    private String toCsvLine(AccountDto.TransactionDetail detail) {
+        return String.join(",",
+                detail.getType().name(),
+                Long.toString(detail.getAmount()),
+                Long.toString(detail.getFee()),
+                detail.getTransactedAt().toString(),
+                CsvUtil.escape(detail.getCounterpartyAccountNumber()),
+                CsvUtil.escape(detail.getCounterpartyOwnerName())
+        );
+    }
+}
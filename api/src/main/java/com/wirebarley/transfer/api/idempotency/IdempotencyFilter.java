@@ -0,0 +1,145 @@
+package com.wirebarley.transfer.api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wirebarley.transfer.core.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 변경 API(POST/DELETE)의 Idempotency-Key 헤더 처리
+ * - 처음 보는 키: 선점 후 요청을 처리하고, 결과가 확정된 응답(2xx, 4xx)을 저장합니다.
+ * - 완료된 키: 계좌에 접근하지 않고 저장된 응답을 그대로 반환합니다. (Idempotent-Replayed: true)
+ * - 처리 중인 키: 409, 다른 요청에 재사용한 키: 422
+ * - 실행되지 않은 것이 확실한 응답(409, 429, 503)만 선점을 해제하고, 결과를 알 수 없는 응답(504, 500, 예외)은
+ *   선점을 유지하여 같은 키의 재시도가 다시 실행되지 않고 409로 응답합니다. (IdempotencyStore.purgeExpired 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "DELETE");
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String requestHash = hash(request, body);
+
+        Optional<IdempotencyRecord> existing = idempotencyStore.claim(key, requestHash);
+        if (existing.isPresent()) {
+            replay(response, existing.get(), requestHash);
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new CachedBodyHttpServletRequest(request, body), cachingResponse);
+        } catch (IOException | ServletException | RuntimeException e) {
+            log.warn("Idempotency-Key 요청 처리 중 예외, 결과 확인 전까지 선점 유지: {}", key, e);
+            throw e;
+        }
+
+        int status = cachingResponse.getStatus();
+        if (isFinal(status)) {
+            idempotencyStore.complete(key, requestHash, status,
+                    new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8));
+        } else if (isNotExecuted(status)) {
+            idempotencyStore.release(key);
+        } else {
+            log.warn("Idempotency-Key 요청의 처리 결과를 알 수 없어 선점 유지: {} ({})", key, status);
+        }
+        cachingResponse.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record, String requestHash) throws IOException {
+        if (!record.matches(requestHash)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        if (!record.isCompleted()) {
+            writeError(response, HttpStatus.CONFLICT, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+
+        response.setStatus(record.getResponseStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getResponseBody() != null && !record.getResponseBody().isEmpty()) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(record.getResponseBody());
+        }
+    }
+
+    /**
+     * 다시 실행해도 결과가 같은 응답만 저장 (충돌 409, 과부하 429, 서버 오류 5xx는 재시도 허용)
+     */
+    private boolean isFinal(int status) {
+        return (status >= 200 && status < 300)
+                || (status >= 400 && status < 500 && status != 409 && status != 429);
+    }
+
+    /**
+     * 처리되지 않은 것이 확실한 응답 (낙관적 락 재시도 소진 409 = 롤백, 과부하 429/503 = 실행 전 거절)
+     */
+    private boolean isNotExecuted(int status) {
+        return status == 409 || status == 429 || status == 503;
+    }
+
+    private String hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorCode errorCode) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+    }
+}
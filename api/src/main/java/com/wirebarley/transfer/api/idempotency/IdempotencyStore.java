@@ -0,0 +1,131 @@
+package com.wirebarley.transfer.api.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.wirebarley.transfer.core.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.transfer.core.repository.IdempotencyKeyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 중복 제거 저장소
+ * 완료된 응답은 메모리 캐시(Caffeine, 크기 제한 + 만료 시각 기준 제거)에 먼저 조회하고,
+ * 캐시에 없을 때만 DB(idempotency_keys)에서 키를 선점/조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Value("${idempotency.ttl-hours}")
+    private long TTL_HOURS; // 키 보관 시간 24
+
+    @Value("${idempotency.in-progress-timeout-seconds}")
+    private long IN_PROGRESS_TIMEOUT_SECONDS; // 이 시간이 지나도 완료되지 않은 선점은 결과 확인 대상으로 경고 (다시 선점하지 않음) 60
+
+    @Value("${idempotency.cache.max-size}")
+    private long CACHE_MAX_SIZE; // 메모리 캐시 최대 키 수
+
+    private Cache<String, IdempotencyRecord> completedRecords;
+
+    @PostConstruct
+    void init() {
+        completedRecords = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE)
+                .expireAfter(new Expiry<String, IdempotencyRecord>() {
+                    @Override
+                    public long expireAfterCreate(String key, IdempotencyRecord record, long currentTime) {
+                        return Math.max(0, Duration.between(LocalDateTime.now(), record.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, IdempotencyRecord record, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, record, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, IdempotencyRecord record, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 키를 선점합니다.
+     *
+     * @return 선점에 성공하면 empty, 이미 사용된 키면 기존 기록 (완료 또는 처리 중)
+     */
+    public Optional<IdempotencyRecord> claim(String key, String requestHash) {
+        IdempotencyRecord cached = completedRecords.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean claimed = idempotencyKeyRepository.claim(key, requestHash, now, now.plusHours(TTL_HOURS));
+        if (claimed) {
+            return Optional.empty();
+        }
+
+        // 선점 직후 해제된 경우에도 처리 중으로 응답 (클라이언트가 다시 시도)
+        IdempotencyRecord existing = idempotencyKeyRepository.findByKey(key)
+                .orElseGet(() -> IdempotencyRecord.builder()
+                        .key(key)
+                        .requestHash(requestHash)
+                        .status(IdempotencyRecord.Status.IN_PROGRESS)
+                        .expiresAt(now)
+                        .build());
+        if (existing.isCompleted()) {
+            completedRecords.put(key, existing);
+        }
+        return Optional.of(existing);
+    }
+
+    public void complete(String key, String requestHash, int responseStatus, String responseBody) {
+        idempotencyKeyRepository.complete(key, responseStatus, responseBody);
+        completedRecords.put(key, IdempotencyRecord.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .status(IdempotencyRecord.Status.COMPLETED)
+                .responseStatus(responseStatus)
+                .responseBody(responseBody)
+                .expiresAt(LocalDateTime.now().plusHours(TTL_HOURS))
+                .build());
+    }
+
+    public void release(String key) {
+        idempotencyKeyRepository.release(key);
+    }
+
+    /**
+     * 만료된 완료 키를 삭제하고, 오래도록 완료되지 않은 키(서버 종료, 처리 결과를 알 수 없는 504/500 등)를 경고합니다.
+     * 완료되지 않은 키는 같은 키의 재시도가 409로 응답하도록 남겨두며, 거래 내역으로 결과를 확인한 뒤 수동으로 삭제합니다.
+     */
+    @Scheduled(cron = "${idempotency.purge-cron}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 삭제: {}건", deleted);
+        }
+
+        int unresolved = idempotencyKeyRepository.countInProgressBefore(now.minusSeconds(IN_PROGRESS_TIMEOUT_SECONDS));
+        if (unresolved > 0) {
+            log.warn("결과 확인이 필요한 처리 중 Idempotency-Key: {}건 (거래 내역 확인 후 idempotency_keys에서 삭제)", unresolved);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.wirebarley.transfer.api.service;
+
+/**
+ * 잔액 변경 시 계좌 동시성 제어 방식 (account.lock.mode)
+ */
+public enum AccountLockMode {
+
+    /**
+     * SELECT ... FOR UPDATE 로 트랜잭션이 끝날 때까지 행 락을 유지합니다. (경합이 많은 계좌에 유리)
+     */
+    PESSIMISTIC,
+
+    /**
+     * 락 없이 조회한 뒤 @Version 조건부 UPDATE로 충돌을 감지하고, 충돌 시 재시도합니다. (경합이 적은 계좌에 유리)
+     */
+    OPTIMISTIC
+}
@@ -0,0 +1,71 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+import com.wirebarley.transfer.core.domain.account.AccountNumberPermutation;
+import com.wirebarley.transfer.core.repository.AccountNumberBlockRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 신규 계좌번호 발급기 (hi/lo)
+ * DB 시퀀스로 순번 블록을 예약해 두고 블록 안의 순번을 메모리에서 발급하므로, 블록당 nextval 한 번 외에는 DB 조회가 없고
+ * 인스턴스끼리 같은 번호를 발급하지 않습니다. 순번은 Feistel 순열로 섞어 "110-XXX-XXXXXX" 형식으로 변환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountNumberAllocator {
+
+    private final AccountNumberBlockRepository accountNumberBlockRepository;
+
+    @Value("${account.policy.prefix}")
+    private String ACCOUNT_PREFIX; // 계좌번호 접두사 "110"
+
+    @Value("${account.number.scramble-key}")
+    private long SCRAMBLE_KEY; // 순번을 섞는 키 (0이면 순번 그대로 사용, 발급 시작 후 변경 금지)
+
+    private AccountNumberPermutation permutation;
+
+    // 블록 예약(DB 호출) 중 대기하는 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용
+    private final Lock lock = new ReentrantLock();
+    private long nextSequence; // guarded by lock
+    private long blockEnd; // guarded by lock
+
+    @PostConstruct
+    void init() {
+        permutation = (SCRAMBLE_KEY == 0) ? null : new AccountNumberPermutation(SCRAMBLE_KEY);
+    }
+
+    public String allocate() {
+        long sequence = nextSequence();
+        long number = (permutation == null) ? sequence : permutation.permute(sequence);
+
+        // "110" + "-" + 3자리 + "-" + 6자리
+        String digits = String.format("%09d", number);
+        return ACCOUNT_PREFIX + "-" + digits.substring(0, 3) + "-" + digits.substring(3);
+    }
+
+    private long nextSequence() {
+        lock.lock();
+        try {
+            if (nextSequence >= blockEnd) {
+                AccountNumberBlock block = accountNumberBlockRepository.reserveBlock();
+                if (block.getStart() >= AccountNumberPermutation.DOMAIN_SIZE) {
+                    throw new IllegalStateException("발급 가능한 계좌번호를 모두 사용했습니다.");
+                }
+                nextSequence = block.getStart();
+                blockEnd = Math.min(block.end(), AccountNumberPermutation.DOMAIN_SIZE);
+                log.debug("계좌번호 순번 블록 예약: {}", block);
+            }
+            return nextSequence++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.wirebarley.transfer.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.account.AccountReference;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌번호 -> 계좌 참조(AccountReference) 조회 캐시 (크기 제한 + 쓰기 후 만료)
+ * 'ACTIVE' 계좌만 적재하므로 캐시에 있으면 'ACTIVE'로 보며, 삭제/슬롯 설정은 커밋 후 제거(invalidateAfterCommit)합니다.
+ * 사전 검증(존재 여부, 비밀번호, ID 확인)과 거래 내역 조회/내보내기가 캐시를 사용하며,
+ * 다른 인스턴스에서 삭제된 계좌는 만료 전까지 조회될 수 있지만 잔액 변경은 ID로 'ACTIVE' 여부를 DB에서 다시 확인하므로 잘못 반영되지 않습니다.
+ * 비밀번호 해시/salt를 함께 보관하는 이유는 AccountReference를 참고합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountReferenceCache {
+
+    private final AccountRepository accountRepository;
+
+    @Value("${account.lookup-cache.max-size}")
+    private long MAX_SIZE; // 최대 계좌 수
+
+    @Value("${account.lookup-cache.ttl-seconds}")
+    private long TTL_SECONDS; // 쓰기 후 만료 시간
+
+    private Cache<String, AccountReference> references;
+
+    @PostConstruct
+    void init() {
+        references = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(TTL_SECONDS))
+                .build();
+    }
+
+    /**
+     * 'ACTIVE' 계좌의 참조를 조회합니다. (없는 계좌는 캐시하지 않음)
+     */
+    public Optional<AccountReference> find(String accountNumber) {
+        return Optional.ofNullable(references.get(accountNumber, number -> accountRepository.findByAccountNumber(number)
+                .map(AccountReference::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 여러 'ACTIVE' 계좌의 참조를 조회합니다. (캐시에 없는 계좌만 한 번의 IN 조회로 적재)
+     */
+    public Map<String, AccountReference> findAll(Collection<String> accountNumbers) {
+        return references.getAll(accountNumbers, missing -> accountRepository.findAllByAccountNumbers(
+                        new HashSet<String>(missing)).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, AccountReference::from)));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 캐시에서 제거합니다. (트랜잭션 밖이면 즉시 제거)
+     */
+    public void invalidateAfterCommit(String accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            references.invalidate(accountNumber);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                references.invalidate(accountNumber);
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.common.security.PasswordHasher;
+import com.wirebarley.transfer.core.common.security.PasswordHashes;
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.account.AccountReference;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 생성/검증을 전용 스레드 풀에서 실행하는 서비스
+ * 느린 KDF(PBKDF2/Argon2)를 사용해도 동시에 해시를 계산하는 스레드 수와 대기열이 제한되어,
+ * 요청 스레드가 CPU를 나눠 쓰다 함께 느려지는 대신 초과 요청은 PASSWORD_HASHING_UNAVAILABLE(503)로 빠르게 거절됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordHasher passwordHasher; // 신규 해시 생성용 (검증은 저장된 해시 형식을 따름)
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.password.executor.threads}")
+    private int THREADS; // 동시에 해시를 계산하는 스레드 수
+
+    @Value("${security.password.executor.queue-capacity}")
+    private int QUEUE_CAPACITY; // 대기 가능한 해시 작업 수 (초과 시 거절)
+
+    @Value("${security.password.executor.timeout-ms}")
+    private long TIMEOUT_MS; // 대기 + 계산 제한 시간
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("account.password.executor.queue.size", executor, pool -> pool.getQueue().size())
+                .description("비밀번호 해시 대기 작업 수")
+                .register(meterRegistry);
+        log.info("비밀번호 해시 스레드 풀 시작: 알고리즘 {}, 스레드 {}개, 대기열 {}",
+                passwordHasher.algorithm(), THREADS, QUEUE_CAPACITY);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public String hash(String password, String salt) {
+        return execute("hash", passwordHasher.algorithm(), () -> passwordHasher.hash(password, salt));
+    }
+
+    public boolean matches(AccountReference reference, String password) {
+        return execute("verify", PasswordHashes.algorithmOf(reference.getPasswordHash()),
+                () -> reference.verifyPassword(password));
+    }
+
+    public boolean matches(Account account, String password) {
+        return execute("verify", PasswordHashes.algorithmOf(account.getPasswordHash()),
+                () -> account.verifyPassword(password));
+    }
+
+    private <T> T execute(String operation, String algorithm, Callable<T> task) {
+        Timer timer = Timer.builder("account.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", operation)
+                .tag("algorithm", algorithm)
+                .register(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("account.password.executor.rejected", "operation", operation).increment();
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("account.password.executor.timeout", "operation", operation).increment();
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 계산에 실패했습니다.", e.getCause());
+        }
+    }
+}
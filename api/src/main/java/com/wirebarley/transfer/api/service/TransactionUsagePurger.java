@@ -0,0 +1,33 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 1일 한도 검증 창(24시간)을 벗어난 사용량 버킷(transaction_usage) 정리
+ * 한도 검증은 창 시작 시각이 걸친 버킷 이후만 합산하므로, 그 버킷보다 먼저 시작한 버킷은 다시 읽히지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionUsagePurger {
+
+    private final TransactionUsageRepository transactionUsageRepository;
+    private final TransactionPolicy transactionPolicy;
+
+    @Scheduled(cron = "${transaction-usage.purge-cron}")
+    public void purgeExpired() {
+        LocalDateTime edgeBucketStart = transactionPolicy.limitWindowStart(LocalDateTime.now()).truncatedTo(ChronoUnit.HOURS);
+        int deleted = transactionUsageRepository.deleteBucketsBefore(edgeBucketStart);
+        if (deleted > 0) {
+            log.info("한도 검증 창을 벗어난 사용량 버킷 삭제: {}건 ({} 이전)", deleted, edgeBucketStart);
+        }
+    }
+}
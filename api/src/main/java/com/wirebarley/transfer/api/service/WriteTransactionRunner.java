@@ -0,0 +1,65 @@
+package com.wirebarley.transfer.api.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 잔액 변경에 필요한 최소 구간만 쓰기 트랜잭션으로 실행하는 헬퍼
+ * 비밀번호 해시 검증, 수수료/한도 계산 등 준비 단계는 트랜잭션 밖에서 수행하고 DB 쓰기만 이 안에서 실행하여,
+ * 커넥션 풀의 커넥션을 점유하는 시간을 줄입니다.
+ * 커넥션을 받은 시점(트랜잭션 콜백 시작)부터 커밋/롤백 완료(afterCompletion)까지의 시간을 operation 태그별
+ * account.tx.connection.hold 로 기록합니다. (커넥션 풀 대기 시간은 포함하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class WriteTransactionRunner {
+
+    private static final String HOLD_TIMER = "account.tx.connection.hold";
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                try {
+                    return action.get();
+                } finally {
+                    stop(sample, operation);
+                }
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    stop(sample, operation);
+                }
+            });
+            return action.get();
+        });
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void stop(Timer.Sample sample, String operation) {
+        sample.stop(Timer.builder(HOLD_TIMER)
+                .description("쓰기 트랜잭션의 커넥션 점유 시간")
+                .tag("operation", operation)
+                .register(meterRegistry));
+    }
+}
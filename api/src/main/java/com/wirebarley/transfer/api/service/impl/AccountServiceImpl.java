@@ -1,25 +1,49 @@
 package com.wirebarley.transfer.api.service.impl;
 
+import com.wirebarley.transfer.api.aop.RetryOnOptimisticLock;
+import com.wirebarley.transfer.api.service.AccountLockMode;
+import com.wirebarley.transfer.api.service.AccountNumberAllocator;
+import com.wirebarley.transfer.api.service.AccountReferenceCache;
+import com.wirebarley.transfer.api.service.PasswordHashingService;
+import com.wirebarley.transfer.api.service.WriteTransactionRunner;
+import com.wirebarley.transfer.core.repository.AccountBalanceSlotRepository;
 import com.wirebarley.transfer.core.repository.AccountRepository;
 import com.wirebarley.transfer.core.dto.AccountDto;
 import com.wirebarley.transfer.core.service.AccountService;
 import com.wirebarley.transfer.core.common.security.SecurityUtil;
 import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.account.AccountReference;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
 import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
 import com.wirebarley.transfer.core.exception.BusinessException;
 import com.wirebarley.transfer.core.exception.ErrorCode;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,34 +54,56 @@ public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
     private final TransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionUsageRepository transactionUsageRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final AccountReferenceCache accountReferenceCache;
+    private final WriteTransactionRunner writeTransactionRunner;
+    private final PasswordHashingService passwordHashingService;
+    private final AccountNumberAllocator accountNumberAllocator;
+    private final TransactionPolicy transactionPolicy;
 
-    private final SecureRandom random = new SecureRandom();
+    private static final int EXPORT_CHUNK_SIZE = 500; // 내보내기 시 상대방 계좌를 일괄 조회하는 단위
+    private static final int ACCOUNT_NUMBER_MAX_ATTEMPTS = 3; // 계좌번호 충돌 시 최대 발급 시도 횟수
 
-    @Value("${transfer.policy.fee-rate}")
-    private BigDecimal FEE_RATE;
+    @Value("${account.lock.mode}")
+    private AccountLockMode LOCK_MODE; // 동시성 제어 방식 (PESSIMISTIC/OPTIMISTIC)
 
-    @Value("${transfer.policy.daily-limit}")
-    private BigDecimal TRANSFER_DAILY_LIMIT; // 1일 이체 한도 3000000
-
-    @Value("${withdraw.policy.daily-limit}")
-    private BigDecimal WITHDRAW_DAILY_LIMIT; // 1일 출금 한도 1000000
-
-    @Value("${account.policy.prefix}")
-    private String ACCOUNT_PREFIX; // 계좌번호 접두사 "110"
+    @Value("${history.page.default-size}")
+    private int HISTORY_PAGE_DEFAULT_SIZE; // 거래 내역 기본 페이지 크기 20
 
+    @Value("${history.page.max-size}")
+    private int HISTORY_PAGE_MAX_SIZE; // 거래 내역 최대 페이지 크기 100
 
     @Override
-    @Transactional
     public AccountDto.CreateResponse createAccount(AccountDto.CreateRequest request) {
-
+        // 비밀번호 해시는 트랜잭션 밖, 전용 스레드 풀에서 계산
         String salt = SecurityUtil.generateSalt();
-        String passwordHash = SecurityUtil.hashPassword(request.getPassword(), salt);
+        String passwordHash = passwordHashingService.hash(request.getPassword(), salt);
+
+        // 발급기의 번호는 인스턴스 간에도 중복되지 않으며, 기존(임의 발급) 번호와 충돌한 경우에만 다음 번호로 재시도
+        Account savedAccount = null;
+        for (int attempt = 1; savedAccount == null; attempt++) {
+            String newAccountNumber = accountNumberAllocator.allocate();
+            try {
+                savedAccount = writeTransactionRunner.execute("create", () ->
+                        saveNewAccount(request, newAccountNumber, passwordHash, salt));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= ACCOUNT_NUMBER_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("기존 계좌번호와 충돌하여 재발급: {}", newAccountNumber);
+            }
+        }
 
-        String newAccountNumber;
-        do {
-            newAccountNumber = generateNewAccountNumber();
-        } while (accountRepository.existsByAccountNumber(newAccountNumber));
+        log.info("새 계좌 생성: {}", savedAccount.getAccountNumber());
+        return AccountDto.CreateResponse.from(savedAccount);
+    }
 
+    /**
+     * 발급받은 계좌 번호로 계좌와 초기 입금 내역을 저장하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 호출)
+     */
+    private Account saveNewAccount(AccountDto.CreateRequest request, String newAccountNumber,
+                                   String passwordHash, String salt) {
         LocalDateTime now = LocalDateTime.now();
 
         Account newAccount = Account.builder()
@@ -65,7 +111,7 @@ public class AccountServiceImpl implements AccountService {
                 .ownerName(request.getOwnerName())
                 .passwordHash(passwordHash)
                 .salt(salt)
-                .balance(request.getInitialBalance())
+                .balance(Account.toInitialBalance(request.getInitialBalance()))
                 .createdAt(now)
                 .updatedAt(now)
                 .status(Account.AccountStatus.ACTIVE)
@@ -73,34 +119,48 @@ public class AccountServiceImpl implements AccountService {
 
         Account savedAccount = accountRepository.save(newAccount);
 
-        if (savedAccount.getBalance().compareTo(BigDecimal.ZERO) > 0) {
-            TransactionHistory initialDeposit = TransactionHistory.builder()
-                    .accountId(savedAccount.getId())
-                    .counterpartyAccountId(null)
-                    .type(TransactionHistory.TransactionType.DEPOSIT)
-                    .amount(savedAccount.getBalance())
-                    .fee(BigDecimal.ZERO)
-                    .transactedAt(savedAccount.getCreatedAt())
-                    .build();
+        if (savedAccount.getBalance().isPositive()) {
+            TransactionHistory initialDeposit = TransactionHistory.deposit(
+                    savedAccount.getId(), savedAccount.getBalance(), savedAccount.getCreatedAt());
 
             transactionHistoryRepository.save(initialDeposit);
         }
 
-        log.info("새 계좌 생성: {}", savedAccount.getAccountNumber());
-        return AccountDto.CreateResponse.from(savedAccount);
+        return savedAccount;
     }
 
     @Override
-    @Transactional
+    @RetryOnOptimisticLock
     public void deleteAccount(String accountNumber, AccountDto.DeleteRequest request) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        // 준비 단계 (트랜잭션 밖): 계좌 확인 및 비밀번호 해시 검증
+        AccountReference reference = findReference(accountNumber);
 
-        if (!account.verifyPassword(request.getPassword())) {
+        if (!passwordHashingService.matches(reference, request.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
         }
 
-        if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
+        writeTransactionRunner.run("delete", () -> deleteVerifiedAccount(reference));
+        log.info("계좌 삭제 (Soft Delete): {}", accountNumber);
+    }
+
+    /**
+     * 비밀번호 검증을 마친 계좌를 쓰기 트랜잭션 안에서 잔액 확인 후 삭제 상태로 변경하는 헬퍼 메서드
+     */
+    private void deleteVerifiedAccount(AccountReference reference) {
+        // 캐시된 참조에는 잔액이 없으므로 ID로 최신 상태를 조회
+        Account account = accountRepository.findById(reference.getId())
+                .filter(found -> found.getStatus() == Account.AccountStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+
+        Money totalBalance = account.getBalance();
+        if (account.isHotAccount()) {
+            // 진행 중인 슬롯 적립(계좌 행 공유 락)이 끝날 때까지 계좌 행을 잠근 뒤 슬롯 잔액까지 합산
+            account = accountRepository.findByIdWithLock(account.getId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+            totalBalance = account.getBalance().plus(accountBalanceSlotRepository.sumBalances(account.getId()));
+        }
+
+        if (!totalBalance.isZero()) {
             throw new BusinessException(ErrorCode.BALANCE_NOT_ZERO);
         }
 
@@ -114,10 +174,12 @@ public class AccountServiceImpl implements AccountService {
                 .status(Account.AccountStatus.DELETED)
                 .passwordHash(account.getPasswordHash())
                 .salt(account.getSalt())
+                .version(account.getVersion())
+                .slotCount(account.getSlotCount())
                 .build();
 
         accountRepository.save(deletedAccount);
-        log.info("계좌 삭제 (Soft Delete): {}", accountNumber);
+        accountReferenceCache.invalidateAfterCommit(reference.getAccountNumber());
     }
 
     @Override
@@ -126,14 +188,42 @@ public class AccountServiceImpl implements AccountService {
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
 
+        if (account.isHotAccount()) {
+            return AccountDto.BalanceResponse.of(account, accountBalanceSlotRepository.totalBalance(account.getId()));
+        }
+
         return AccountDto.BalanceResponse.from(account);
     }
 
     @Override
-    @Transactional
-    public AccountDto.TransferResponse transfer(AccountDto.TransferRequest request) {
+    @RetryOnOptimisticLock
+    public AccountDto.BalanceSlotResponse enableBalanceSlots(String accountNumber, AccountDto.BalanceSlotRequest request) {
+        // 비밀번호 해시 검증은 트랜잭션 밖에서 (커넥션과 행 락을 잡은 채 해시를 계산하지 않음)
+        AccountReference reference = findReference(accountNumber);
+
+        if (!passwordHashingService.matches(reference, request.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+        }
+
+        Account savedAccount = writeTransactionRunner.execute("enableBalanceSlots", () -> {
+            Account account = lockAccountById(reference.getId());
+            account.enableBalanceSlots(request.getSlotCount());
+
+            Account saved = accountRepository.save(account);
+            accountBalanceSlotRepository.createSlots(saved.getId(), saved.getSlotCount(), LocalDateTime.now());
+            accountReferenceCache.invalidateAfterCommit(accountNumber);
+            return saved;
+        });
+
+        log.info("잔액 분산 슬롯 설정: {} ({}개)", accountNumber, savedAccount.getSlotCount());
+        return AccountDto.BalanceSlotResponse.from(savedAccount);
+    }
 
-        BigDecimal amount = request.getAmount();
+    @Override
+    @RetryOnOptimisticLock
+    public AccountDto.TransferResponse transfer(AccountDto.TransferRequest request) {
+        // 준비 단계 (트랜잭션 밖): 계좌 확인, 비밀번호 해시 검증, 수수료/한도 계산
+        Money amount = Account.validateWithdrawAmount(request.getAmount());
         String fromAccountNumber = request.getFromAccountNumber();
         String toAccountNumber = request.getToAccountNumber();
         LocalDateTime now = LocalDateTime.now();
@@ -142,209 +232,545 @@ public class AccountServiceImpl implements AccountService {
             throw new BusinessException(ErrorCode.SELF_TRANSFER_NOT_ALLOWED);
         }
 
-        Account preCheckFromAccount = accountRepository.findByAccountNumber(fromAccountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
-        Account preCheckToAccount = accountRepository.findByAccountNumber(toAccountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        AccountReference preCheckFromAccount = findReference(fromAccountNumber);
+        AccountReference preCheckToAccount = findReference(toAccountNumber);
 
-        if (!preCheckFromAccount.verifyPassword(request.getPassword())) {
+        if (!passwordHashingService.matches(preCheckFromAccount, request.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
         }
 
-        BigDecimal fee = amount.multiply(FEE_RATE).setScale(0, RoundingMode.DOWN);
-        BigDecimal totalWithdrawAmount = amount.add(fee);
-
-        LocalDateTime twentyFourHoursAgo = now.minusHours(24);
-        List<TransactionHistory> recentTransactions =
-                transactionHistoryRepository.findByAccountIdAndTypeAndTransactedAtAfter(
-                        preCheckFromAccount.getId(),
-                        TransactionHistory.TransactionType.TRANSFER_SEND,
-                        twentyFourHoursAgo
-                );
-        BigDecimal totalTransferredToday = recentTransactions.stream()
-                .map(TransactionHistory::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        if (totalTransferredToday.add(amount).compareTo(TRANSFER_DAILY_LIMIT) > 0) {
-            throw new BusinessException(ErrorCode.DAILY_LIMIT_EXCEEDED);
-        }
+        Money fee = transactionPolicy.transferFee(amount);
 
-        Long id1 = preCheckFromAccount.getId();
-        Long id2 = preCheckToAccount.getId();
-        Account lockedFirst = (id1 < id2) ?
-                lockAccountById(id1) : lockAccountById(id2);
-        Account lockedSecond = (id1 < id2) ?
-                lockAccountById(id2) : lockAccountById(id1);
-        Account fromAccount = (lockedFirst.getId().equals(id1)) ? lockedFirst : lockedSecond;
-        Account toAccount = (lockedSecond.getId().equals(id2)) ? lockedSecond : lockedFirst;
-
-        fromAccount.withdraw(totalWithdrawAmount);
-        toAccount.deposit(amount);
-
-        accountRepository.save(fromAccount);
-        accountRepository.save(toAccount);
-
-        TransactionHistory sendHistory = TransactionHistory.builder()
-                .accountId(fromAccount.getId())
-                .counterpartyAccountId(toAccount.getId())
-                .type(TransactionHistory.TransactionType.TRANSFER_SEND)
-                .amount(amount)
-                .fee(fee)
-                .transactedAt(now)
-                .build();
-        TransactionHistory receiveHistory = TransactionHistory.builder()
-                .accountId(toAccount.getId())
-                .counterpartyAccountId(fromAccount.getId())
-                .type(TransactionHistory.TransactionType.TRANSFER_RECEIVE)
-                .amount(amount)
-                .fee(BigDecimal.ZERO)
-                .transactedAt(now)
-                .build();
-        transactionHistoryRepository.save(sendHistory);
-        transactionHistoryRepository.save(receiveHistory);
+        Money totalTransferredToday = transactionUsageRepository.sumAmountAfter(
+                preCheckFromAccount.getId(),
+                TransactionHistory.TransactionType.TRANSFER_SEND,
+                transactionPolicy.limitWindowStart(now)
+        );
+        transactionPolicy.checkDailyLimit(TransactionHistory.TransactionType.TRANSFER_SEND, totalTransferredToday, amount);
+
+        AccountDto.TransferResponse response = writeTransactionRunner.execute("transfer", () ->
+                transferInTransaction(preCheckFromAccount, preCheckToAccount, amount, fee, now));
 
         log.info("송금 성공: {} -> {} (원금: {}, 수수료: {})",
                 fromAccountNumber, toAccountNumber, amount, fee);
 
-        return AccountDto.TransferResponse.of(fromAccount, toAccount, amount);
+        return response;
+    }
+
+    /**
+     * 사전 검증을 마친 송금의 잔액 변경과 거래 내역 저장만 수행하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 호출)
+     */
+    private AccountDto.TransferResponse transferInTransaction(AccountReference preCheckFromAccount,
+                                                              AccountReference preCheckToAccount,
+                                                              Money amount, Money fee, LocalDateTime now) {
+        String fromAccountNumber = preCheckFromAccount.getAccountNumber();
+        String toAccountNumber = preCheckToAccount.getAccountNumber();
+        Money totalWithdrawAmount = amount.plus(fee);
+        Long id1 = preCheckFromAccount.getId();
+        Long id2 = preCheckToAccount.getId();
+        Account fromAccount;
+        AccountDto.TransferResponse response;
+
+        if (preCheckToAccount.isHotAccount()) {
+            // 수취 집중 계좌는 계좌 행을 잠그지 않고 슬롯에 적립 (계좌 행 락 순서는 id 오름차순 유지)
+            if (id2 < id1) {
+                creditBalanceSlot(preCheckToAccount, amount, now);
+                fromAccount = lockAccountById(id1);
+            } else {
+                fromAccount = lockAccountById(id1);
+                creditBalanceSlot(preCheckToAccount, amount, now);
+            }
+
+            prepareDebit(fromAccount, totalWithdrawAmount, now);
+            fromAccount.withdraw(totalWithdrawAmount);
+            accountRepository.save(fromAccount);
+
+            Money toAccountBalance = totalBalanceOf(id2);
+            response = AccountDto.TransferResponse.of(fromAccount, toAccountNumber, toAccountBalance, amount);
+        } else {
+            // 두 계좌를 한 문장으로 조회하며 id 오름차순으로 락 획득 (왕복 1회, 데드락 방지)
+            Map<String, Account> lockedAccounts = lockAccountsByNumbers(List.of(fromAccountNumber, toAccountNumber));
+            fromAccount = lockedAccounts.get(fromAccountNumber);
+            Account toAccount = lockedAccounts.get(toAccountNumber);
+            if (fromAccount == null || toAccount == null) {
+                throw new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND);
+            }
+
+            prepareDebit(fromAccount, totalWithdrawAmount, now);
+            fromAccount.withdraw(totalWithdrawAmount);
+            toAccount.deposit(amount);
+
+            accountRepository.save(fromAccount);
+            accountRepository.save(toAccount);
+
+            response = AccountDto.TransferResponse.of(fromAccount, toAccount, amount);
+        }
+
+        List<TransactionHistory> savedHistories =
+                transactionHistoryRepository.saveAll(TransactionHistory.transferPair(id1, id2, amount, fee, now));
+        transactionUsageRepository.accumulate(savedHistories.get(0));
+
+        return response;
+    }
+
+    @Override
+    @RetryOnOptimisticLock
+    public AccountDto.BatchTransferResponse transferBatch(AccountDto.BatchTransferRequest request) {
+        List<AccountDto.TransferRequest> transfers = request.getTransfers();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 관련된 모든 계좌를 확인 (계좌 조회 캐시에 없는 계좌만 한 번의 IN 조회)
+        Set<String> accountNumbers = new HashSet<>();
+        for (AccountDto.TransferRequest transfer : transfers) {
+            accountNumbers.add(transfer.getFromAccountNumber());
+            accountNumbers.add(transfer.getToAccountNumber());
+        }
+        Map<String, AccountReference> references = accountReferenceCache.findAll(accountNumbers);
+        Map<String, Long> accountIdsByNumber = references.values().stream()
+                .collect(Collectors.toMap(AccountReference::getAccountNumber, AccountReference::getId));
+
+        // 2. 비밀번호 검증 (트랜잭션 밖, 락 획득 전): 건별 일치 여부만 보관
+        boolean[] passwordMatched = verifyBatchPasswords(transfers, references);
+
+        AccountDto.BatchTransferResponse response = writeTransactionRunner.execute("transferBatch", () ->
+                transferBatchInTransaction(request, accountIdsByNumber, passwordMatched, now));
+
+        log.info("일괄 송금 완료: 모드 {}, 성공 {}건, 실패 {}건",
+                request.getMode(), response.getSuccessCount(), response.getFailureCount());
+        return response;
+    }
+
+    /**
+     * 일괄 송금의 비밀번호를 검증하는 헬퍼 메서드 (같은 계좌 + 같은 비밀번호는 한 번만 해시 계산)
+     * 건별 일치 여부만 반환하며, 평문 비밀번호는 이 메서드 밖에 보관하지 않습니다. (없는 계좌는 false)
+     */
+    private boolean[] verifyBatchPasswords(List<AccountDto.TransferRequest> transfers,
+                                           Map<String, AccountReference> references) {
+        boolean[] matched = new boolean[transfers.size()];
+        Map<String, Map<String, Boolean>> verified = new HashMap<>();
+
+        for (int index = 0; index < transfers.size(); index++) {
+            AccountDto.TransferRequest transfer = transfers.get(index);
+            AccountReference reference = references.get(transfer.getFromAccountNumber());
+            if (reference == null) {
+                continue;
+            }
+            matched[index] = verified.computeIfAbsent(reference.getAccountNumber(), number -> new HashMap<>())
+                    .computeIfAbsent(transfer.getPassword(), password -> passwordHashingService.matches(reference, password));
+        }
+        return matched;
+    }
+
+    /**
+     * 사전 검증을 마친 일괄 송금을 요청 순서대로 적용하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 호출)
+     */
+    private AccountDto.BatchTransferResponse transferBatchInTransaction(AccountDto.BatchTransferRequest request,
+                                                                        Map<String, Long> accountIdsByNumber,
+                                                                        boolean[] passwordMatched,
+                                                                        LocalDateTime now) {
+        List<AccountDto.TransferRequest> transfers = request.getTransfers();
+        boolean allOrNothing = request.getMode() == AccountDto.BatchMode.ALL_OR_NOTHING;
+
+        // 3. id 오름차순으로 한 번에 락 획득 (데드락 방지)
+        Map<Long, Account> lockedAccounts = lockAccountsByIds(accountIdsByNumber.values()).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        Map<Long, Money> transferredToday = new HashMap<>();
+        Set<Account> changedAccounts = new LinkedHashSet<>();
+        List<TransactionHistory> histories = new ArrayList<>();
+        List<AccountDto.BatchTransferResult> results = new ArrayList<>(transfers.size());
+
+        // 4. 요청 순서대로 건별 적용
+        for (int index = 0; index < transfers.size(); index++) {
+            AccountDto.TransferRequest transfer = transfers.get(index);
+
+            try {
+                Money amount = Account.validateWithdrawAmount(transfer.getAmount());
+                if (transfer.getFromAccountNumber().equals(transfer.getToAccountNumber())) {
+                    throw new BusinessException(ErrorCode.SELF_TRANSFER_NOT_ALLOWED);
+                }
+
+                Account fromAccount = findLockedAccount(lockedAccounts, accountIdsByNumber, transfer.getFromAccountNumber());
+                Account toAccount = findLockedAccount(lockedAccounts, accountIdsByNumber, transfer.getToAccountNumber());
+
+                if (!passwordMatched[index]) {
+                    throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
+                }
+
+                Money fee = transactionPolicy.transferFee(amount);
+                Money totalWithdrawAmount = amount.plus(fee);
+
+                Money usedToday = transferredToday.computeIfAbsent(fromAccount.getId(),
+                        id -> transactionUsageRepository.sumAmountAfter(
+                                id, TransactionHistory.TransactionType.TRANSFER_SEND, transactionPolicy.limitWindowStart(now)));
+                transactionPolicy.checkDailyLimit(TransactionHistory.TransactionType.TRANSFER_SEND, usedToday, amount);
+
+                prepareDebit(fromAccount, totalWithdrawAmount, now);
+                fromAccount.withdraw(totalWithdrawAmount);
+                toAccount.deposit(amount);
+
+                transferredToday.put(fromAccount.getId(), usedToday.plus(amount));
+                changedAccounts.add(fromAccount);
+                changedAccounts.add(toAccount);
+
+                histories.addAll(TransactionHistory.transferPair(fromAccount.getId(), toAccount.getId(), amount, fee, now));
+
+                results.add(AccountDto.BatchTransferResult.builder()
+                        .index(index)
+                        .fromAccountNumber(transfer.getFromAccountNumber())
+                        .toAccountNumber(transfer.getToAccountNumber())
+                        .amount(transfer.getAmount())
+                        .fee(fee.longValue())
+                        .success(true)
+                        .build());
+
+            } catch (BusinessException e) {
+                if (allOrNothing) {
+                    throw new BusinessException("[" + index + "번째 송금] " + e.getMessage(), e.getErrorCode());
+                }
+
+                results.add(AccountDto.BatchTransferResult.builder()
+                        .index(index)
+                        .fromAccountNumber(transfer.getFromAccountNumber())
+                        .toAccountNumber(transfer.getToAccountNumber())
+                        .amount(transfer.getAmount())
+                        .success(false)
+                        .errorCode(e.getErrorCode().name())
+                        .message(e.getMessage())
+                        .build());
+            }
+        }
+
+        // 5. 변경된 계좌와 거래 내역을 일괄 저장 (JDBC 배치)
+        accountRepository.saveAll(new ArrayList<>(changedAccounts));
+        List<TransactionHistory> savedHistories = transactionHistoryRepository.saveAll(histories);
+        transactionUsageRepository.accumulateAll(savedHistories.stream()
+                .filter(history -> history.getType() == TransactionHistory.TransactionType.TRANSFER_SEND)
+                .collect(Collectors.toList()));
+
+        int successCount = (int) results.stream().filter(AccountDto.BatchTransferResult::isSuccess).count();
+        return new AccountDto.BatchTransferResponse(
+                request.getMode(), successCount, results.size() - successCount, results);
     }
 
     @Override
     @Transactional(readOnly = true)
     public AccountDto.HistoryResponse getTransactionHistory(String accountNumber) {
-        Account account = accountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        AccountReference account = findReference(accountNumber);
 
         List<TransactionHistory> histories =
                 transactionHistoryRepository.findByAccountIdOrderByTransactedAtDesc(account.getId());
 
-        List<AccountDto.TransactionDetail> transactionDetails = histories.stream()
-                .map(history -> {
-                    String counterpartyNumber = null;
-                    String counterpartyName = null;
-
-                    if (history.getCounterpartyAccountId() != null) {
-                        Optional<Account> counterpartyOpt =
-                                accountRepository.findById(history.getCounterpartyAccountId());
-
-                        if (counterpartyOpt.isPresent()) {
-                            Account counterparty = counterpartyOpt.get();
-                            counterpartyNumber = counterparty.getAccountNumber();
-                            counterpartyName = (counterparty.getStatus() == Account.AccountStatus.DELETED) ?
-                                    "(삭제된 계좌)" : counterparty.getOwnerName();
-                        } else {
-                            counterpartyNumber = "N/A";
-                            counterpartyName = "알 수 없음";
-                        }
-                    }
-
-                    return AccountDto.TransactionDetail.builder()
-                            .type(history.getType())
-                            .amount(history.getAmount())
-                            .fee(history.getFee())
-                            .transactedAt(history.getTransactedAt())
-                            .counterpartyAccountNumber(counterpartyNumber)
-                            .counterpartyOwnerName(counterpartyName)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<AccountDto.TransactionDetail> transactionDetails = toTransactionDetails(histories);
 
         return new AccountDto.HistoryResponse(accountNumber, transactionDetails);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AccountDto.HistoryPageResponse getTransactionHistoryPage(String accountNumber, String cursor, Integer size) {
+        int pageSize = (size == null) ? HISTORY_PAGE_DEFAULT_SIZE : size;
+        if (pageSize < 1 || pageSize > HISTORY_PAGE_MAX_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+        HistoryCursor historyCursor = (cursor == null || cursor.isBlank()) ? null : HistoryCursor.decode(cursor);
+
+        AccountReference account = findReference(accountNumber);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<TransactionHistory> histories =
+                transactionHistoryRepository.findPageByAccountId(account.getId(), historyCursor, pageSize + 1);
+
+        boolean hasNext = histories.size() > pageSize;
+        List<TransactionHistory> page = hasNext ? histories.subList(0, pageSize) : histories;
+        String nextCursor = hasNext ? HistoryCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return new AccountDto.HistoryPageResponse(accountNumber, toTransactionDetails(page), nextCursor, hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTransactionHistory(String accountNumber, Consumer<AccountDto.TransactionDetail> consumer) {
+        AccountReference account = findReference(accountNumber);
+
+        try (Stream<TransactionHistory> histories = transactionHistoryRepository.streamByAccountId(account.getId())) {
+            Iterator<TransactionHistory> iterator = histories.iterator();
+            List<TransactionHistory> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    toTransactionDetails(chunk).forEach(consumer);
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
     @Override
     @Transactional
     public AccountDto.DepositResponse deposit(AccountDto.DepositRequest request) {
-        Account preCheckAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        Money amount = Account.validateDepositAmount(request.getAmount());
+        LocalDateTime now = LocalDateTime.now();
 
-        Account account = lockAccountById(preCheckAccount.getId());
+        AccountReference account = findReference(request.getAccountNumber());
+
+        Money finalBalance;
+        if (account.isHotAccount()) {
+            // 수취 집중 계좌는 계좌 행 대신 슬롯에 적립
+            creditBalanceSlot(account, amount, now);
+            finalBalance = totalBalanceOf(account.getId());
+        } else {
+            // 조건부 UPDATE 한 문장으로 잔액 반영 (별도 행 락 조회 없음)
+            finalBalance = accountRepository.increaseBalance(account.getId(), amount, now)
+                    .orElseThrow(() -> new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND));
+        }
 
-        account.deposit(request.getAmount());
+        transactionHistoryRepository.save(TransactionHistory.deposit(account.getId(), amount, now));
 
-        accountRepository.save(account);
+        log.info("입금 성공: {} ({}원)", account.getAccountNumber(), amount);
 
-        TransactionHistory depositHistory = TransactionHistory.builder()
-                .accountId(account.getId())
-                .counterpartyAccountId(null)
-                .type(TransactionHistory.TransactionType.DEPOSIT)
-                .amount(request.getAmount())
-                .fee(BigDecimal.ZERO)
-                .transactedAt(LocalDateTime.now())
-                .build();
+        return AccountDto.DepositResponse.of(account.getAccountNumber(), finalBalance);
+    }
+
+    @Override
+    @Transactional
+    public AccountDto.BulkDepositResponse depositBulk(AccountDto.BulkDepositRequest request) {
+        List<AccountDto.DepositRequest> deposits = request.getDeposits();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 모든 계좌번호를 확인 (계좌 조회 캐시에 없는 계좌만 한 번의 IN 조회)
+        Set<String> accountNumbers = deposits.stream()
+                .map(AccountDto.DepositRequest::getAccountNumber)
+                .collect(Collectors.toSet());
+        Map<String, Long> accountIdsByNumber = accountReferenceCache.findAll(accountNumbers).values().stream()
+                .collect(Collectors.toMap(AccountReference::getAccountNumber, AccountReference::getId));
+
+        // 2. 건별 검증 후 계좌별 입금액 합산
+        List<AccountDto.BulkDepositFailure> failures = new ArrayList<>();
+        Map<Long, Money> amountsById = new HashMap<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<TransactionHistory> pendingHistories = new ArrayList<>();
+
+        for (int index = 0; index < deposits.size(); index++) {
+            AccountDto.DepositRequest deposit = deposits.get(index);
+            try {
+                Money amount = Account.validateDepositAmount(deposit.getAmount());
+                Long accountId = accountIdsByNumber.get(deposit.getAccountNumber());
+                if (accountId == null) {
+                    throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+                }
+
+                amountsById.merge(accountId, amount, Money::plus);
+                pendingIndexes.add(index);
+                pendingHistories.add(TransactionHistory.deposit(accountId, amount, now));
+            } catch (BusinessException e) {
+                failures.add(toBulkDepositFailure(index, deposit, e.getErrorCode(), e.getMessage()));
+            }
+        }
+
+        // 3. 잔액을 한 번의 UPDATE로 반영 (조회 이후 삭제된 계좌는 반영되지 않음)
+        Set<Long> updatedIds = accountRepository.increaseBalances(amountsById, now);
+
+        List<TransactionHistory> histories = new ArrayList<>(pendingHistories.size());
+        for (int i = 0; i < pendingHistories.size(); i++) {
+            TransactionHistory history = pendingHistories.get(i);
+            if (updatedIds.contains(history.getAccountId())) {
+                histories.add(history);
+            } else {
+                int index = pendingIndexes.get(i);
+                failures.add(toBulkDepositFailure(index, deposits.get(index),
+                        ErrorCode.ACCOUNT_NOT_FOUND, ErrorCode.ACCOUNT_NOT_FOUND.getMessage()));
+            }
+        }
 
-        transactionHistoryRepository.save(depositHistory);
+        // 4. 입금 내역을 JDBC 배치로 저장
+        transactionHistoryRepository.saveAll(histories);
 
-        log.info("입금 성공: {} ({}원)", account.getAccountNumber(), request.getAmount());
+        failures.sort(Comparator.comparingInt(AccountDto.BulkDepositFailure::getIndex));
+        log.info("일괄 입금 완료: 성공 {}건, 실패 {}건", histories.size(), failures.size());
 
-        return AccountDto.DepositResponse.from(account);
+        return new AccountDto.BulkDepositResponse(histories.size(), failures.size(), failures);
     }
 
     @Override
-    @Transactional
     public AccountDto.WithdrawResponse withdraw(AccountDto.WithdrawRequest request) {
-        BigDecimal amount = request.getAmount();
+        // 준비 단계 (트랜잭션 밖): 계좌 확인, 비밀번호 해시 검증, 한도 계산
+        Money amount = Account.validateWithdrawAmount(request.getAmount());
         LocalDateTime now = LocalDateTime.now();
 
-        Account preCheckAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+        AccountReference preCheckAccount = findReference(request.getAccountNumber());
 
-        if (!preCheckAccount.verifyPassword(request.getPassword())) {
+        if (!passwordHashingService.matches(preCheckAccount, request.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_ACCOUNT_PASSWORD);
         }
 
-        LocalDateTime twentyFourHoursAgo = now.minusHours(24);
-        List<TransactionHistory> recentWithdrawals =
-                transactionHistoryRepository.findByAccountIdAndTypeAndTransactedAtAfter(
-                        preCheckAccount.getId(),
-                        TransactionHistory.TransactionType.WITHDRAW,
-                        twentyFourHoursAgo
-                );
-        BigDecimal totalWithdrawnToday = recentWithdrawals.stream()
-                .map(TransactionHistory::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        if (totalWithdrawnToday.add(amount).compareTo(WITHDRAW_DAILY_LIMIT) > 0) {
-            throw new BusinessException(ErrorCode.WITHDRAW_DAILY_LIMIT_EXCEEDED);
+        Money totalWithdrawnToday = transactionUsageRepository.sumAmountAfter(
+                preCheckAccount.getId(),
+                TransactionHistory.TransactionType.WITHDRAW,
+                transactionPolicy.limitWindowStart(now)
+        );
+        transactionPolicy.checkDailyLimit(TransactionHistory.TransactionType.WITHDRAW, totalWithdrawnToday, amount);
+
+        Money finalBalance = writeTransactionRunner.execute("withdraw", () ->
+                withdrawInTransaction(preCheckAccount, amount, now));
+
+        log.info("출금 성공: {} ({}원)", preCheckAccount.getAccountNumber(), amount);
+
+        return AccountDto.WithdrawResponse.of(preCheckAccount.getAccountNumber(), finalBalance);
+    }
+
+    /**
+     * 사전 검증을 마친 출금의 잔액 변경과 거래 내역 저장만 수행하고 변경 후 잔액을 반환하는 헬퍼 메서드 (쓰기 트랜잭션 안에서 호출)
+     */
+    private Money withdrawInTransaction(AccountReference preCheckAccount, Money amount, LocalDateTime now) {
+        // 잔액이 충분한 경우에만 감소시키는 조건부 UPDATE 한 문장으로 반영 (별도 행 락 조회 없음)
+        Money finalBalance = accountRepository.decreaseBalance(preCheckAccount.getId(), amount, now)
+                .or(() -> decreaseBalanceWithSlots(preCheckAccount.getId(), amount, now))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INSUFFICIENT_FUNDS));
+
+        TransactionHistory savedWithdrawHistory = transactionHistoryRepository.save(
+                TransactionHistory.withdraw(preCheckAccount.getId(), amount, now));
+        transactionUsageRepository.accumulate(savedWithdrawHistory);
+
+        return finalBalance;
+    }
+
+    /**
+     * 거래 내역 목록을 상세 DTO로 변환하는 헬퍼 메서드
+     * 상대방 계좌는 한 번의 IN 조회로 일괄 조회합니다. (N+1 방지)
+     */
+    private List<AccountDto.TransactionDetail> toTransactionDetails(List<TransactionHistory> histories) {
+        Set<Long> counterpartyIds = histories.stream()
+                .map(TransactionHistory::getCounterpartyAccountId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Account> counterparties = accountRepository.findAllByIds(counterpartyIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        return histories.stream()
+                .map(history -> AccountDto.TransactionDetail.of(history, counterparties.get(history.getCounterpartyAccountId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 수취 집중 계좌의 임의 슬롯에 금액을 적립하는 헬퍼 메서드
+     */
+    private void creditBalanceSlot(AccountReference hotAccount, Money amount, LocalDateTime now) {
+        if (!amount.isPositive()) {
+            throw new BusinessException(ErrorCode.INVALID_DEPOSIT_AMOUNT);
+        }
+        int slotNo = ThreadLocalRandom.current().nextInt(hotAccount.getSlotCount());
+
+        if (!accountBalanceSlotRepository.credit(hotAccount.getId(), slotNo, amount, now)) {
+            throw new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND);
         }
+    }
 
-        Account account = lockAccountById(preCheckAccount.getId());
+    /**
+     * 잔액 변경용으로 조회한 수취 집중 계좌의 본 잔액이 출금액보다 적으면 슬롯 잔액을 본 잔액으로 회수하는 헬퍼 메서드
+     */
+    private void prepareDebit(Account account, Money requiredAmount, LocalDateTime now) {
+        if (!account.isHotAccount() || !account.getBalance().isLessThan(requiredAmount)) {
+            return;
+        }
+        account.absorbSlotBalance(accountBalanceSlotRepository.drain(account.getId(), now));
+    }
 
-        account.withdraw(amount);
+    /**
+     * 조건부 잔액 감소가 반영되지 않았을 때(실패 시에만) 최신 계좌 상태를 조회하여,
+     * 수취 집중 계좌면 슬롯 잔액을 본 잔액으로 회수한 뒤 한 번 더 시도하는 헬퍼 메서드
+     */
+    private Optional<Money> decreaseBalanceWithSlots(Long id, Money amount, LocalDateTime now) {
+        Account account = accountRepository.findById(id)
+                .filter(found -> found.getStatus() == Account.AccountStatus.ACTIVE)
+                .orElseThrow(() -> new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND));
+        if (!account.isHotAccount()) {
+            return Optional.empty();
+        }
 
-        accountRepository.save(account);
+        Money drainedAmount = accountBalanceSlotRepository.drain(id, now);
+        if (!drainedAmount.isPositive()) {
+            return Optional.empty();
+        }
+        accountRepository.increaseBalance(id, drainedAmount, now);
+        return accountRepository.decreaseBalance(id, amount, now);
+    }
 
-        TransactionHistory withdrawHistory = TransactionHistory.builder()
-                .accountId(account.getId())
-                .counterpartyAccountId(null)
-                .type(TransactionHistory.TransactionType.WITHDRAW)
-                .amount(amount)
-                .fee(BigDecimal.ZERO)
-                .transactedAt(now)
-                .build();
+    /**
+     * 계좌번호로 'ACTIVE' 계좌의 참조를 조회하는 헬퍼 메서드 (계좌 조회 캐시 사용)
+     */
+    private AccountReference findReference(String accountNumber) {
+        return accountReferenceCache.find(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
 
-        transactionHistoryRepository.save(withdrawHistory);
+    /**
+     * 본 잔액과 슬롯 잔액을 합한 최신 잔액을 한 문장으로 조회하는 헬퍼 메서드 (수취 집중 계좌 응답용)
+     */
+    private Money totalBalanceOf(Long id) {
+        return accountBalanceSlotRepository.totalBalance(id);
+    }
 
-        log.info("출금 성공: {} ({}원)", account.getAccountNumber(), amount);
+    /**
+     * 일괄 처리에서 미리 락을 획득한 계좌 중 계좌번호에 해당하는 계좌를 찾는 헬퍼 메서드
+     */
+    private Account findLockedAccount(Map<Long, Account> lockedAccounts, Map<String, Long> accountIdsByNumber,
+                                      String accountNumber) {
+        Long id = accountIdsByNumber.get(accountNumber);
+        Account account = (id == null) ? null : lockedAccounts.get(id);
+        if (account == null) {
+            throw new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        return account;
+    }
 
-        return AccountDto.WithdrawResponse.from(account);
+    private AccountDto.BulkDepositFailure toBulkDepositFailure(int index, AccountDto.DepositRequest deposit,
+                                                               ErrorCode errorCode, String message) {
+        return AccountDto.BulkDepositFailure.builder()
+                .index(index)
+                .accountNumber(deposit.getAccountNumber())
+                .amount(deposit.getAmount())
+                .errorCode(errorCode.name())
+                .message(message)
+                .build();
     }
 
     /**
-     * ID로 'ACTIVE' 계좌를 조회하며 PESSIMISTIC_WRITE 락을 획득하는 헬퍼 메서드
+     * ID로 'ACTIVE' 계좌를 잔액 변경용으로 조회하는 헬퍼 메서드
+     * PESSIMISTIC: PESSIMISTIC_WRITE 락 획득 / OPTIMISTIC: 락 없이 조회 후 저장 시 @Version으로 충돌 감지
      */
     private Account lockAccountById(Long id) {
-        return accountRepository.findByIdWithLock(id)
+        Optional<Account> account = (LOCK_MODE == AccountLockMode.OPTIMISTIC)
+                ? accountRepository.findById(id).filter(found -> found.getStatus() == Account.AccountStatus.ACTIVE)
+                : accountRepository.findByIdWithLock(id);
+
+        return account
                 .orElseThrow(() -> new BusinessException("활성 상태의 계좌를 찾을 수 없습니다.", ErrorCode.ACCOUNT_NOT_FOUND));
     }
 
     /**
-     * 신규 계좌 번호를 생성하는 헬퍼 메서드
-     * (e.g., "110-123-456789")
+     * 여러 'ACTIVE' 계좌를 잔액 변경용으로 한 번에 조회하는 헬퍼 메서드 (PESSIMISTIC 모드는 id 순서로 락 획득)
+     */
+    private List<Account> lockAccountsByIds(Collection<Long> ids) {
+        if (LOCK_MODE == AccountLockMode.OPTIMISTIC) {
+            return accountRepository.findAllByIds(ids).stream()
+                    .filter(account -> account.getStatus() == Account.AccountStatus.ACTIVE)
+                    .collect(Collectors.toList());
+        }
+        return accountRepository.findAllByIdsWithLock(ids);
+    }
+
+    /**
+     * 계좌 번호로 여러 'ACTIVE' 계좌를 잔액 변경용으로 한 번에 조회하는 헬퍼 메서드 (PESSIMISTIC 모드는 한 문장에서 id 순서로 락 획득)
      */
-    private String generateNewAccountNumber() {
-        // "110" + "-" + 3자리 + "-" + 6자리
-        String middlePart = String.format("%03d", random.nextInt(1000));
-        String lastPart = String.format("%06d", random.nextInt(1000000));
+    private Map<String, Account> lockAccountsByNumbers(Collection<String> accountNumbers) {
+        List<Account> accounts = (LOCK_MODE == AccountLockMode.OPTIMISTIC)
+                ? accountRepository.findAllByAccountNumbers(accountNumbers)
+                : accountRepository.findAllByAccountNumbersWithLock(accountNumbers);
 
-        return ACCOUNT_PREFIX + "-" + middlePart + "-" + lastPart;
+        return accounts.stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
     }
 }
\ No newline at end of file
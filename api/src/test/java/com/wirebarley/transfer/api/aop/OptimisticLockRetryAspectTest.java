@@ -0,0 +1,188 @@
+package com.wirebarley.transfer.api.aop;
+
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OptimisticLockRetryAspect의 재시도 예산과 트랜잭션 Advisor와의 순서 검증
+ * 실제 자동 프록시(@Transactional + @RetryOnOptimisticLock)에 시작/롤백 횟수를 세는 트랜잭션 매니저를 연결합니다.
+ */
+@SpringJUnitConfig
+@TestPropertySource(properties = {
+        "account.lock.mode=OPTIMISTIC",
+        "account.lock.optimistic.max-attempts=3",
+        "account.lock.optimistic.initial-backoff-ms=1",
+        "account.lock.optimistic.max-backoff-ms=1"
+})
+class OptimisticLockRetryAspectTest {
+
+    @Autowired
+    private ConflictingService conflictingService;
+
+    @Autowired
+    private CountingTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        conflictingService.reset();
+        transactionManager.reset();
+    }
+
+    @Test
+    @DisplayName("충돌이 계속되면 max-attempts번만 시도한 뒤 CONCURRENT_UPDATE_CONFLICT로 실패한다")
+    void it_caps_retries_at_max_attempts() {
+        conflictingService.failTimes(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> conflictingService.update())
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+
+        assertThat(conflictingService.attempts()).isEqualTo(3);
+        assertThat(meterRegistry.get("account.lock.optimistic.exhausted").tag("operation", "update").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도마다 이전 트랜잭션을 롤백하고 새 트랜잭션으로 실행한다")
+    void it_runs_each_attempt_in_new_transaction() {
+        conflictingService.failTimes(2);
+
+        assertThat(conflictingService.update()).isEqualTo(3);
+
+        assertThat(transactionManager.begun.get()).isEqualTo(3);
+        assertThat(transactionManager.rolledBack.get()).isEqualTo(2);
+        assertThat(transactionManager.committed.get()).isEqualTo(1);
+        assertThat(conflictingService.transactions())
+                .hasSize(3)
+                .doesNotHaveDuplicates();
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CountingTransactionManager transactionManager() {
+            return new CountingTransactionManager();
+        }
+
+        @Bean
+        OptimisticLockRetryAspect optimisticLockRetryAspect(MeterRegistry meterRegistry) {
+            return new OptimisticLockRetryAspect(meterRegistry);
+        }
+
+        @Bean
+        ConflictingService conflictingService() {
+            return new ConflictingService();
+        }
+    }
+
+    /**
+     * 지정한 횟수만큼 낙관적 락 충돌을 일으키는 서비스 (시도마다 현재 트랜잭션을 기록)
+     */
+    public static class ConflictingService {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<Object> transactions = new ArrayList<>();
+        private int failTimes;
+
+        @Transactional
+        @RetryOnOptimisticLock
+        public int update() {
+            int attempt = attempts.incrementAndGet();
+            transactions.add(TransactionAspectSupport.currentTransactionStatus());
+            if (attempt <= failTimes) {
+                throw new OptimisticLockingFailureException("conflict " + attempt);
+            }
+            return attempt;
+        }
+
+        public void failTimes(int failTimes) {
+            this.failTimes = failTimes;
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+
+        public List<Object> transactions() {
+            return transactions;
+        }
+
+        public void reset() {
+            attempts.set(0);
+            transactions.clear();
+            failTimes = 0;
+        }
+    }
+
+    /**
+     * 트랜잭션 시작/커밋/롤백 횟수만 세는 트랜잭션 매니저
+     */
+    static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicInteger begun = new AtomicInteger();
+        private final AtomicInteger committed = new AtomicInteger();
+        private final AtomicInteger rolledBack = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun.incrementAndGet();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack.incrementAndGet();
+        }
+
+        void reset() {
+            begun.set(0);
+            committed.set(0);
+            rolledBack.set(0);
+        }
+    }
+}
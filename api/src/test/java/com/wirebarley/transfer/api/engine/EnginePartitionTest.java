@@ -0,0 +1,78 @@
+package com.wirebarley.transfer.api.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnginePartitionTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private EnginePartition partition;
+
+    @BeforeEach
+    void setUp() {
+        partition = new EnginePartition(0, 10, 10, batch -> { }, batch -> { });
+        partition.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        partition.shutdown(5_000);
+    }
+
+    @Test
+    @DisplayName("파티션이 꺼내기 전에 취소된 명령은 실행되지 않는다")
+    void it_skips_cancelled_command() throws Exception {
+        blockPartition();
+        AtomicInteger executions = new AtomicInteger();
+        EngineCommand<Integer> command = new EngineCommand<>(batch -> executions.incrementAndGet(), false);
+        assertThat(partition.offer(command)).isTrue();
+
+        assertThat(command.cancel()).isTrue();
+        release.countDown();
+
+        EngineCommand<Boolean> marker = new EngineCommand<>(batch -> true, true);
+        assertThat(partition.offer(marker)).isTrue();
+        assertThat(marker.getFuture().get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executions.get()).isZero();
+        assertThat(command.getFuture().isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행을 시작한 명령은 취소할 수 없다")
+    void it_does_not_cancel_started_command() throws Exception {
+        EngineCommand<Boolean> command = blockPartition();
+
+        assertThat(command.cancel()).isFalse();
+        release.countDown();
+        assertThat(command.getFuture().get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * release 전까지 파티션 스레드를 점유하는 명령을 실행시킵니다.
+     */
+    private EngineCommand<Boolean> blockPartition() throws InterruptedException {
+        EngineCommand<Boolean> blocker = new EngineCommand<>(batch -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }, true);
+        assertThat(partition.offer(blocker)).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        return blocker;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wirebarley.transfer.api.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyHttpServletRequestTest {
+
+    private static final byte[] BODY = "{\"amount\":1000}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("비동기 읽기 리스너를 등록하면 보관한 본문을 읽을 수 있음과 읽기 완료를 차례로 알린다")
+    void it_notifies_read_listener() {
+        ServletInputStream inputStream = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), BODY).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("dataAvailable");
+                while (inputStream.isReady() && !inputStream.isFinished()) {
+                    read.write(inputStream.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("allDataRead");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("dataAvailable", "allDataRead");
+        assertThat(read.toByteArray()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("리스너에서 발생한 IOException은 onError로 전달된다")
+    void it_passes_io_exception_to_on_error() {
+        ServletInputStream inputStream = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), BODY).getInputStream();
+        List<Throwable> errors = new ArrayList<>();
+
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("읽기 실패");
+            }
+
+            @Override
+            public void onAllDataRead() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        assertThat(errors).singleElement().isInstanceOf(IOException.class);
+    }
+}
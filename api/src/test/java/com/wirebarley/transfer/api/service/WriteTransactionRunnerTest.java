@@ -0,0 +1,90 @@
+package com.wirebarley.transfer.api.service;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * WriteTransactionRunner의 커넥션 점유 시간(account.tx.connection.hold) 측정 구간 검증
+ * 가짜 시계(MockClock)를 트랜잭션 시작(풀 대기), 작업, 커밋/롤백 단계마다 정해진 만큼 진행시켜
+ * 풀 대기는 빠지고 작업부터 커밋/롤백 완료까지만 기록되는지 확인합니다.
+ */
+class WriteTransactionRunnerTest {
+
+    private static final Duration POOL_WAIT = Duration.ofSeconds(5);
+    private static final Duration WORK = Duration.ofMillis(100);
+    private static final Duration COMPLETION = Duration.ofMillis(30);
+
+    private final MockClock clock = new MockClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    private final WriteTransactionRunner runner = new WriteTransactionRunner(new ClockAdvancingTransactionManager(), meterRegistry);
+
+    @Test
+    @DisplayName("커밋되면 커넥션 풀 대기를 빼고 작업부터 커밋 완료까지를 기록한다")
+    void it_records_hold_time_without_pool_wait() {
+        String result = runner.execute("transfer", () -> {
+            clock.add(WORK);
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        Timer timer = holdTimer("transfer");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo((double) WORK.plus(COMPLETION).toMillis());
+    }
+
+    @Test
+    @DisplayName("작업이 실패해 롤백되면 롤백 완료(afterCompletion) 시점에 한 번 기록한다")
+    void it_stops_timer_after_rollback() {
+        assertThatThrownBy(() -> runner.run("withdraw", () -> {
+            clock.add(WORK);
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = holdTimer("withdraw");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo((double) WORK.plus(COMPLETION).toMillis());
+    }
+
+    private Timer holdTimer(String operation) {
+        return meterRegistry.get("account.tx.connection.hold").tag("operation", operation).timer();
+    }
+
+    /**
+     * 시작 시 커넥션 풀 대기, 커밋/롤백 시 완료 시간만큼 시계를 진행시키는 트랜잭션 매니저
+     */
+    private class ClockAdvancingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            clock.add(POOL_WAIT);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            clock.add(COMPLETION);
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            clock.add(COMPLETION);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.wirebarley.transfer.benchmark;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 도메인의 생성과 입금/출금(Money 연산) 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private static final Money AMOUNT = Money.of(15_000);
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private Account account;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        account = newAccount(Money.of(1_000_000_000_000L));
+    }
+
+    @Benchmark
+    public Account create() {
+        return newAccount(Money.of(50_000));
+    }
+
+    @Benchmark
+    public Money deposit() {
+        account.deposit(AMOUNT);
+        return account.getBalance();
+    }
+
+    /**
+     * 잔액이 줄지 않도록 같은 금액을 입금한 뒤 출금합니다.
+     */
+    @Benchmark
+    public Money depositThenWithdraw() {
+        account.deposit(AMOUNT);
+        account.withdraw(AMOUNT);
+        return account.getBalance();
+    }
+
+    private Account newAccount(Money balance) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("110-123-456789")
+                .ownerName("김철수")
+                .balance(balance)
+                .createdAt(now)
+                .updatedAt(now)
+                .passwordHash("hash")
+                .salt("salt")
+                .version(0L)
+                .build();
+    }
+}
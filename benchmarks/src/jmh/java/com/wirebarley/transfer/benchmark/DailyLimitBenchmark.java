@@ -0,0 +1,55 @@
+package com.wirebarley.transfer.benchmark;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.domain.transaction.TransactionPolicy;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 준비 단계의 수수료/1일 한도 계산 비용 (서비스가 사용하는 TransactionPolicy)
+ * 24시간 사용량 합산은 DB(TransactionUsageRepository.sumAmountAfter, 버킷 합계 + 첫 시간 거래 내역 합계)에서
+ * 한 번의 SUM으로 처리되므로 여기서는 측정하지 않고, 합산된 사용량을 받은 뒤의 계산만 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DailyLimitBenchmark {
+
+    private static final Money AMOUNT = Money.of(15_000);
+
+    private final TransactionPolicy transactionPolicy = new TransactionPolicy(new BigDecimal("0.01"), 3_000_000, 1_000_000);
+    private final LocalDateTime now = LocalDateTime.now();
+    private final Money usedWithinLimit = Money.of(1_000_000);
+    private final Money usedAtLimit = Money.of(3_000_000);
+
+    @Benchmark
+    public void transferWithinLimit(Blackhole blackhole) {
+        blackhole.consume(transactionPolicy.limitWindowStart(now));
+        transactionPolicy.checkDailyLimit(TransactionHistory.TransactionType.TRANSFER_SEND, usedWithinLimit, AMOUNT);
+        blackhole.consume(transactionPolicy.transferFee(AMOUNT));
+    }
+
+    /**
+     * 한도 초과 시 예외 생성 비용 (스택 트레이스 포함)
+     */
+    @Benchmark
+    public BusinessException transferLimitExceeded() {
+        try {
+            transactionPolicy.checkDailyLimit(TransactionHistory.TransactionType.TRANSFER_SEND, usedAtLimit, AMOUNT);
+            return null;
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.wirebarley.transfer.benchmark;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.infra.entity.account.AccountMapper;
+import com.wirebarley.transfer.infra.entity.transaction.TransactionHistoryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA 어댑터의 도메인 <-> 엔티티 변환 왕복 비용 (저장/조회마다 호출)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final TransactionHistoryMapper transactionHistoryMapper = new TransactionHistoryMapper();
+
+    private Account account;
+    private TransactionHistory history;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        account = Account.builder()
+                .id(1L)
+                .accountNumber("110-123-456789")
+                .ownerName("김철수")
+                .balance(Money.of(50_000))
+                .createdAt(now)
+                .updatedAt(now)
+                .passwordHash("hash")
+                .salt("salt")
+                .version(0L)
+                .build();
+        history = TransactionHistory.builder()
+                .id(1L)
+                .accountId(1L)
+                .counterpartyAccountId(2L)
+                .type(TransactionHistory.TransactionType.TRANSFER_SEND)
+                .amount(Money.of(15_000))
+                .fee(Money.of(150))
+                .transactedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public Account accountRoundTrip() {
+        return AccountMapper.toDomain(AccountMapper.toEntity(account));
+    }
+
+    @Benchmark
+    public TransactionHistory transactionHistoryRoundTrip() {
+        return transactionHistoryMapper.toDomain(transactionHistoryMapper.toEntity(history));
+    }
+}
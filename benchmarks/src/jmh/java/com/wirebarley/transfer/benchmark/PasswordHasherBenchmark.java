@@ -0,0 +1,55 @@
+package com.wirebarley.transfer.benchmark;
+
+import com.wirebarley.transfer.core.common.security.Argon2PasswordHasher;
+import com.wirebarley.transfer.core.common.security.PasswordHasher;
+import com.wirebarley.transfer.core.common.security.Pbkdf2PasswordHasher;
+import com.wirebarley.transfer.core.common.security.SecurityUtil;
+import com.wirebarley.transfer.core.common.security.Sha256PasswordHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 알고리즘별 검증 비용 비교 (application.properties 기본 파라미터 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordHasherBenchmark {
+
+    @Param({"sha256", "pbkdf2", "argon2"})
+    private String algorithm;
+
+    private PasswordHasher hasher;
+    private String salt;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        hasher = switch (algorithm) {
+            case Sha256PasswordHasher.ALGORITHM -> new Sha256PasswordHasher();
+            case Pbkdf2PasswordHasher.ALGORITHM -> new Pbkdf2PasswordHasher(600_000);
+            case Argon2PasswordHasher.ALGORITHM -> new Argon2PasswordHasher(19_456, 2, 1);
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+        salt = SecurityUtil.generateSalt();
+        passwordHash = hasher.hash("1234", salt);
+    }
+
+    @Benchmark
+    public String hash() {
+        return hasher.hash("1234", salt);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return SecurityUtil.verifyPassword("1234", salt, passwordHash);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wirebarley.transfer.benchmark;
+
+import com.wirebarley.transfer.core.common.security.SecurityUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Salt 생성과 기본(SHA-256) 비밀번호 해시 비용 (계좌 생성/비밀번호 검증마다 호출)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityUtilBenchmark {
+
+    private String salt;
+
+    @Setup
+    public void setUp() {
+        salt = SecurityUtil.generateSalt();
+    }
+
+    @Benchmark
+    public String generateSalt() {
+        return SecurityUtil.generateSalt();
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return SecurityUtil.hashPassword("1234", salt);
+    }
+}
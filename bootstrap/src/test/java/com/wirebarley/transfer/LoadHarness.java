@@ -0,0 +1,135 @@
+package com.wirebarley.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 비교 테스트(@Tag("load"))의 공통 실행기
+ * - 모드(프로필)별로 애플리케이션을 띄우고, 고정 개수의 작업 스레드로 연산을 반복하며 처리량/p50/p99를 계산합니다.
+ * - 결과는 표준 출력 대신 JMH의 results.json과 같이 JSON 파일로 저장합니다. (build/results/load/테스트클래스.json)
+ */
+public final class LoadHarness {
+
+    private static final String RESULTS_DIR = System.getProperty("load.results-dir", "build/results/load");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final String benchmark;
+    private final List<LoadResult> results = new ArrayList<>();
+
+    public LoadHarness(Class<?> testClass) {
+        this.benchmark = testClass.getSimpleName();
+    }
+
+    /**
+     * 지정한 프로필로 애플리케이션을 띄웁니다. (profile이 null이면 기본 프로필)
+     */
+    public static ConfigurableApplicationContext startApplication(WebApplicationType webApplicationType, String profile,
+                                                                  String... properties) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TransferServiceApplication.class)
+                .web(webApplicationType)
+                .properties(properties);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        return builder.run();
+    }
+
+    /**
+     * 워밍업 후 operations번 연산을 실행하고 결과를 기록합니다. (연산이 false를 반환하면 실패로 집계)
+     */
+    public LoadResult run(String mode, int threads, int warmupOperations, int operations, Operation operation)
+            throws Exception {
+        measure(mode, threads, warmupOperations, operation);
+        LoadResult result = measure(mode, threads, operations, operation);
+        results.add(result);
+        return result;
+    }
+
+    /**
+     * 기록된 결과를 JSON 배열로 저장합니다.
+     */
+    public Path writeResults() throws IOException {
+        Path file = Path.of(RESULTS_DIR, benchmark + ".json");
+        Files.createDirectories(file.getParent());
+        objectMapper.writeValue(file.toFile(), results);
+        return file;
+    }
+
+    private LoadResult measure(String mode, int threads, int operations, Operation operation) throws Exception {
+        long[] latencies = new long[operations];
+        AtomicInteger nextOperation = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+
+        long startedAt = System.nanoTime();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = nextOperation.getAndIncrement(); i < operations; i = nextOperation.getAndIncrement()) {
+                    long requestedAt = System.nanoTime();
+                    boolean succeeded = operation.run(random);
+                    latencies[i] = System.nanoTime() - requestedAt;
+                    if (!succeeded) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        return new LoadResult(benchmark + "." + mode, mode, threads, operations, failed.get(), elapsedSeconds,
+                operations / elapsedSeconds, percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99));
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    public interface Operation {
+        boolean run(ThreadLocalRandom random) throws Exception;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class LoadResult {
+
+        private final String benchmark;
+        private final String mode;
+        private final int threads;
+        private final int operations;
+        private final int failed;
+        private final double elapsedSeconds;
+        private final double throughput; // 초당 연산 수 (실패 포함)
+        private final double p50Millis;
+        private final double p99Millis;
+    }
+}
@@ -0,0 +1,119 @@
+package com.wirebarley.transfer;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA 어댑터(기본)와 JDBC 어댑터(jdbc 프로필)의 송금 경로 저장소 호출 처리량/p99 비교
+ * 웹 계층 없이 저장소만 호출하며 (계좌 2건 잠금 조회 -> 잔액 저장 2건 -> 거래 내역 2건 저장) 을 한 트랜잭션으로 반복합니다.
+ * 로컬 PostgreSQL(application.properties)을 사용합니다.
+ * 실행: ./gradlew :bootstrap:loadTest --tests '*RepositoryAdapterLoadTest'
+ * 결과: bootstrap/build/results/load/RepositoryAdapterLoadTest.json
+ */
+@Tag("load")
+class RepositoryAdapterLoadTest {
+
+    private static final int ACCOUNTS = 200;
+    private static final int THREADS = 8;
+    private static final int WARMUP_OPERATIONS = 2_000;
+    private static final int OPERATIONS = 20_000;
+
+    private final LoadHarness harness = new LoadHarness(RepositoryAdapterLoadTest.class);
+
+    @Test
+    @DisplayName("송금 경로 저장소 호출: JPA 어댑터 vs JDBC 어댑터 (처리량, p99)")
+    void compareAdapters() throws Exception {
+        runWithProfile(null);
+        runWithProfile("jdbc");
+        harness.writeResults();
+    }
+
+    private void runWithProfile(String profile) throws Exception {
+        try (ConfigurableApplicationContext context =
+                     LoadHarness.startApplication(WebApplicationType.NONE, profile, "spring.jpa.show-sql=false")) {
+            AccountRepository accountRepository = context.getBean(AccountRepository.class);
+            TransactionHistoryRepository transactionHistoryRepository = context.getBean(TransactionHistoryRepository.class);
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            List<String> accounts = createAccounts(accountRepository, transactionTemplate);
+            harness.run(profile == null ? "jpa" : profile, THREADS, WARMUP_OPERATIONS, OPERATIONS, random -> {
+                int from = random.nextInt(accounts.size());
+                int to = (from + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+                transactionTemplate.executeWithoutResult(status ->
+                        transfer(accountRepository, transactionHistoryRepository, accounts.get(from), accounts.get(to)));
+                return true;
+            });
+        }
+    }
+
+    private List<String> createAccounts(AccountRepository accountRepository, TransactionTemplate transactionTemplate) {
+        String prefix = "LT-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> accountNumbers = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ACCOUNTS; i++) {
+                Account account = accountRepository.save(Account.builder()
+                        .accountNumber(prefix + i)
+                        .ownerName("고객-" + i)
+                        .balance(Money.of(1_000_000_000L))
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .passwordHash("load-test")
+                        .salt("load-test")
+                        .build());
+                accountNumbers.add(account.getAccountNumber());
+            }
+        });
+        return accountNumbers;
+    }
+
+    private void transfer(AccountRepository accountRepository, TransactionHistoryRepository transactionHistoryRepository,
+                          String fromAccountNumber, String toAccountNumber) {
+        Money amount = Money.of(100);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Account> locked = accountRepository.findAllByAccountNumbersWithLock(List.of(fromAccountNumber, toAccountNumber));
+        Account fromAccount = locked.get(0).getAccountNumber().equals(fromAccountNumber) ? locked.get(0) : locked.get(1);
+        Account toAccount = (fromAccount == locked.get(0)) ? locked.get(1) : locked.get(0);
+
+        fromAccount.withdraw(amount);
+        toAccount.deposit(amount);
+        accountRepository.save(fromAccount);
+        accountRepository.save(toAccount);
+
+        transactionHistoryRepository.saveAll(List.of(
+                TransactionHistory.builder()
+                        .accountId(fromAccount.getId())
+                        .counterpartyAccountId(toAccount.getId())
+                        .type(TransactionHistory.TransactionType.TRANSFER_SEND)
+                        .amount(amount)
+                        .fee(Money.ZERO)
+                        .transactedAt(now)
+                        .build(),
+                TransactionHistory.builder()
+                        .accountId(toAccount.getId())
+                        .counterpartyAccountId(fromAccount.getId())
+                        .type(TransactionHistory.TransactionType.TRANSFER_RECEIVE)
+                        .amount(amount)
+                        .fee(Money.ZERO)
+                        .transactedAt(now)
+                        .build()));
+    }
+}
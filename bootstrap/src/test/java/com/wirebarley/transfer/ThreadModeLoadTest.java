@@ -0,0 +1,82 @@
+package com.wirebarley.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 스레드 풀)와 가상 스레드 모드의 HTTP 송금 처리량/p99 지연 비교
+ * 두 모드로 애플리케이션을 차례로 띄워 로컬 PostgreSQL(application.properties)에 같은 부하를 보냅니다.
+ * 실행: ./gradlew -PjavaVersion=21 :bootstrap:loadTest --tests '*ThreadModeLoadTest'
+ * 결과: bootstrap/build/results/load/ThreadModeLoadTest.json
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final int ACCOUNTS = 200;
+    private static final int CONCURRENCY = 400; // 동시에 요청을 보내는 클라이언트 수 (Tomcat 기본 스레드 200개보다 많게)
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final String PASSWORD = "1234";
+
+    private final LoadHarness harness = new LoadHarness(ThreadModeLoadTest.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @Test
+    @DisplayName("높은 동시성 송금: 플랫폼 스레드 vs 가상 스레드 (처리량, p99)")
+    void compareThreadModes() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드 모드는 Java 21 이상에서 실행됩니다. (-PjavaVersion=21)");
+
+        runWithMode(null);
+        runWithMode("virtual");
+        harness.writeResults();
+    }
+
+    private void runWithMode(String profile) throws Exception {
+        try (ConfigurableApplicationContext context =
+                     LoadHarness.startApplication(WebApplicationType.SERVLET, profile, "server.port=0")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/accounts";
+
+            List<String> accounts = new ArrayList<>();
+            for (int i = 0; i < ACCOUNTS; i++) {
+                String body = String.format("{\"ownerName\":\"고객-%d\",\"password\":\"%s\",\"initialBalance\":10000000}", i, PASSWORD);
+                HttpResponse<String> response = post(baseUrl, body);
+                assertThat(response.statusCode()).isEqualTo(201);
+                accounts.add(objectMapper.readTree(response.body()).get("accountNumber").asText());
+            }
+
+            harness.run(profile == null ? "platform" : profile, CONCURRENCY, WARMUP_REQUESTS, REQUESTS, random -> {
+                int from = random.nextInt(accounts.size());
+                int to = (from + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+                String body = String.format("{\"fromAccountNumber\":\"%s\",\"password\":\"%s\",\"toAccountNumber\":\"%s\",\"amount\":100}",
+                        accounts.get(from), PASSWORD, accounts.get(to));
+                return post(baseUrl + "/transfer", body).statusCode() == 200;
+            });
+        }
+    }
+
+    private HttpResponse<String> post(String url, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -14,8 +14,10 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 /**
@@ -153,6 +155,58 @@ class AccountControllerTest {
 
     @Test
     @Order(6)
+    @DisplayName("계좌 A의 거래 내역을 2건씩 페이지 조회한다 (커서 기반)")
+    void getTransactionHistoryPage() {
+        String nextCursor = RestAssured.given()
+                .pathParam("accountNumber", userAAccountNumber)
+                .queryParam("size", 2)
+                .when()
+                .get("/api/v1/accounts/{accountNumber}/history/page")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("transactions", hasSize(2))
+                .body("transactions[0].type", equalTo("WITHDRAW"))
+                .body("transactions[1].type", equalTo("TRANSFER_SEND"))
+                .body("hasNext", equalTo(true))
+                .body("nextCursor", notNullValue())
+                .extract().path("nextCursor");
+
+        RestAssured.given()
+                .pathParam("accountNumber", userAAccountNumber)
+                .queryParam("size", 2)
+                .queryParam("cursor", nextCursor)
+                .when()
+                .get("/api/v1/accounts/{accountNumber}/history/page")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("transactions", hasSize(1))
+                .body("transactions[0].type", equalTo("DEPOSIT"))
+                .body("hasNext", equalTo(false))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("계좌 A의 거래 내역을 CSV로 내보낸다 (헤더 + 3건)")
+    void exportTransactionHistory_csv() {
+        String body = RestAssured.given()
+                .pathParam("accountNumber", userAAccountNumber)
+                .queryParam("format", "csv")
+                .when()
+                .get("/api/v1/accounts/{accountNumber}/history/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith("text/csv"))
+                .extract().asString();
+
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).startsWith("WITHDRAW,10000,");
+        assertThat(lines[3]).startsWith("DEPOSIT,100000,");
+    }
+
+    @Test
+    @Order(8)
     @DisplayName("계좌 A 삭제 시 잔액이 남아있어 실패한다 (400 Bad Request)")
     void deleteAccount_fail_balance_not_zero() {
         AccountDto.DeleteRequest request = new AccountDto.DeleteRequest(userAPassword);
@@ -168,6 +222,137 @@ class AccountControllerTest {
                 .body("code", equalTo("BALANCE_NOT_ZERO"));
     }
 
+    @Test
+    @Order(9)
+    @DisplayName("일괄 송금(PARTIAL)은 실패한 건만 제외하고 나머지를 처리한다")
+    void transferBatch_partial() {
+        AccountDto.BatchTransferRequest request = new AccountDto.BatchTransferRequest(
+                AccountDto.BatchMode.PARTIAL,
+                List.of(
+                        new AccountDto.TransferRequest(userAAccountNumber, userAPassword, userBAccountNumber, new BigDecimal("1000")),
+                        new AccountDto.TransferRequest(userAAccountNumber, userAPassword, userAAccountNumber, new BigDecimal("1000")),
+                        new AccountDto.TransferRequest(userBAccountNumber, "0000", userAAccountNumber, new BigDecimal("1000"))
+                )
+        );
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post("/api/v1/accounts/transfer/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("successCount", equalTo(1))
+                .body("failureCount", equalTo(2))
+                .body("results[0].success", equalTo(true))
+                .body("results[1].errorCode", equalTo("SELF_TRANSFER_NOT_ALLOWED"))
+                .body("results[2].errorCode", equalTo("INVALID_ACCOUNT_PASSWORD"));
+
+        // A: 59700 - 1000 - 10 = 58690, B: 80000 + 1000 = 81000
+        checkBalance(userAAccountNumber, 58690);
+        checkBalance(userBAccountNumber, 81000);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("일괄 입금은 존재하지 않는 계좌만 실패로 응답하고 나머지를 반영한다")
+    void depositBulk() {
+        AccountDto.BulkDepositRequest request = new AccountDto.BulkDepositRequest(List.of(
+                new AccountDto.DepositRequest(userAAccountNumber, new BigDecimal("1000")),
+                new AccountDto.DepositRequest("999-999-999999", new BigDecimal("1000")),
+                new AccountDto.DepositRequest(userBAccountNumber, new BigDecimal("2000"))
+        ));
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post("/api/v1/accounts/deposit/bulk")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("successCount", equalTo(2))
+                .body("failureCount", equalTo(1))
+                .body("failures[0].index", equalTo(1))
+                .body("failures[0].errorCode", equalTo("ACCOUNT_NOT_FOUND"));
+
+        checkBalance(userAAccountNumber, 59690);
+        checkBalance(userBAccountNumber, 83000);
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("잔액 분산 슬롯이 설정된 계좌는 슬롯에 적립된 금액까지 합산하여 잔액을 조회/출금한다")
+    void balanceSlots() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .pathParam("accountNumber", userBAccountNumber)
+                .body(new AccountDto.BalanceSlotRequest(userBPassword, 4))
+                .when()
+                .post("/api/v1/accounts/{accountNumber}/balance-slots")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("slotCount", equalTo(4));
+
+        // A -> B 송금 10000 (B는 슬롯에 적립): A: 59690 - 10000 - 100 = 49590, B: 83000 + 10000 = 93000
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(new AccountDto.TransferRequest(userAAccountNumber, userAPassword, userBAccountNumber, new BigDecimal("10000")))
+                .when()
+                .post("/api/v1/accounts/transfer")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("toAccountBalance", equalTo(93000));
+
+        checkBalance(userAAccountNumber, 49590);
+        checkBalance(userBAccountNumber, 93000);
+
+        // 본 잔액(83000)보다 큰 출금은 슬롯 잔액을 회수하여 처리: B: 93000 - 90000 = 3000
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(new AccountDto.WithdrawRequest(userBAccountNumber, userBPassword, new BigDecimal("90000")))
+                .when()
+                .post("/api/v1/accounts/withdraw")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("finalBalance", equalTo(3000));
+
+        checkBalance(userBAccountNumber, 3000);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("같은 Idempotency-Key로 재요청하면 저장된 응답을 반환하고 다시 입금하지 않는다")
+    void deposit_idempotencyKey() {
+        String idempotencyKey = "deposit-" + System.nanoTime();
+        AccountDto.DepositRequest request = new AccountDto.DepositRequest(userBAccountNumber, new BigDecimal("1000"));
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(request)
+                    .when()
+                    .post("/api/v1/accounts/deposit")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("finalBalance", equalTo(4000));
+        }
+
+        // 같은 키를 다른 요청에 재사용하면 422
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(new AccountDto.DepositRequest(userBAccountNumber, new BigDecimal("2000")))
+                .when()
+                .post("/api/v1/accounts/deposit")
+                .then()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .body("code", equalTo("IDEMPOTENCY_KEY_REUSED"));
+
+        // B: 3000 + 1000 (한 번만 반영)
+        checkBalance(userBAccountNumber, 4000);
+    }
+
     private void checkBalance(String accountNumber, int expectedBalance) {
         RestAssured.given()
                 .pathParam("accountNumber", accountNumber)
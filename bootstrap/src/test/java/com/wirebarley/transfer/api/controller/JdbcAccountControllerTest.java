@@ -0,0 +1,12 @@
+package com.wirebarley.transfer.api.controller;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * AccountControllerTest의 시나리오를 jdbc 프로필(JdbcTemplate 저장소 어댑터)로 다시 실행
+ * 송금/출금의 version 조건부 UPDATE ... RETURNING, 일괄 송금의 거래 내역 배치 INSERT,
+ * 커서 페이지 조회, CSV 내보내기 스트리밍이 JPA 어댑터와 같은 응답을 내는지 검증합니다.
+ */
+@ActiveProfiles("jdbc")
+class JdbcAccountControllerTest extends AccountControllerTest {
+}
@@ -0,0 +1,151 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.api.service.impl.AccountServiceImpl;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 송금 엔진(account.engine.enabled=true)의 정합성 테스트
+ * 엔진의 메모리 잔액과 DB(AccountServiceImpl로 직접 조회) 잔액이 항상 같은지 함께 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "account.engine.enabled=true")
+class EngineAccountServiceTest {
+
+    private static final String PASSWORD = "1234";
+    private static final int ACCOUNTS = 10;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS = 2_000;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long TRANSFER_AMOUNT = 1_000L;
+    private static final long TRANSFER_FEE = 10L; // 수수료율 1%
+
+    @Autowired
+    private EngineAccountService engineService;
+
+    @Autowired
+    private AccountServiceImpl transactionalService;
+
+    @Autowired
+    private TransferEngine transferEngine;
+
+    @Test
+    @DisplayName("동시 송금 후 전체 잔액 + 수수료 합계가 보존되고, 메모리 상태를 비운 뒤(재시작)에도 DB에서 같은 잔액으로 복구된다")
+    void it_conserves_total_balance_under_concurrent_transfers() throws InterruptedException {
+        List<String> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(createAccount("엔진-" + i, INITIAL_BALANCE));
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < TRANSFERS; i++) {
+            executor.submit(() -> {
+                int from = ThreadLocalRandom.current().nextInt(ACCOUNTS);
+                int to = (from + 1 + ThreadLocalRandom.current().nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                try {
+                    engineService.transfer(new AccountDto.TransferRequest(
+                            accounts.get(from), PASSWORD, accounts.get(to), BigDecimal.valueOf(TRANSFER_AMOUNT)));
+                    succeeded.incrementAndGet();
+                } catch (BusinessException ignored) {
+                    // 실패한 송금은 잔액에 반영되지 않아야 하므로 합계 검증으로 확인
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+
+        long expectedTotal = ACCOUNTS * INITIAL_BALANCE - succeeded.get() * TRANSFER_FEE;
+        assertThat(succeeded.get()).isPositive();
+        assertThat(sumBalances(accounts, true)).isEqualTo(expectedTotal);
+        assertThat(sumBalances(accounts, false)).isEqualTo(expectedTotal);
+
+        // 재시작과 같이 메모리 상태를 모두 버리고 DB에서 다시 적재
+        List<Long> before = balances(accounts);
+        transferEngine.executeWithAllPartitionsPaused(() -> null);
+        assertThat(balances(accounts)).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    @DisplayName("잔액보다 큰 출금과 수수료 포함 금액이 잔액을 넘는 송금은 거절되고 잔액이 바뀌지 않는다")
+    void it_rejects_overdraft() {
+        String account = createAccount("엔진-잔액부족", 5_000L);
+        String receiver = createAccount("엔진-수취", 0L);
+
+        assertThatThrownBy(() -> engineService.withdraw(
+                new AccountDto.WithdrawRequest(account, PASSWORD, new BigDecimal("6000"))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INSUFFICIENT_FUNDS);
+        assertThatThrownBy(() -> engineService.transfer(
+                new AccountDto.TransferRequest(account, PASSWORD, receiver, new BigDecimal("5000"))))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INSUFFICIENT_FUNDS);
+
+        assertThat(engineService.getAccountBalance(account).getBalance()).isEqualTo(5_000L);
+        assertThat(transactionalService.getAccountBalance(account).getBalance()).isEqualTo(5_000L);
+        assertThat(engineService.getAccountBalance(receiver).getBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("모든 파티션을 멈추고 실행하는 일괄 송금/일괄 입금 뒤에도 엔진 잔액이 DB와 같고, 이후 명령이 정상 처리된다")
+    void it_reloads_state_after_paused_operations() {
+        String from = createAccount("엔진-일괄-보내는", 100_000L);
+        String to = createAccount("엔진-일괄-받는", 0L);
+
+        // 엔진 메모리에 적재된 상태에서 일괄 처리 실행
+        engineService.deposit(new AccountDto.DepositRequest(from, new BigDecimal("10000")));
+
+        AccountDto.BatchTransferResponse batchResponse = engineService.transferBatch(new AccountDto.BatchTransferRequest(
+                AccountDto.BatchMode.ALL_OR_NOTHING, List.of(
+                        new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("10000")),
+                        new AccountDto.TransferRequest(from, PASSWORD, to, new BigDecimal("20000")))));
+        assertThat(batchResponse.getSuccessCount()).isEqualTo(2);
+
+        AccountDto.BulkDepositResponse bulkResponse = engineService.depositBulk(new AccountDto.BulkDepositRequest(List.of(
+                new AccountDto.DepositRequest(to, new BigDecimal("5000")),
+                new AccountDto.DepositRequest(to, new BigDecimal("5000")))));
+        assertThat(bulkResponse.getSuccessCount()).isEqualTo(2);
+
+        // 110,000 - (30,000 + 수수료 300)
+        assertThat(engineService.getAccountBalance(from).getBalance()).isEqualTo(79_700L);
+        assertThat(engineService.getAccountBalance(to).getBalance()).isEqualTo(40_000L);
+
+        engineService.transfer(new AccountDto.TransferRequest(to, PASSWORD, from, new BigDecimal("1000")));
+        assertThat(engineService.getAccountBalance(from).getBalance()).isEqualTo(80_700L);
+        assertThat(transactionalService.getAccountBalance(from).getBalance()).isEqualTo(80_700L);
+        assertThat(transactionalService.getAccountBalance(to).getBalance()).isEqualTo(38_990L);
+    }
+
+    private String createAccount(String ownerName, long balance) {
+        return engineService.createAccount(
+                new AccountDto.CreateRequest(ownerName, PASSWORD, BigDecimal.valueOf(balance))).getAccountNumber();
+    }
+
+    private long sumBalances(List<String> accounts, boolean engine) {
+        return accounts.stream()
+                .mapToLong(account -> (engine ? engineService : transactionalService).getAccountBalance(account).getBalance())
+                .sum();
+    }
+
+    private List<Long> balances(List<String> accounts) {
+        return accounts.stream()
+                .map(account -> engineService.getAccountBalance(account).getBalance())
+                .toList();
+    }
+}
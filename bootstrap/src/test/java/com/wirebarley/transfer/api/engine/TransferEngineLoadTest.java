@@ -0,0 +1,79 @@
+package com.wirebarley.transfer.api.engine;
+
+import com.wirebarley.transfer.LoadHarness;
+import com.wirebarley.transfer.api.service.impl.AccountServiceImpl;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 송금 엔진과 기존 @Transactional 경로(AccountServiceImpl)의 처리량 비교
+ * 한 수취 계좌(가맹점)로 송금이 몰리는 상황을 재현하며, 두 경로는 서로 다른 계좌를 사용합니다.
+ * 실행: ./gradlew :bootstrap:loadTest
+ * 결과: bootstrap/build/results/load/TransferEngineLoadTest.json
+ */
+@Tag("load")
+@SpringBootTest(properties = "account.engine.enabled=true")
+class TransferEngineLoadTest {
+
+    private static final int SENDERS = 50;
+    private static final int THREADS = 32;
+    private static final int WARMUP_TRANSFERS = 500;
+    private static final int TRANSFERS = 5_000;
+    private static final String PASSWORD = "1234";
+
+    @Autowired
+    private AccountServiceImpl transactionalService;
+
+    @Autowired
+    private EngineAccountService engineService;
+
+    private final LoadHarness harness = new LoadHarness(TransferEngineLoadTest.class);
+
+    @Test
+    @DisplayName("수취 집중 송금 처리량: @Transactional 경로 vs 송금 엔진")
+    void compareThroughput() throws Exception {
+        runTransfers("transactional", transactionalService);
+        runTransfers("engine", engineService);
+        harness.writeResults();
+    }
+
+    private void runTransfers(String name, AccountService service) throws Exception {
+        String merchant = service.createAccount(
+                new AccountDto.CreateRequest("가맹점-" + name, PASSWORD, BigDecimal.ZERO)).getAccountNumber();
+        List<String> senders = new ArrayList<>();
+        for (int i = 0; i < SENDERS; i++) {
+            senders.add(service.createAccount(
+                    new AccountDto.CreateRequest("고객-" + name + "-" + i, PASSWORD, new BigDecimal("10000000")))
+                    .getAccountNumber());
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        harness.run(name, THREADS, WARMUP_TRANSFERS, TRANSFERS, random -> {
+            String sender = senders.get(random.nextInt(SENDERS));
+            try {
+                service.transfer(new AccountDto.TransferRequest(sender, PASSWORD, merchant, new BigDecimal("100")));
+                succeeded.incrementAndGet();
+                return true;
+            } catch (BusinessException e) {
+                return false;
+            }
+        });
+
+        // 성공한 송금(워밍업 포함)만큼 정확히 적립되어야 함
+        long merchantBalance = service.getAccountBalance(merchant).getBalance();
+        assertThat(merchantBalance).isEqualTo(succeeded.get() * 100L);
+    }
+}
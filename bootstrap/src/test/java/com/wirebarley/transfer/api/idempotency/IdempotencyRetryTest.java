@@ -0,0 +1,105 @@
+package com.wirebarley.transfer.api.idempotency;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * 처리 결과를 알 수 없는 요청(504 응답 후 선점 유지, 커밋 직후 서버 종료 등)의 재시도 검증
+ * 선점 후 시간이 지나도(in-progress-timeout-seconds, 만료 시각 경과) 같은 키는 다시 실행되지 않아야 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class IdempotencyRetryTest {
+
+    private static final String DEPOSIT_PATH = "/api/v1/accounts/deposit";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    @DisplayName("시간 초과로 선점이 남은 키는 오래되어도 재시도가 409로 거절되고 입금이 다시 실행되지 않는다")
+    void it_does_not_rerun_timed_out_request_after_stale_window() throws Exception {
+        String accountNumber = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"ownerName\":\"재시도 테스트\",\"password\":\"1234\",\"initialBalance\":10000}")
+                .when()
+                .post("/api/v1/accounts")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().path("accountNumber");
+
+        // 이틀 전 첫 요청이 504(ENGINE_TIMEOUT)로 응답되어 선점만 남은 상황 (만료 시각도 지남)
+        String idempotencyKey = "timed-out-" + System.nanoTime();
+        String body = "{\"accountNumber\":\"" + accountNumber + "\",\"amount\":5000}";
+        LocalDateTime claimedAt = LocalDateTime.now().minusDays(2);
+        jdbcTemplate.update("""
+                        INSERT INTO idempotency_keys (idempotency_key, request_hash, status, created_at, expires_at)
+                        VALUES (?, ?, 'IN_PROGRESS', ?, ?)
+                        """, idempotencyKey, requestHash(body), Timestamp.valueOf(claimedAt),
+                Timestamp.valueOf(claimedAt.plusHours(24)));
+
+        for (int retry = 0; retry < 2; retry++) {
+            RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .body(body)
+                    .when()
+                    .post(DEPOSIT_PATH)
+                    .then()
+                    .statusCode(HttpStatus.CONFLICT.value())
+                    .body("code", equalTo("IDEMPOTENCY_REQUEST_IN_PROGRESS"));
+        }
+
+        // 정리 작업도 결과 확인 전의 선점은 지우지 않음
+        idempotencyStore.purgeExpired();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM idempotency_keys WHERE idempotency_key = ?", String.class, idempotencyKey))
+                .isEqualTo("IN_PROGRESS");
+
+        // 재시도로 입금이 실행되지 않음
+        RestAssured.given()
+                .pathParam("accountNumber", accountNumber)
+                .when()
+                .get("/api/v1/accounts/{accountNumber}/balance")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("balance", equalTo(10000));
+    }
+
+    /**
+     * IdempotencyFilter와 같은 방식의 요청 해시 (메서드 + 경로 + 본문)
+     */
+    private String requestHash(String body) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(("POST " + DEPOSIT_PATH + "\n").getBytes(StandardCharsets.UTF_8));
+        digest.update(body.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,99 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.domain.account.AccountReference;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌 조회 캐시(AccountReferenceCache)의 커밋 후 제거 검증
+ * 캐시에 있으면 'ACTIVE'로 보므로, 참조를 바꾸는 변경(삭제, 잔액 분산 슬롯 설정)은 커밋 후 캐시에서 빠져야 하고
+ * 롤백된 변경은 캐시를 건드리지 않아야 합니다. (비밀번호 변경 기능은 없음)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountReferenceCacheTest {
+
+    private static final String PASSWORD = "1234";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountReferenceCache accountReferenceCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("계좌를 삭제하면 커밋 후 캐시에서 제거되어 거래 내역 조회가 404(ACCOUNT_NOT_FOUND)로 끝난다")
+    void it_invalidates_deleted_account() {
+        String accountNumber = createAccount(0);
+        assertThat(accountReferenceCache.find(accountNumber)).isPresent();
+
+        accountService.deleteAccount(accountNumber, new AccountDto.DeleteRequest(PASSWORD));
+
+        assertThat(accountReferenceCache.find(accountNumber)).isEmpty();
+        assertThatThrownBy(() -> accountService.getTransactionHistory(accountNumber))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("잔액 분산 슬롯을 설정하면 커밋 후 캐시에서 제거되어 다음 조회에 슬롯 개수가 반영된다")
+    void it_invalidates_account_with_new_slots() {
+        String accountNumber = createAccount(10_000);
+        AccountReference before = accountReferenceCache.find(accountNumber).orElseThrow();
+        assertThat(before.isHotAccount()).isFalse();
+
+        accountService.enableBalanceSlots(accountNumber, new AccountDto.BalanceSlotRequest(PASSWORD, 4));
+
+        AccountReference after = accountReferenceCache.find(accountNumber).orElseThrow();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getSlotCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("커밋 후 제거를 등록한 트랜잭션이 롤백되면 캐시는 그대로이고, 커밋 전에도 제거되지 않는다")
+    void it_keeps_cache_on_rollback() {
+        String accountNumber = createAccount(10_000);
+        AccountReference cached = accountReferenceCache.find(accountNumber).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            accountReferenceCache.invalidateAfterCommit(accountNumber);
+            assertThat(accountReferenceCache.find(accountNumber)).containsSame(cached);
+            status.setRollbackOnly();
+        });
+
+        assertThat(accountReferenceCache.find(accountNumber)).containsSame(cached);
+    }
+
+    @Test
+    @DisplayName("잔액이 남아 삭제가 실패(롤백)하면 캐시는 그대로이다")
+    void it_keeps_cache_when_delete_fails() {
+        String accountNumber = createAccount(10_000);
+        AccountReference cached = accountReferenceCache.find(accountNumber).orElseThrow();
+
+        assertThatThrownBy(() -> accountService.deleteAccount(accountNumber, new AccountDto.DeleteRequest(PASSWORD)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BALANCE_NOT_ZERO);
+
+        assertThat(accountReferenceCache.find(accountNumber)).containsSame(cached);
+    }
+
+    private String createAccount(long balance) {
+        return accountService.createAccount(
+                new AccountDto.CreateRequest("캐시 테스트", PASSWORD, BigDecimal.valueOf(balance))).getAccountNumber();
+    }
+}
@@ -0,0 +1,78 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.service.AccountService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 페이지 조회의 쿼리 수 검증 (Hibernate Statistics)
+ * 상대 계좌가 몇 개든 페이지 조회 1건 + 상대 계좌 IN 조회 1건으로 끝나야 합니다. (상대 계좌별 조회 N+1 방지)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HistoryPageQueryCountTest {
+
+    private static final String PASSWORD = "1234";
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("상대 계좌가 2개인 페이지와 8개인 페이지 모두 2개의 쿼리로 조회된다")
+    void it_reads_history_page_with_fixed_query_count() {
+        String fewCounterparties = createAccountWithTransfers(2);
+        String manyCounterparties = createAccountWithTransfers(8);
+
+        assertThat(historyPageStatements(fewCounterparties, 2)).isEqualTo(2);
+        assertThat(historyPageStatements(manyCounterparties, 8)).isEqualTo(2);
+    }
+
+    /**
+     * 페이지 조회 한 번에 실행된 JDBC 문장 수 (계좌 조회 캐시는 미리 채워 둠)
+     */
+    private long historyPageStatements(String accountNumber, int counterparties) {
+        AccountDto.HistoryPageResponse warmUp = accountService.getTransactionHistoryPage(accountNumber, null, 20);
+        assertThat(warmUp.getTransactions())
+                .filteredOn(transaction -> transaction.getType() == TransactionHistory.TransactionType.TRANSFER_SEND)
+                .hasSize(counterparties)
+                .extracting(AccountDto.TransactionDetail::getCounterpartyOwnerName)
+                .doesNotContainNull();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        accountService.getTransactionHistoryPage(accountNumber, null, 20);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 서로 다른 상대 계좌 수만큼 송금한 계좌를 만듭니다.
+     */
+    private String createAccountWithTransfers(int counterparties) {
+        String accountNumber = createAccount("내역-본인", 1_000_000);
+        for (int i = 0; i < counterparties; i++) {
+            String counterparty = createAccount("내역-상대-" + i, 0);
+            accountService.transfer(new AccountDto.TransferRequest(
+                    accountNumber, PASSWORD, counterparty, BigDecimal.valueOf(1_000)));
+        }
+        return accountNumber;
+    }
+
+    private String createAccount(String ownerName, long balance) {
+        return accountService.createAccount(
+                new AccountDto.CreateRequest(ownerName, PASSWORD, BigDecimal.valueOf(balance))).getAccountNumber();
+    }
+}
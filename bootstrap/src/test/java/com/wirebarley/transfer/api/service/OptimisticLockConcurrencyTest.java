@@ -0,0 +1,83 @@
+package com.wirebarley.transfer.api.service;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.dto.AccountDto;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import com.wirebarley.transfer.core.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 락 모드(account.lock.mode=OPTIMISTIC)에서 한 계좌에 동시 출금이 몰릴 때의 정합성 검증
+ * 재시도 예산(max-attempts)을 작게 두어 일부 요청이 CONCURRENT_UPDATE_CONFLICT(409)로 끝나도,
+ * 잔액과 거래 내역에는 성공한 출금만 정확히 한 번씩 반영되어야 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "account.lock.mode=OPTIMISTIC",
+        "account.lock.optimistic.max-attempts=2",
+        "account.lock.optimistic.max-backoff-ms=5"
+})
+class OptimisticLockConcurrencyTest {
+
+    private static final String PASSWORD = "1234";
+    private static final int WITHDRAWALS = 32;
+    private static final long INITIAL_BALANCE = 100_000L;
+    private static final long WITHDRAW_AMOUNT = 1_000L;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @DisplayName("동시 출금은 성공 또는 409로만 끝나고, 최종 잔액과 거래 내역은 성공한 출금 수와 일치한다")
+    void it_applies_each_successful_withdrawal_once() throws Exception {
+        String accountNumber = accountService.createAccount(new AccountDto.CreateRequest(
+                "낙관적 락", PASSWORD, BigDecimal.valueOf(INITIAL_BALANCE))).getAccountNumber();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WITHDRAWALS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WITHDRAWALS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    accountService.withdraw(new AccountDto.WithdrawRequest(
+                            accountNumber, PASSWORD, BigDecimal.valueOf(WITHDRAW_AMOUNT)));
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+                    conflicted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(); // 409 이외의 실패는 여기서 드러남
+        }
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isPositive();
+        assertThat(succeeded.get() + conflicted.get()).isEqualTo(WITHDRAWALS);
+        assertThat(accountService.getAccountBalance(accountNumber).getBalance())
+                .isEqualTo(INITIAL_BALANCE - succeeded.get() * WITHDRAW_AMOUNT);
+        assertThat(accountService.getTransactionHistory(accountNumber).getTransactions())
+                .filteredOn(transaction -> transaction.getType() == TransactionHistory.TransactionType.WITHDRAW)
+                .hasSize(succeeded.get());
+    }
+}
@@ -0,0 +1,96 @@
+package com.wirebarley.transfer.infra.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * V9 스키마에서 최신 버전까지의 transaction_usage 마이그레이션 검증 (V10, V11 기본키 교체 + V12 버킷 채우기)
+ * bootstrap의 application.properties와 같이 Flyway 잠금을 세션 단위(transactional-lock=false)로 설정하고,
+ * V10의 CREATE INDEX CONCURRENTLY가 잠금 트랜잭션을 기다리며 멈추지 않는지 제한 시간 안에 확인합니다.
+ */
+@Testcontainers
+class TransactionUsageMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    @Test
+    @DisplayName("V9에서 최신 버전으로 올리면 기본키에 INCLUDE가 없고 fillfactor 80이며, 최근 25시간 사용량 버킷이 거래 내역 합계로 채워진다")
+    void it_migrates_v9_usage_schema() {
+        flyway("9").migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        // 월 경계에 걸쳐도 25시간 전 거래가 들어갈 파티션
+        jdbcTemplate.execute("SELECT create_transaction_history_partition((LOCALTIMESTAMP - INTERVAL '2 days')::DATE)");
+        jdbcTemplate.update("""
+                INSERT INTO transaction_history (account_id, type, amount, fee, transacted_at) VALUES
+                    (1, 'WITHDRAW', 5000, 0, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '3 hours' + INTERVAL '10 minutes'),
+                    (1, 'WITHDRAW', 1000, 0, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '2 hours' + INTERVAL '10 minutes'),
+                    (1, 'WITHDRAW', 2000, 0, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '2 hours' + INTERVAL '20 minutes'),
+                    (1, 'TRANSFER_SEND', 7000, 70, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '1 hour'),
+                    (1, 'DEPOSIT', 9000, 0, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '1 hour'),
+                    (1, 'WITHDRAW', 4000, 0, date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '30 hours')
+                """);
+        // 버킷 도입 후 이미 누적된 버킷 (같은 시간의 거래 내역 합계와 같음)
+        jdbcTemplate.update("""
+                INSERT INTO transaction_usage (account_id, type, bucket_start, amount)
+                VALUES (1, 'WITHDRAW', date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '2 hours', 3000)
+                """);
+
+        assertTimeoutPreemptively(Duration.ofMinutes(2), () -> flyway(null).migrate());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT pg_get_indexdef('transaction_usage_pkey'::regclass)", String.class))
+                .contains("(account_id, type, bucket_start)")
+                .doesNotContain("INCLUDE");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT array_to_string(reloptions, ',') FROM pg_class WHERE relname = 'transaction_usage'", String.class))
+                .contains("fillfactor=80");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('transaction_usage_pkey_new') IS NULL", Boolean.class))
+                .isTrue();
+
+        assertThat(bucket(jdbcTemplate, "WITHDRAW", 3)).isEqualTo(5000L);
+        assertThat(bucket(jdbcTemplate, "WITHDRAW", 2)).isEqualTo(3000L); // 이미 누적된 버킷은 두 번 더해지지 않음
+        assertThat(bucket(jdbcTemplate, "TRANSFER_SEND", 1)).isEqualTo(7000L);
+        assertThat(bucket(jdbcTemplate, "DEPOSIT", 1)).isNull();
+        assertThat(bucket(jdbcTemplate, "WITHDRAW", 30)).isNull();
+    }
+
+    private Long bucket(JdbcTemplate jdbcTemplate, String type, int hoursAgo) {
+        return jdbcTemplate.query("""
+                        SELECT amount FROM transaction_usage
+                        WHERE account_id = 1 AND type = ?
+                          AND bucket_start = date_trunc('hour', LOCALTIMESTAMP) - make_interval(hours => ?)
+                        """,
+                rs -> rs.next() ? rs.getLong("amount") : null, type, hoursAgo);
+    }
+
+    /**
+     * target이 null이면 최신 버전까지 적용합니다.
+     */
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
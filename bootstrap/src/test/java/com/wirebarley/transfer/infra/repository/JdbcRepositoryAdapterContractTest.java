@@ -0,0 +1,10 @@
+package com.wirebarley.transfer.infra.repository;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * jdbc 프로필 (JdbcAccountRepositoryImpl, JdbcTransactionHistoryRepositoryImpl)
+ */
+@ActiveProfiles("jdbc")
+class JdbcRepositoryAdapterContractTest extends RepositoryAdapterContractTest {
+}
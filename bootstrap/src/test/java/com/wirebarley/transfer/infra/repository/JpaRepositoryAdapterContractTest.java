@@ -0,0 +1,7 @@
+package com.wirebarley.transfer.infra.repository;
+
+/**
+ * 기본 프로필 (AccountRepositoryImpl, TransactionHistoryRepositoryImpl)
+ */
+class JpaRepositoryAdapterContractTest extends RepositoryAdapterContractTest {
+}
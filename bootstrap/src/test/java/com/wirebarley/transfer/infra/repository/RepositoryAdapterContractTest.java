@@ -0,0 +1,131 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌/거래 내역 저장소 포트의 계약 테스트 (JPA 어댑터와 JDBC 어댑터가 같은 테스트를 통과해야 함)
+ * 하위 클래스는 프로필만 지정합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class RepositoryAdapterContractTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("읽은 시점의 version으로만 갱신되고, 이미 갱신된 계좌를 이전 version으로 저장하면 낙관적 락 충돌이 발생한다")
+    void it_updates_only_with_current_version() {
+        Account created = inTransaction(() -> accountRepository.save(newAccount(10000)));
+        Account loaded = accountRepository.findById(created.getId()).orElseThrow();
+
+        loaded.deposit(Money.of(5000));
+        inTransaction(() -> accountRepository.save(loaded));
+
+        Account updated = accountRepository.findById(created.getId()).orElseThrow();
+        assertThat(updated.getBalance()).isEqualTo(Money.of(15000));
+        assertThat(updated.getVersion()).isEqualTo(loaded.getVersion() + 1);
+
+        // loaded는 갱신 전 version을 그대로 가지고 있음
+        loaded.deposit(Money.of(1000));
+        assertThatThrownBy(() -> inTransaction(() -> accountRepository.save(loaded)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(accountRepository.findById(created.getId()).orElseThrow().getBalance()).isEqualTo(Money.of(15000));
+    }
+
+    @Test
+    @DisplayName("일괄 저장한 거래 내역은 모두 ID가 발급되고, 커서 페이지 조회와 스트리밍이 (거래 시각, ID) 내림차순으로 같은 결과를 낸다")
+    void it_saves_histories_in_batch_and_reads_them_latest_first() {
+        Long accountId = inTransaction(() -> accountRepository.save(newAccount(0))).getId();
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(10);
+
+        // 같은 시각의 내역이 섞여 있어도 ID로 순서가 정해지는지 확인
+        List<TransactionHistory> histories = List.of(
+                TransactionHistory.deposit(accountId, Money.of(100), base),
+                TransactionHistory.deposit(accountId, Money.of(200), base.plusMinutes(1)),
+                TransactionHistory.deposit(accountId, Money.of(300), base.plusMinutes(1)),
+                TransactionHistory.withdraw(accountId, Money.of(400), base.plusMinutes(2)),
+                TransactionHistory.deposit(accountId, Money.of(500), base.plusMinutes(3)));
+        List<TransactionHistory> saved = inTransaction(() -> transactionHistoryRepository.saveAll(histories));
+
+        assertThat(saved).hasSize(histories.size()).allSatisfy(history -> assertThat(history.getId()).isNotNull());
+        List<Long> expectedIds = saved.stream()
+                .sorted(Comparator.comparing(TransactionHistory::getTransactedAt)
+                        .thenComparing(TransactionHistory::getId).reversed())
+                .map(TransactionHistory::getId)
+                .collect(Collectors.toList());
+
+        List<Long> pagedIds = new ArrayList<>();
+        HistoryCursor cursor = null;
+        List<TransactionHistory> page;
+        do {
+            page = transactionHistoryRepository.findPageByAccountId(accountId, cursor, 2);
+            page.forEach(history -> pagedIds.add(history.getId()));
+            cursor = page.isEmpty() ? null : HistoryCursor.from(page.get(page.size() - 1));
+        } while (page.size() == 2);
+
+        List<Long> streamedIds = inReadOnlyTransaction(() -> {
+            try (Stream<TransactionHistory> stream = transactionHistoryRepository.streamByAccountId(accountId)) {
+                return stream.map(TransactionHistory::getId).collect(Collectors.toList());
+            }
+        });
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+        assertThat(streamedIds).containsExactlyElementsOf(expectedIds);
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private <T> T inReadOnlyTransaction(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private Account newAccount(long balance) {
+        LocalDateTime now = LocalDateTime.now();
+        return Account.builder()
+                .accountNumber(String.format("900-%03d-%06d",
+                        ThreadLocalRandom.current().nextInt(1000), ThreadLocalRandom.current().nextInt(1_000_000)))
+                .ownerName("계약 테스트")
+                .balance(Money.of(balance))
+                .passwordHash("hash")
+                .salt("salt")
+                .createdAt(now)
+                .updatedAt(now)
+                .status(Account.AccountStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시간 버킷 사용량 합계(버킷 합계 + 기준 시각이 걸친 첫 버킷의 거래 내역 합계)와 버킷 정리 검증
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TransactionUsageRepositoryTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionHistoryRepository transactionHistoryRepository;
+
+    @Autowired
+    private TransactionUsageRepository transactionUsageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("정각이 아닌 시각부터의 합계는 첫 버킷은 거래 내역에서 기준 시각 초과분만, 이후 버킷은 버킷 합계로 구하고, 창 밖 버킷을 지워도 같다")
+    void it_sums_edge_hour_from_history_and_later_hours_from_buckets() {
+        Long accountId = createAccount();
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(3);
+        LocalDateTime windowStart = hour.plusMinutes(30);
+
+        List<TransactionHistory> histories = List.of(
+                TransactionHistory.withdraw(accountId, Money.of(32_000), hour.minusMinutes(10)), // 이전 버킷
+                TransactionHistory.withdraw(accountId, Money.of(1_000), hour.plusMinutes(10)),   // 첫 버킷, 기준 시각 이전
+                TransactionHistory.withdraw(accountId, Money.of(2_000), windowStart),            // 기준 시각과 같음 (초과만 포함)
+                TransactionHistory.withdraw(accountId, Money.of(4_000), hour.plusMinutes(40)),   // 첫 버킷, 기준 시각 이후
+                TransactionHistory.withdraw(accountId, Money.of(8_000), hour.plusMinutes(65)),
+                TransactionHistory.withdraw(accountId, Money.of(16_000), hour.plusHours(2)),     // 버킷 시작 시각과 같음
+                TransactionHistory.deposit(accountId, Money.of(64_000), hour.plusMinutes(70)));  // 다른 거래유형
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                transactionUsageRepository.accumulateAll(transactionHistoryRepository.saveAll(histories)));
+
+        assertThat(transactionUsageRepository.sumAmountAfter(accountId, TransactionHistory.TransactionType.WITHDRAW, windowStart))
+                .isEqualTo(Money.of(28_000));
+
+        // 첫 버킷보다 먼저 시작한 버킷만 삭제되므로 합계는 그대로
+        assertThat(transactionUsageRepository.deleteBucketsBefore(hour)).isGreaterThanOrEqualTo(1);
+        assertThat(transactionUsageRepository.sumAmountAfter(accountId, TransactionHistory.TransactionType.WITHDRAW, windowStart))
+                .isEqualTo(Money.of(28_000));
+
+        // 삭제된 버킷(hour - 1h)은 더 이상 합산되지 않음
+        assertThat(transactionUsageRepository.sumAmountAfter(
+                accountId, TransactionHistory.TransactionType.WITHDRAW, hour.minusHours(2)))
+                .isEqualTo(Money.of(31_000));
+    }
+
+    private Long createAccount() {
+        LocalDateTime now = LocalDateTime.now();
+        return new TransactionTemplate(transactionManager).execute(status -> accountRepository.save(Account.builder()
+                .accountNumber(String.format("901-%03d-%06d",
+                        ThreadLocalRandom.current().nextInt(1000), ThreadLocalRandom.current().nextInt(1_000_000)))
+                .ownerName("사용량 테스트")
+                .balance(Money.ZERO)
+                .passwordHash("hash")
+                .salt("salt")
+                .createdAt(now)
+                .updatedAt(now)
+                .status(Account.AccountStatus.ACTIVE)
+                .build())).getId();
+    }
+}
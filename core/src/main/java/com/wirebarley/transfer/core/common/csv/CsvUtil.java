@@ -0,0 +1,32 @@
+package com.wirebarley.transfer.core.common.csv;
+
+/**
+ * 거래 내역 CSV 내보내기(서블릿/WebFlux 공용)의 필드 변환 유틸리티 클래스
+ */
+public final class CsvUtil {
+
+    private CsvUtil() {
+    }
+
+    /**
+     * 사용자 입력 값(소유주명 등)을 CSV 필드로 변환합니다.
+     * - 스프레드시트가 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작하면 앞에 '를 붙여 문자열로 취급되게 합니다. (CSV 수식 주입 방지)
+     * - 구분자, 따옴표, 줄바꿈(\n, \r)이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씁니다. (RFC 4180)
+     */
+    public static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if (isFormulaPrefix(value.charAt(0))) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static boolean isFormulaPrefix(char first) {
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
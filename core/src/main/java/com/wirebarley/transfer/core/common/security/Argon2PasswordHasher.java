@@ -0,0 +1,91 @@
+package com.wirebarley.transfer.core.common.security;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Argon2id 해시 (BouncyCastle)
+ * 형식: $argon2id$m={메모리 KB},t={반복 횟수},p={병렬도}${Base64 해시}
+ */
+public final class Argon2PasswordHasher implements PasswordHasher {
+
+    public static final String ALGORITHM = "argon2";
+
+    private static final String ID = PasswordHashes.PREFIX + "argon2id" + PasswordHashes.PREFIX;
+    private static final int HASH_LENGTH = 32;
+
+    private final int memoryKb;
+    private final int iterations;
+    private final int parallelism;
+
+    public Argon2PasswordHasher(int memoryKb, int iterations, int parallelism) {
+        if (memoryKb < 8 * parallelism || iterations < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("유효하지 않은 Argon2 파라미터입니다.");
+        }
+        this.memoryKb = memoryKb;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public String hash(String password, String salt) {
+        return ID + "m=" + memoryKb + ",t=" + iterations + ",p=" + parallelism + PasswordHashes.PREFIX
+                + derive(password, salt, memoryKb, iterations, parallelism);
+    }
+
+    @Override
+    public boolean supports(String passwordHash) {
+        return passwordHash.startsWith(ID);
+    }
+
+    @Override
+    public boolean matches(String password, String salt, String passwordHash) {
+        String[] parts = passwordHash.substring(ID.length()).split("\\$");
+        if (parts.length != 2) {
+            return false;
+        }
+
+        int storedMemoryKb = 0;
+        int storedIterations = 0;
+        int storedParallelism = 0;
+        for (String param : parts[0].split(",")) {
+            int value = Integer.parseInt(param.substring(2));
+            switch (param.charAt(0)) {
+                case 'm' -> storedMemoryKb = value;
+                case 't' -> storedIterations = value;
+                case 'p' -> storedParallelism = value;
+                default -> {
+                    return false;
+                }
+            }
+        }
+
+        String derived = derive(password, salt, storedMemoryKb, storedIterations, storedParallelism);
+        return PasswordHashes.constantTimeEquals(derived, parts[1]);
+    }
+
+    private static String derive(String password, String salt, int memoryKb, int iterations, int parallelism) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withSalt(PasswordHashes.decodeSalt(salt))
+                .withMemoryAsKB(memoryKb)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .build();
+
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+
+        byte[] hash = new byte[HASH_LENGTH];
+        generator.generateBytes(password.getBytes(StandardCharsets.UTF_8), hash);
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+}
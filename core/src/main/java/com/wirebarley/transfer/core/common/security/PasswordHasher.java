@@ -0,0 +1,28 @@
+package com.wirebarley.transfer.core.common.security;
+
+/**
+ * 비밀번호 해시 알고리즘 SPI
+ * 인코딩된 해시에 알고리즘과 파라미터가 포함되므로, 설정이 바뀌어도 기존 해시는 저장된 파라미터 그대로 검증됩니다.
+ */
+public interface PasswordHasher {
+
+    /**
+     * 알고리즘 식별자 (메트릭 태그, 설정 값으로 사용)
+     */
+    String algorithm();
+
+    /**
+     * 비밀번호와 Base64 Salt로 저장용 해시 문자열을 생성합니다.
+     */
+    String hash(String password, String salt);
+
+    /**
+     * 이 구현체가 생성한 형식의 해시인지 확인합니다.
+     */
+    boolean supports(String passwordHash);
+
+    /**
+     * 비밀번호가 저장된 해시와 일치하는지 상수 시간 비교로 확인합니다.
+     */
+    boolean matches(String password, String salt, String passwordHash);
+}
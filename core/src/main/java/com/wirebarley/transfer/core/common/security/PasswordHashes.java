@@ -0,0 +1,68 @@
+package com.wirebarley.transfer.core.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 저장된 해시 형식에 맞는 PasswordHasher를 찾아 검증하는 헬퍼
+ * 검증 파라미터는 해시 문자열에서 읽으므로, 여기 등록된 인스턴스의 생성 파라미터는 검증 결과에 영향을 주지 않습니다.
+ */
+public final class PasswordHashes {
+
+    static final String PREFIX = "$";
+
+    private static final List<PasswordHasher> VERIFIERS = List.of(
+            new Pbkdf2PasswordHasher(1),
+            new Argon2PasswordHasher(8, 1, 1),
+            new Sha256PasswordHasher()
+    );
+
+    private PasswordHashes() {
+    }
+
+    /**
+     * 설정 값으로 신규 해시 생성용 PasswordHasher를 만듭니다. (sha256 / pbkdf2 / argon2)
+     */
+    public static PasswordHasher forAlgorithm(String algorithm, int pbkdf2Iterations,
+                                              int argon2MemoryKb, int argon2Iterations, int argon2Parallelism) {
+        return switch (algorithm) {
+            case Sha256PasswordHasher.ALGORITHM -> new Sha256PasswordHasher();
+            case Pbkdf2PasswordHasher.ALGORITHM -> new Pbkdf2PasswordHasher(pbkdf2Iterations);
+            case Argon2PasswordHasher.ALGORITHM ->
+                    new Argon2PasswordHasher(argon2MemoryKb, argon2Iterations, argon2Parallelism);
+            default -> throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        };
+    }
+
+    public static boolean matches(String password, String salt, String passwordHash) {
+        return verifierOf(passwordHash).matches(password, salt, passwordHash);
+    }
+
+    /**
+     * 저장된 해시의 알고리즘 식별자 (메트릭 태그용)
+     */
+    public static String algorithmOf(String passwordHash) {
+        return verifierOf(passwordHash).algorithm();
+    }
+
+    private static PasswordHasher verifierOf(String passwordHash) {
+        return VERIFIERS.stream()
+                .filter(verifier -> verifier.supports(passwordHash))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 비밀번호 해시 형식입니다."));
+    }
+
+    static byte[] decodeSalt(String salt) {
+        try {
+            return Base64.getDecoder().decode(salt);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Salt 디코딩에 실패했습니다.", e);
+        }
+    }
+
+    static boolean constantTimeEquals(String expected, String actual) {
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+}
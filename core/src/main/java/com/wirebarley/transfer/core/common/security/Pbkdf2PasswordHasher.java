@@ -0,0 +1,65 @@
+package com.wirebarley.transfer.core.common.security;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 해시
+ * 형식: $pbkdf2-sha256${반복 횟수}${Base64 해시}
+ */
+public final class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    public static final String ALGORITHM = "pbkdf2";
+
+    private static final String ID = PasswordHashes.PREFIX + "pbkdf2-sha256" + PasswordHashes.PREFIX;
+    private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_LENGTH_BITS = 256;
+
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("PBKDF2 반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public String hash(String password, String salt) {
+        return ID + iterations + PasswordHashes.PREFIX + derive(password, salt, iterations);
+    }
+
+    @Override
+    public boolean supports(String passwordHash) {
+        return passwordHash.startsWith(ID);
+    }
+
+    @Override
+    public boolean matches(String password, String salt, String passwordHash) {
+        String[] parts = passwordHash.substring(ID.length()).split("\\$");
+        if (parts.length != 2) {
+            return false;
+        }
+        int storedIterations = Integer.parseInt(parts[0]);
+        return PasswordHashes.constantTimeEquals(derive(password, salt, storedIterations), parts[1]);
+    }
+
+    private static String derive(String password, String salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), PasswordHashes.decodeSalt(salt), iterations, KEY_LENGTH_BITS);
+        try {
+            byte[] key = SecretKeyFactory.getInstance(KEY_ALGORITHM).generateSecret(spec).getEncoded();
+            return Base64.getEncoder().withoutPadding().encodeToString(key);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 해시 생성에 실패했습니다.", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -1,47 +1,38 @@
 package com.wirebarley.transfer.core.common.security;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 
 /**
- * 비밀번호 암호화(SHA-256) 및 Salt 생성을 위한 유틸리티 클래스
+ * Salt 생성 및 기본(SHA-256) 비밀번호 해시를 위한 유틸리티 클래스
+ * 알고리즘 선택이 필요한 경우 PasswordHasher 구현체를 사용합니다.
  */
 public final class SecurityUtil {
 
     private static final int SALT_SIZE = 16;
-    private static final String HASH_ALGORITHM = "SHA-256";
+
+    // SecureRandom은 스레드 안전하므로 하나를 공유 (매 호출마다 생성/시드하는 비용 제거)
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final PasswordHasher DEFAULT_HASHER = new Sha256PasswordHasher();
 
     private SecurityUtil() {
     }
 
     public static String generateSalt() {
-        SecureRandom random = new SecureRandom();
         byte[] salt = new byte[SALT_SIZE];
-        random.nextBytes(salt);
+        RANDOM.nextBytes(salt);
 
         return Base64.getEncoder().encodeToString(salt);
     }
 
     public static String hashPassword(String password, String salt) {
-        try {
-            byte[] saltBytes = Base64.getDecoder().decode(salt);
-
-            MessageDigest md = MessageDigest.getInstance(HASH_ALGORITHM);
-
-            md.update(password.getBytes(StandardCharsets.UTF_8));
-            md.update(saltBytes);
-
-            byte[] hashedPassword = md.digest();
-
-            return Base64.getEncoder().encodeToString(hashedPassword);
+        return DEFAULT_HASHER.hash(password, salt);
+    }
 
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 암호화 알고리즘을 찾을 수 없습니다.", e);
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Salt 디코딩에 실패했습니다.", e);
-        }
+    /**
+     * 저장된 해시의 형식(SHA-256/PBKDF2/Argon2)에 맞는 알고리즘으로 비밀번호를 검증합니다.
+     */
+    public static boolean verifyPassword(String password, String salt, String passwordHash) {
+        return PasswordHashes.matches(password, salt, passwordHash);
     }
-}
\ No newline at end of file
+}
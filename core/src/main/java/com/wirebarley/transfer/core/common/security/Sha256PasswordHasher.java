@@ -0,0 +1,48 @@
+package com.wirebarley.transfer.core.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * SHA-256(비밀번호 + Salt) 해시 (기존 형식, 접두사 없는 Base64)
+ * MessageDigest는 스레드 안전하지 않으므로 스레드별로 하나씩 재사용합니다.
+ */
+public final class Sha256PasswordHasher implements PasswordHasher {
+
+    public static final String ALGORITHM = "sha256";
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 암호화 알고리즘을 찾을 수 없습니다.", e);
+        }
+    });
+
+    @Override
+    public String algorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public String hash(String password, String salt) {
+        MessageDigest md = DIGEST.get();
+        md.reset();
+        md.update(password.getBytes(StandardCharsets.UTF_8));
+        md.update(PasswordHashes.decodeSalt(salt));
+
+        return Base64.getEncoder().encodeToString(md.digest());
+    }
+
+    @Override
+    public boolean supports(String passwordHash) {
+        return !passwordHash.startsWith(PasswordHashes.PREFIX);
+    }
+
+    @Override
+    public boolean matches(String password, String salt, String passwordHash) {
+        return PasswordHashes.constantTimeEquals(hash(password, salt), passwordHash);
+    }
+}
@@ -1,11 +1,11 @@
 package com.wirebarley.transfer.core.domain.account;
 
 import com.wirebarley.transfer.core.common.security.SecurityUtil;
+import com.wirebarley.transfer.core.domain.money.Money;
 import com.wirebarley.transfer.core.exception.BusinessException;
 import com.wirebarley.transfer.core.exception.ErrorCode;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.AccessLevel;
@@ -29,7 +29,7 @@ public class Account {
     private Long id;
     private String accountNumber;
     private String ownerName;
-    private BigDecimal balance;
+    private Money balance;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private AccountStatus status;
@@ -37,24 +37,68 @@ public class Account {
     private String passwordHash;
     private String salt;
 
-    private static void validateAmount(BigDecimal amount, ErrorCode errorCode) {
+    private Long version;
+
+    private int slotCount; // 잔액 분산 슬롯 개수 (0이면 일반 계좌)
+
+    public static final int MIN_SLOT_COUNT = 2;
+    public static final int MAX_SLOT_COUNT = 64;
+
+    /**
+     * 요청 금액(BigDecimal)을 검증하고 정수 금액(Money)으로 변환합니다.
+     * null, 0 이하, 소수점 포함, long 범위를 넘는 금액은 모두 errorCode로 거절합니다.
+     */
+    private static Money validateAmount(BigDecimal amount, ErrorCode errorCode) {
         if (amount == null) {
             throw new BusinessException(errorCode);
         }
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (amount.signum() <= 0) {
             throw new BusinessException(errorCode);
         }
         if (amount.scale() > 0) {
             throw new BusinessException("금액은 소수점을 포함할 수 없습니다.", errorCode);
         }
+        try {
+            return Money.of(amount.longValueExact());
+        } catch (ArithmeticException e) {
+            throw new BusinessException("처리할 수 있는 금액 범위를 넘었습니다.", errorCode);
+        }
+    }
+
+    private static void validateAmount(Money amount, ErrorCode errorCode) {
+        if (amount == null || !amount.isPositive()) {
+            throw new BusinessException(errorCode);
+        }
+    }
+
+    public static Money validateDepositAmount(BigDecimal amount) {
+        return validateAmount(amount, ErrorCode.INVALID_DEPOSIT_AMOUNT);
+    }
+
+    public static Money validateWithdrawAmount(BigDecimal amount) {
+        return validateAmount(amount, ErrorCode.INVALID_WITHDRAW_AMOUNT);
+    }
+
+    /**
+     * 계좌 생성 요청의 초기 입금액을 정수 금액으로 변환합니다. (소수점 이하는 버림)
+     */
+    public static Money toInitialBalance(BigDecimal initialBalance) {
+        if (initialBalance == null) {
+            throw new BusinessException(ErrorCode.INVALID_INITIAL_BALANCE);
+        }
+        try {
+            return Money.from(initialBalance);
+        } catch (ArithmeticException e) {
+            throw new BusinessException(ErrorCode.INVALID_INITIAL_BALANCE);
+        }
     }
 
     @Builder
-    public Account(Long id, String accountNumber, String ownerName, BigDecimal balance,
+    public Account(Long id, String accountNumber, String ownerName, Money balance,
                    LocalDateTime createdAt, LocalDateTime updatedAt, AccountStatus status,
-                   String passwordHash, String salt) {
+                   String passwordHash, String salt, Long version, Integer slotCount) {
 
-        if (balance == null || balance.compareTo(BigDecimal.ZERO) < 0) {
+        if (balance == null || balance.isNegative()) {
             throw new BusinessException(ErrorCode.INVALID_INITIAL_BALANCE);
         }
         if (accountNumber == null || ownerName == null || passwordHash == null || salt == null) {
@@ -64,32 +108,60 @@ public class Account {
         this.id = id;
         this.accountNumber = accountNumber;
         this.ownerName = ownerName;
-        this.balance = balance.setScale(0, RoundingMode.DOWN);
+        this.balance = balance;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.status = (status == null) ? AccountStatus.ACTIVE : status;
         this.passwordHash = passwordHash;
         this.salt = salt;
+        this.version = version;
+        this.slotCount = (slotCount == null) ? 0 : slotCount;
+    }
+
+    /**
+     * 잔액 분산 슬롯을 사용하는 수취 집중(Hot) 계좌인지 여부
+     */
+    public boolean isHotAccount() {
+        return this.slotCount > 0;
+    }
+
+    /**
+     * 잔액 분산 슬롯을 활성화합니다. (슬롯 잔액 회수 없이 줄일 수 없으므로 증가만 허용)
+     */
+    public void enableBalanceSlots(int slotCount) {
+        if (slotCount < MIN_SLOT_COUNT || slotCount > MAX_SLOT_COUNT || slotCount < this.slotCount) {
+            throw new BusinessException(ErrorCode.INVALID_SLOT_COUNT);
+        }
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * 슬롯에서 회수한 잔액을 본 잔액으로 합칩니다.
+     */
+    public void absorbSlotBalance(Money drainedAmount) {
+        if (drainedAmount == null || drainedAmount.isNegative()) {
+            throw new IllegalArgumentException("회수한 슬롯 잔액은 0 이상이어야 합니다.");
+        }
+        this.balance = this.balance.plus(drainedAmount);
     }
 
     public boolean verifyPassword(String password) {
-        String hashed = SecurityUtil.hashPassword(password, this.salt);
-        return this.passwordHash.equals(hashed);
+        return SecurityUtil.verifyPassword(password, this.salt, this.passwordHash);
     }
 
-    public void withdraw(BigDecimal amount) {
+    public void withdraw(Money amount) {
         validateAmount(amount, ErrorCode.INVALID_WITHDRAW_AMOUNT);
 
-        if (this.balance.compareTo(amount) < 0) {
+        if (this.balance.isLessThan(amount)) {
             throw new BusinessException(ErrorCode.INSUFFICIENT_FUNDS);
         }
-        this.balance = this.balance.subtract(amount);
+        this.balance = this.balance.minus(amount);
     }
 
-    public void deposit(BigDecimal amount) {
+    public void deposit(Money amount) {
         validateAmount(amount, ErrorCode.INVALID_DEPOSIT_AMOUNT);
 
-        this.balance = this.balance.add(amount);
+        this.balance = this.balance.plus(amount);
     }
 
     @Override
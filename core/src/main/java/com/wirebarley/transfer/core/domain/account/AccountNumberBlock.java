@@ -0,0 +1,22 @@
+package com.wirebarley.transfer.core.domain.account;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * DB 시퀀스에서 예약한 계좌번호 순번 블록 [start, start + size)
+ * 블록 안의 순번은 예약한 인스턴스만 사용하므로 발급 시 중복 확인 쿼리가 필요 없습니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class AccountNumberBlock {
+
+    private final long start;
+    private final long size;
+
+    public long end() {
+        return start + size;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wirebarley.transfer.core.domain.account;
+
+/**
+ * 0 ~ 10^9-1 범위의 순번을 같은 범위의 다른 값으로 1:1 대응시키는 순열
+ * 2^30 범위(15비트 + 15비트)의 4라운드 Feistel 네트워크에 Cycle-walking을 적용하여,
+ * 결과가 10^9 이상이면 범위 안으로 들어올 때까지 다시 적용합니다. (평균 약 1.07회)
+ * 서로 다른 순번은 항상 서로 다른 값이 되므로, 연속 발급된 계좌번호도 임의 번호처럼 보이면서 중복되지 않습니다.
+ * 발급을 시작한 뒤에는 키를 바꾸면 안 됩니다. (이전 키로 발급된 번호와 충돌 가능)
+ */
+public final class AccountNumberPermutation {
+
+    public static final long DOMAIN_SIZE = 1_000_000_000L;
+
+    private static final int HALF_BITS = 15;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final int[] roundKeys = new int[ROUNDS];
+
+    public AccountNumberPermutation(long key) {
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            roundKeys[i] = (int) (z ^ (z >>> 31));
+        }
+    }
+
+    public long permute(long sequence) {
+        if (sequence < 0 || sequence >= DOMAIN_SIZE) {
+            throw new IllegalArgumentException("계좌번호 순번은 0 이상 " + DOMAIN_SIZE + " 미만이어야 합니다.");
+        }
+
+        long value = sequence;
+        do {
+            value = encrypt(value);
+        } while (value >= DOMAIN_SIZE);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        int left = (int) (value >>> HALF_BITS) & HALF_MASK;
+        int right = (int) value & HALF_MASK;
+
+        for (int roundKey : roundKeys) {
+            int next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << HALF_BITS) | right;
+    }
+
+    private static int round(int half, int roundKey) {
+        int h = (half ^ roundKey) * 0x9E3779B1;
+        h ^= h >>> 15;
+        h *= 0x85EBCA77;
+        h ^= h >>> 13;
+        return h & HALF_MASK;
+    }
+}
@@ -0,0 +1,48 @@
+package com.wirebarley.transfer.core.domain.account;
+
+import com.wirebarley.transfer.core.common.security.SecurityUtil;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 계좌번호로 계좌를 식별/검증하는 데 필요한 정보만 담은 불변 참조 (잔액 제외)
+ * 계좌 조회 캐시에 보관되며, 잔액 변경은 항상 ID로 DB에서 다시 확인합니다.
+ * 비밀번호 해시/salt도 보관하여 송금/출금/삭제의 비밀번호 검증에 DB 조회가 필요 없도록 합니다.
+ * - 비밀번호 변경 기능이 없어 해시/salt는 계좌 생성 후 바뀌지 않으므로, 캐시된 값이 DB와 달라지지 않습니다.
+ * - 보관하는 값은 평문이 아닌 salt가 적용된 해시(설정된 알고리즘: SHA-256/PBKDF2/Argon2)이며, toString에서 제외합니다.
+ * 비밀번호 변경 기능을 추가하면 변경 커밋 후 캐시에서 제거(invalidateAfterCommit)하거나 DB에서 다시 검증해야 합니다.
+ */
+@Getter
+@ToString(exclude = {"passwordHash", "salt"})
+public class AccountReference {
+
+    private final Long id;
+    private final String accountNumber;
+    private final String ownerName;
+    private final String passwordHash;
+    private final String salt;
+    private final int slotCount; // 증가만 하므로 오래된 값이어도 일반 계좌 경로로 처리될 뿐 정합성에는 영향 없음
+
+    private AccountReference(Long id, String accountNumber, String ownerName, String passwordHash, String salt,
+                             int slotCount) {
+        this.id = id;
+        this.accountNumber = accountNumber;
+        this.ownerName = ownerName;
+        this.passwordHash = passwordHash;
+        this.salt = salt;
+        this.slotCount = slotCount;
+    }
+
+    public static AccountReference from(Account account) {
+        return new AccountReference(account.getId(), account.getAccountNumber(), account.getOwnerName(),
+                account.getPasswordHash(), account.getSalt(), account.getSlotCount());
+    }
+
+    public boolean verifyPassword(String password) {
+        return SecurityUtil.verifyPassword(password, this.salt, this.passwordHash);
+    }
+
+    public boolean isHotAccount() {
+        return this.slotCount > 0;
+    }
+}
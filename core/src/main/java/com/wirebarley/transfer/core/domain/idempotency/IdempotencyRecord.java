@@ -0,0 +1,45 @@
+package com.wirebarley.transfer.core.domain.idempotency;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 로 처리된(또는 처리 중인) 요청의 기록
+ * 같은 키로 다시 요청하면 저장된 응답을 그대로 반환합니다.
+ */
+@Getter
+public class IdempotencyRecord {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    private final String key;
+    private final String requestHash; // 요청(메서드 + 경로 + 본문) 해시 (다른 요청에 같은 키를 재사용했는지 검증)
+    private final Status status;
+    private final Integer responseStatus;
+    private final String responseBody;
+    private final LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyRecord(String key, String requestHash, Status status, Integer responseStatus,
+                             String responseBody, LocalDateTime expiresAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.status = status;
+        this.responseStatus = responseStatus;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return this.status == Status.COMPLETED;
+    }
+
+    public boolean matches(String requestHash) {
+        return this.requestHash.equals(requestHash);
+    }
+}
@@ -0,0 +1,104 @@
+package com.wirebarley.transfer.core.domain.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원 단위 정수 금액 (잔액, 거래 금액, 수수료)
+ * 원화는 소수점 이하 단위가 없으므로 BigDecimal 대신 long 하나로 표현하여, 잔액 계산마다 생기던 객체 할당과 scale 정규화를 없앴습니다.
+ * 덧셈/뺄셈은 long 범위를 넘으면 ArithmeticException을 던지며, 조용히 넘치는(overflow) 일은 없습니다.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private static final long BASIS_POINTS_SCALE = 10_000L; // 수수료율 단위 (1bp = 0.01%)
+
+    private final long value;
+
+    public static Money of(long value) {
+        return (value == 0L) ? ZERO : new Money(value);
+    }
+
+    /**
+     * 소수점 이하를 버리고(RoundingMode.DOWN) 정수 금액으로 변환합니다.
+     * long 범위를 넘는 금액이면 ArithmeticException이 발생합니다.
+     */
+    public static Money from(BigDecimal amount) {
+        return of(amount.setScale(0, RoundingMode.DOWN).longValueExact());
+    }
+
+    /**
+     * 0.01 같은 비율을 정수 basis point(1bp = 0.01%)로 변환합니다. (설정값을 한 번만 변환해 두고 feeAt에 사용)
+     * 0.01%보다 작은 단위가 있는 비율이면 ArithmeticException이 발생합니다.
+     */
+    public static long basisPointsOf(BigDecimal rate) {
+        return rate.movePointRight(4).longValueExact();
+    }
+
+    public long longValue() {
+        return value;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(value);
+    }
+
+    public Money plus(Money other) {
+        return of(Math.addExact(value, other.value));
+    }
+
+    public Money minus(Money other) {
+        return of(Math.subtractExact(value, other.value));
+    }
+
+    public Money negate() {
+        return of(Math.negateExact(value));
+    }
+
+    /**
+     * basis point 단위 비율의 수수료를 계산합니다. (원 미만 버림, 기존 BigDecimal 계산의 RoundingMode.DOWN과 동일)
+     * 금액을 10000으로 나눈 몫과 나머지로 나누어 곱하므로, 비율이 100% 이하이면 중간 계산도 long 범위를 넘지 않습니다.
+     */
+    public Money feeAt(long basisPoints) {
+        long quotient = value / BASIS_POINTS_SCALE;
+        long remainder = value % BASIS_POINTS_SCALE;
+        return of(Math.addExact(Math.multiplyExact(quotient, basisPoints),
+                Math.multiplyExact(remainder, basisPoints) / BASIS_POINTS_SCALE));
+    }
+
+    public boolean isZero() {
+        return value == 0L;
+    }
+
+    public boolean isPositive() {
+        return value > 0L;
+    }
+
+    public boolean isNegative() {
+        return value < 0L;
+    }
+
+    public boolean isLessThan(Money other) {
+        return value < other.value;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return value > other.value;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
@@ -0,0 +1,62 @@
+package com.wirebarley.transfer.core.domain.transaction;
+
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 거래 내역 키셋 페이지네이션 커서
+ * 마지막으로 조회한 (transactedAt, id) 위치를 나타내며, 클라이언트에는 불투명한 문자열로 전달됩니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class HistoryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime transactedAt;
+    private final Long id;
+
+    public HistoryCursor(LocalDateTime transactedAt, Long id) {
+        if (transactedAt == null || id == null) {
+            throw new IllegalArgumentException("커서 필수 필드가 누락되었습니다.");
+        }
+        this.transactedAt = transactedAt;
+        this.id = id;
+    }
+
+    public static HistoryCursor from(TransactionHistory history) {
+        return new HistoryCursor(history.getTransactedAt(), history.getId());
+    }
+
+    public String encode() {
+        String raw = transactedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HistoryCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new BusinessException(ErrorCode.INVALID_HISTORY_CURSOR);
+            }
+
+            LocalDateTime transactedAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.valueOf(raw.substring(index + 1));
+            return new HistoryCursor(transactedAt, id);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_HISTORY_CURSOR);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.wirebarley.transfer.core.domain.transaction;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import com.wirebarley.transfer.core.domain.money.Money;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,24 +25,24 @@ public class TransactionHistory {
     private Long accountId;
     private Long counterpartyAccountId;
     private TransactionType type;
-    private BigDecimal amount;
-    private BigDecimal fee;
+    private Money amount;
+    private Money fee;
 
     private LocalDateTime transactedAt;
 
     @Builder
     public TransactionHistory(Long id, Long accountId, Long counterpartyAccountId,
-                              TransactionType type, BigDecimal amount, BigDecimal fee,
+                              TransactionType type, Money amount, Money fee,
                               LocalDateTime transactedAt) {
 
         if (accountId == null || type == null || amount == null || fee == null || transactedAt == null) {
             throw new IllegalArgumentException("거래 내역 필수 필드가 누락되었습니다.");
         }
 
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (amount.isNegative()) {
             throw new IllegalArgumentException("거래 금액(amount)은 0 이상의 값이어야 합니다.");
         }
-        if (fee.compareTo(BigDecimal.ZERO) < 0) {
+        if (fee.isNegative()) {
             throw new IllegalArgumentException("수수료(fee)는 0 이상의 값이어야 합니다.");
         }
 
@@ -51,8 +51,29 @@ public class TransactionHistory {
         this.counterpartyAccountId = counterpartyAccountId;
         this.type = type;
 
-        this.amount = amount.setScale(0, RoundingMode.DOWN);
-        this.fee = fee.setScale(0, RoundingMode.DOWN);
+        this.amount = amount;
+        this.fee = fee;
         this.transactedAt = transactedAt;
     }
-}
\ No newline at end of file
+
+    public static TransactionHistory deposit(Long accountId, Money amount, LocalDateTime transactedAt) {
+        return new TransactionHistory(null, accountId, null, TransactionType.DEPOSIT, amount, Money.ZERO, transactedAt);
+    }
+
+    public static TransactionHistory withdraw(Long accountId, Money amount, LocalDateTime transactedAt) {
+        return new TransactionHistory(null, accountId, null, TransactionType.WITHDRAW, amount, Money.ZERO, transactedAt);
+    }
+
+    /**
+     * 송금 내역 한 쌍 (보내는 쪽 TRANSFER_SEND는 수수료 포함, 받는 쪽 TRANSFER_RECEIVE는 수수료 0)
+     * 한도 사용량에 누적할 보내는 쪽 내역이 항상 첫 번째입니다.
+     */
+    public static List<TransactionHistory> transferPair(Long fromAccountId, Long toAccountId, Money amount, Money fee,
+                                                        LocalDateTime transactedAt) {
+        return List.of(
+                new TransactionHistory(null, fromAccountId, toAccountId, TransactionType.TRANSFER_SEND,
+                        amount, fee, transactedAt),
+                new TransactionHistory(null, toAccountId, fromAccountId, TransactionType.TRANSFER_RECEIVE,
+                        amount, Money.ZERO, transactedAt));
+    }
+}
@@ -0,0 +1,59 @@
+package com.wirebarley.transfer.core.domain.transaction;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 수수료/1일 한도 정책
+ * 서블릿 서비스, 송금 엔진, 리액티브 서비스가 같은 규칙으로 계산하도록 한 곳에서 관리합니다.
+ * 한도는 직전 24시간의 누적 사용량(TransactionUsageRepository.sumAmountAfter)에 이번 금액을 더해 검증합니다.
+ */
+public class TransactionPolicy {
+
+    private static final long LIMIT_WINDOW_HOURS = 24;
+
+    private final long feeRateBasisPoints; // 수수료율을 basis point(0.01%)로 한 번만 변환한 값
+    private final Money transferDailyLimit;
+    private final Money withdrawDailyLimit;
+
+    public TransactionPolicy(BigDecimal feeRate, long transferDailyLimit, long withdrawDailyLimit) {
+        this.feeRateBasisPoints = Money.basisPointsOf(feeRate);
+        this.transferDailyLimit = Money.of(transferDailyLimit);
+        this.withdrawDailyLimit = Money.of(withdrawDailyLimit);
+    }
+
+    /**
+     * 이체 수수료 (원 미만 버림)
+     */
+    public Money transferFee(Money amount) {
+        return amount.feeAt(feeRateBasisPoints);
+    }
+
+    /**
+     * 한도 집계를 시작하는 시각 (now 기준 24시간 전, 이 시각 이후의 사용량을 합산)
+     */
+    public LocalDateTime limitWindowStart(LocalDateTime now) {
+        return now.minusHours(LIMIT_WINDOW_HOURS);
+    }
+
+    /**
+     * 24시간 누적 사용량에 이번 금액을 더해 한도를 넘으면 예외를 발생시킵니다.
+     * 한도 대상은 송금(TRANSFER_SEND)과 출금(WITHDRAW)입니다.
+     */
+    public void checkDailyLimit(TransactionHistory.TransactionType type, Money usedAmount, Money amount) {
+        switch (type) {
+            case TRANSFER_SEND -> check(usedAmount, amount, transferDailyLimit, ErrorCode.DAILY_LIMIT_EXCEEDED);
+            case WITHDRAW -> check(usedAmount, amount, withdrawDailyLimit, ErrorCode.WITHDRAW_DAILY_LIMIT_EXCEEDED);
+            default -> throw new IllegalArgumentException("1일 한도 대상이 아닌 거래 유형입니다: " + type);
+        }
+    }
+
+    private static void check(Money usedAmount, Money amount, Money dailyLimit, ErrorCode errorCode) {
+        if (usedAmount.plus(amount).isGreaterThan(dailyLimit)) {
+            throw new BusinessException(errorCode);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.wirebarley.transfer.core.dto;
 
 import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -56,7 +63,7 @@ public class AccountDto {
         private final String ownerName;
 
         @Schema(description = "현재 잔액", example = "50000")
-        private final BigDecimal balance;
+        private final long balance;
 
 
         public static CreateResponse from(Account account) {
@@ -64,7 +71,7 @@ public class AccountDto {
                     account.getId(),
                     account.getAccountNumber(),
                     account.getOwnerName(),
-                    account.getBalance()
+                    account.getBalance().longValue()
             );
         }
     }
@@ -92,9 +99,46 @@ public class AccountDto {
         @Schema(description = "계좌 소유주명", example = "홍길동")
         private final String ownerName;
         @Schema(description = "계좌 잔액", example = "100000")
-        private final BigDecimal balance;
+        private final long balance;
         public static BalanceResponse from(Account account) {
-            return new BalanceResponse(account.getOwnerName(), account.getBalance());
+            return new BalanceResponse(account.getOwnerName(), account.getBalance().longValue());
+        }
+        public static BalanceResponse of(Account account, Money totalBalance) {
+            return new BalanceResponse(account.getOwnerName(), totalBalance.longValue());
+        }
+    }
+
+
+    @Getter
+    @Schema(description = "잔액 분산 슬롯 설정 요청 DTO (수취 집중 계좌용)")
+    public static class BalanceSlotRequest {
+        @Schema(description = "계좌 비밀번호 (숫자 4자리)", example = "1234")
+        @NotBlank(message = "비밀번호는 필수입니다.")
+        @Pattern(regexp = "^\\d{4}$", message = "비밀번호는 숫자 4자리여야 합니다.")
+        private String password;
+        @Schema(description = "잔액 분산 슬롯 개수 (2~64, 기존 개수 이상)", example = "16")
+        @NotNull(message = "슬롯 개수는 필수입니다.")
+        @Min(value = Account.MIN_SLOT_COUNT, message = "슬롯 개수는 2개 이상이어야 합니다.")
+        @Max(value = Account.MAX_SLOT_COUNT, message = "슬롯 개수는 64개 이하여야 합니다.")
+        private Integer slotCount;
+
+        public BalanceSlotRequest() {}
+        public BalanceSlotRequest(String password, Integer slotCount) {
+            this.password = password;
+            this.slotCount = slotCount;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(description = "잔액 분산 슬롯 설정 응답 DTO")
+    public static class BalanceSlotResponse {
+        @Schema(description = "계좌 번호", example = "110-123-456789")
+        private final String accountNumber;
+        @Schema(description = "잔액 분산 슬롯 개수", example = "16")
+        private final int slotCount;
+        public static BalanceSlotResponse from(Account account) {
+            return new BalanceSlotResponse(account.getAccountNumber(), account.getSlotCount());
         }
     }
 
@@ -132,22 +176,95 @@ public class AccountDto {
         @Schema(description = "보낸 사람 계좌 번호", example = "110-123-456789")
         private final String fromAccountNumber;
         @Schema(description = "보낸 계좌의 남은 잔액", example = "84850")
-        private final BigDecimal fromAccountBalance;
+        private final long fromAccountBalance;
         @Schema(description = "받은 사람 계좌 번호", example = "120-456-789012")
         private final String toAccountNumber;
         @Schema(description = "받은 계좌의 총 잔액", example = "65000")
-        private final BigDecimal toAccountBalance;
+        private final long toAccountBalance;
         @Schema(description = "실제 송금된 금액", example = "15000")
-        private final BigDecimal transferredAmount;
-        public static TransferResponse of(Account fromAccount, Account toAccount, BigDecimal amount) {
+        private final long transferredAmount;
+        public static TransferResponse of(Account fromAccount, Account toAccount, Money amount) {
             return new TransferResponse(
                     fromAccount.getAccountNumber(),
-                    fromAccount.getBalance(),
+                    fromAccount.getBalance().longValue(),
                     toAccount.getAccountNumber(),
-                    toAccount.getBalance(),
-                    amount
+                    toAccount.getBalance().longValue(),
+                    amount.longValue()
             );
         }
+        public static TransferResponse of(Account fromAccount, String toAccountNumber, Money toAccountBalance,
+                                          Money amount) {
+            return new TransferResponse(
+                    fromAccount.getAccountNumber(),
+                    fromAccount.getBalance().longValue(),
+                    toAccountNumber,
+                    toAccountBalance.longValue(),
+                    amount.longValue()
+            );
+        }
+    }
+
+
+    @Schema(description = "일괄 처리 모드")
+    public enum BatchMode {
+        @Schema(description = "하나라도 실패하면 전체를 취소")
+        ALL_OR_NOTHING,
+        @Schema(description = "실패한 건만 제외하고 나머지는 처리")
+        PARTIAL
+    }
+
+    @Getter
+    @Schema(description = "일괄 송금 요청 DTO")
+    public static class BatchTransferRequest {
+        @Schema(description = "일괄 처리 모드 (ALL_OR_NOTHING/PARTIAL)", example = "PARTIAL")
+        @NotNull(message = "일괄 처리 모드는 필수입니다.")
+        private BatchMode mode;
+        @Schema(description = "송금 목록 (요청 순서대로 처리, 최대 1000건)")
+        @NotEmpty(message = "송금 목록은 필수입니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 송금할 수 있습니다.")
+        private List<@Valid TransferRequest> transfers;
+
+        public BatchTransferRequest() {}
+        public BatchTransferRequest(BatchMode mode, List<TransferRequest> transfers) {
+            this.mode = mode;
+            this.transfers = transfers;
+        }
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "일괄 송금 건별 결과 DTO")
+    public static class BatchTransferResult {
+        @Schema(description = "요청 목록 내 순번 (0부터 시작)", example = "0")
+        private final int index;
+        @Schema(description = "보낸 사람 계좌 번호", example = "110-123-456789")
+        private final String fromAccountNumber;
+        @Schema(description = "받는 사람 계좌 번호", example = "120-456-789012")
+        private final String toAccountNumber;
+        @Schema(description = "송금액", example = "15000")
+        private final BigDecimal amount;
+        @Schema(description = "수수료 (실패 시 null)", example = "150")
+        private final Long fee;
+        @Schema(description = "성공 여부", example = "true")
+        private final boolean success;
+        @Schema(description = "실패 코드 (성공 시 null)", example = "INSUFFICIENT_FUNDS")
+        private final String errorCode;
+        @Schema(description = "실패 사유 (성공 시 null)", example = "잔액이 부족합니다.")
+        private final String message;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(description = "일괄 송금 결과 응답 DTO")
+    public static class BatchTransferResponse {
+        @Schema(description = "일괄 처리 모드", example = "PARTIAL")
+        private final BatchMode mode;
+        @Schema(description = "성공 건수", example = "99")
+        private final int successCount;
+        @Schema(description = "실패 건수", example = "1")
+        private final int failureCount;
+        @Schema(description = "건별 처리 결과 (요청 순서)")
+        private final List<BatchTransferResult> results;
     }
 
 
@@ -180,13 +297,17 @@ public class AccountDto {
         @Schema(description = "출금된 계좌 번호", example = "110-123-456789")
         private final String accountNumber;
         @Schema(description = "출금 후 남은 잔액", example = "70000")
-        private final BigDecimal finalBalance;
+        private final long finalBalance;
         public static WithdrawResponse from(Account account) {
             return new WithdrawResponse(
                     account.getAccountNumber(),
-                    account.getBalance()
+                    account.getBalance().longValue()
             );
         }
+
+        public static WithdrawResponse of(String accountNumber, Money finalBalance) {
+            return new WithdrawResponse(accountNumber, finalBalance.longValue());
+        }
     }
 
 
@@ -197,15 +318,43 @@ public class AccountDto {
         @Schema(description = "거래 유형 (TRANSFER_SEND/TRANSFER_RECEIVE)", example = "TRANSFER_SEND")
         private final TransactionHistory.TransactionType type;
         @Schema(description = "거래 금액 (원금)", example = "15000")
-        private final BigDecimal amount;
+        private final long amount;
         @Schema(description = "수수료", example = "150")
-        private final BigDecimal fee;
+        private final long fee;
         @Schema(description = "거래 시간")
         private final LocalDateTime transactedAt;
         @Schema(description = "상대방 계좌 번호", example = "120-456-789012")
         private final String counterpartyAccountNumber;
         @Schema(description = "상대방 계좌 소유주명", example = "이순신")
         private final String counterpartyOwnerName;
+
+        /**
+         * counterparty는 일괄 조회한 상대방 계좌 (상대방이 있는 내역인데 조회되지 않았으면 null)
+         */
+        public static TransactionDetail of(TransactionHistory history, Account counterparty) {
+            String counterpartyNumber = null;
+            String counterpartyName = null;
+
+            if (history.getCounterpartyAccountId() != null) {
+                if (counterparty != null) {
+                    counterpartyNumber = counterparty.getAccountNumber();
+                    counterpartyName = (counterparty.getStatus() == Account.AccountStatus.DELETED) ?
+                            "(삭제된 계좌)" : counterparty.getOwnerName();
+                } else {
+                    counterpartyNumber = "N/A";
+                    counterpartyName = "알 수 없음";
+                }
+            }
+
+            return TransactionDetail.builder()
+                    .type(history.getType())
+                    .amount(history.getAmount().longValue())
+                    .fee(history.getFee().longValue())
+                    .transactedAt(history.getTransactedAt())
+                    .counterpartyAccountNumber(counterpartyNumber)
+                    .counterpartyOwnerName(counterpartyName)
+                    .build();
+        }
     }
 
     @Getter
@@ -218,6 +367,20 @@ public class AccountDto {
         private final List<TransactionDetail> transactions;
     }
 
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(description = "거래 내역 페이지 조회 응답 DTO")
+    public static class HistoryPageResponse {
+        @Schema(description = "조회된 계좌 번호", example = "110-123-456789")
+        private final String accountNumber;
+        @Schema(description = "거래 내역 목록 (최신순)")
+        private final List<TransactionDetail> transactions;
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지이면 null)", example = "MjAyNC0wNS0wMVQxMjowMDowMHw0Mg")
+        private final String nextCursor;
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private final boolean hasNext;
+    }
+
 
     @Getter
     @Schema(description = "입금 요청 DTO")
@@ -236,6 +399,48 @@ public class AccountDto {
         }
     }
 
+    @Getter
+    @Schema(description = "일괄 입금 요청 DTO")
+    public static class BulkDepositRequest {
+        @Schema(description = "입금 목록 (최대 10000건)")
+        @NotEmpty(message = "입금 목록은 필수입니다.")
+        @Size(max = 10000, message = "한 번에 최대 10000건까지 입금할 수 있습니다.")
+        private List<@Valid DepositRequest> deposits;
+
+        public BulkDepositRequest() {}
+        public BulkDepositRequest(List<DepositRequest> deposits) {
+            this.deposits = deposits;
+        }
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "일괄 입금 실패 건 DTO")
+    public static class BulkDepositFailure {
+        @Schema(description = "요청 목록 내 순번 (0부터 시작)", example = "3")
+        private final int index;
+        @Schema(description = "입금할 계좌 번호", example = "110-123-456789")
+        private final String accountNumber;
+        @Schema(description = "입금액", example = "100000")
+        private final BigDecimal amount;
+        @Schema(description = "실패 코드", example = "ACCOUNT_NOT_FOUND")
+        private final String errorCode;
+        @Schema(description = "실패 사유", example = "계좌를 찾을 수 없습니다.")
+        private final String message;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @Schema(description = "일괄 입금 결과 응답 DTO")
+    public static class BulkDepositResponse {
+        @Schema(description = "성공 건수", example = "9999")
+        private final int successCount;
+        @Schema(description = "실패 건수", example = "1")
+        private final int failureCount;
+        @Schema(description = "실패 건 목록 (요청 순서)")
+        private final List<BulkDepositFailure> failures;
+    }
+
     @Getter
     @RequiredArgsConstructor
     @Schema(description = "입금 결과 응답 DTO")
@@ -243,13 +448,17 @@ public class AccountDto {
         @Schema(description = "입금된 계좌 번호", example = "110-123-456789")
         private final String accountNumber;
         @Schema(description = "입금 후 최종 잔액", example = "200000")
-        private final BigDecimal finalBalance;
+        private final long finalBalance;
 
         public static DepositResponse from(Account account) {
             return new DepositResponse(
                     account.getAccountNumber(),
-                    account.getBalance()
+                    account.getBalance().longValue()
             );
         }
+
+        public static DepositResponse of(String accountNumber, Money finalBalance) {
+            return new DepositResponse(accountNumber, finalBalance.longValue());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.wirebarley.transfer.core.dto;
+
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거래 내역 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HistoryExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public static HistoryExportFormat from(String value) {
+        for (HistoryExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
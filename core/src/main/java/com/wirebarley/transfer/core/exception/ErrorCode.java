@@ -17,7 +17,18 @@ public enum ErrorCode {
     BALANCE_NOT_ZERO("잔액이 0원이 아닌 계좌는 삭제할 수 없습니다."),
     DAILY_LIMIT_EXCEEDED("1일 이체 한도(300만원)를 초과했습니다."),
     WITHDRAW_DAILY_LIMIT_EXCEEDED("1일 출금 한도(100만원)를 초과했습니다."),
-    INVALID_ACCOUNT_PASSWORD("계좌 비밀번호가 일치하지 않습니다.");
+    INVALID_ACCOUNT_PASSWORD("계좌 비밀번호가 일치하지 않습니다."),
+    INVALID_HISTORY_CURSOR("유효하지 않은 거래 내역 커서입니다."),
+    INVALID_PAGE_SIZE("유효하지 않은 페이지 크기입니다."),
+    INVALID_EXPORT_FORMAT("지원하지 않는 내보내기 형식입니다."),
+    INVALID_SLOT_COUNT("유효하지 않은 잔액 분산 슬롯 개수입니다."),
+    CONCURRENT_UPDATE_CONFLICT("다른 요청과 충돌하여 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key는 1~255자여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 Idempotency-Key입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 Idempotency-Key의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    ENGINE_UNAVAILABLE("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    ENGINE_TIMEOUT("요청은 접수되었으나 처리 결과를 제한 시간 내에 확인하지 못했습니다. 거래 내역을 확인해주세요."),
+    PASSWORD_HASHING_UNAVAILABLE("비밀번호 확인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
     private final String message;
 }
\ No newline at end of file
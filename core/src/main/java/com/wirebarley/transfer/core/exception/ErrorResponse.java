@@ -1,6 +1,5 @@
-package com.wirebarley.transfer.api.exception;
+package com.wirebarley.transfer.core.exception;
 
-import com.wirebarley.transfer.core.exception.ErrorCode;
 import lombok.Getter;
 
 @Getter
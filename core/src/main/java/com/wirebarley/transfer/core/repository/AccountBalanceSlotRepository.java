@@ -0,0 +1,42 @@
+package com.wirebarley.transfer.core.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import java.time.LocalDateTime;
+
+/**
+ * 수취 집중(Hot) 계좌의 잔액 분산 슬롯 저장소
+ * 입금은 계좌 행 대신 슬롯 중 하나에 적립하고, 출금 시 슬롯 잔액을 본 잔액으로 회수합니다.
+ * 락 순서는 항상 계좌 행 -> 슬롯 행입니다. (데드락 방지)
+ */
+public interface AccountBalanceSlotRepository {
+
+    /**
+     * 0 ~ slotCount-1 번 슬롯을 생성합니다. (이미 존재하는 슬롯은 유지)
+     */
+    void createSlots(Long accountId, int slotCount, LocalDateTime updatedAt);
+
+    /**
+     * 'ACTIVE' 계좌의 slotNo 번 슬롯에 금액을 적립합니다.
+     * 계좌 행은 공유 락(FOR SHARE)만 잡으므로 적립끼리는 서로 대기하지 않습니다.
+     *
+     * @return 계좌가 비활성이거나 슬롯이 없으면 false
+     */
+    boolean credit(Long accountId, int slotNo, Money amount, LocalDateTime updatedAt);
+
+    /**
+     * 계좌 행을 잠근 뒤 모든 슬롯 잔액을 0으로 비우고, 비운 금액의 합계를 반환합니다.
+     * 반환된 금액은 같은 트랜잭션 안에서 본 잔액에 더해야 합니다.
+     */
+    Money drain(Long accountId, LocalDateTime updatedAt);
+
+    /**
+     * 슬롯 잔액의 합계를 반환합니다.
+     */
+    Money sumBalances(Long accountId);
+
+    /**
+     * 본 잔액과 슬롯 잔액의 합계를 한 시점 기준으로 조회합니다. (계좌가 없으면 0)
+     * 두 값을 따로 읽으면 그 사이에 커밋된 회수(drain)로 인해 합계가 실제보다 작게 보일 수 있습니다.
+     */
+    Money totalBalance(Long accountId);
+}
@@ -0,0 +1,15 @@
+package com.wirebarley.transfer.core.repository;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+
+/**
+ * 계좌번호 순번 블록 저장소 (hi/lo 방식)
+ * 블록 크기는 시퀀스의 증가 값이며, 여러 인스턴스가 동시에 예약해도 블록이 겹치지 않습니다.
+ */
+public interface AccountNumberBlockRepository {
+
+    /**
+     * 다음 순번 블록을 예약합니다. (nextval 한 번)
+     */
+    AccountNumberBlock reserveBlock();
+}
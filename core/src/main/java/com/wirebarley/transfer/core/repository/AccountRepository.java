@@ -1,14 +1,47 @@
 package com.wirebarley.transfer.core.repository;
 
 import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AccountRepository {
 
     Account save(Account account);
+    List<Account> saveAll(List<Account> accounts);
     Optional<Account> findById(Long id);
+    List<Account> findAllByIds(Collection<Long> ids);
     Optional<Account> findByAccountNumber(String accountNumber);
+    List<Account> findAllByAccountNumbers(Collection<String> accountNumbers);
     void delete(Account account);
     Optional<Account> findByIdWithLock(Long id);
+    List<Account> findAllByIdsWithLock(Collection<Long> ids);
+
+    /**
+     * 계좌 번호로 'ACTIVE' 계좌들을 조회하면서 한 문장에서 id 오름차순으로 행 락을 획득합니다.
+     * (WHERE account_number IN (...) ORDER BY id FOR UPDATE)
+     */
+    List<Account> findAllByAccountNumbersWithLock(Collection<String> accountNumbers);
     boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * 'ACTIVE' 계좌의 잔액을 조건부 UPDATE 한 문장으로 증가시키고 변경 후 잔액을 반환합니다. (대상이 없으면 empty)
+     */
+    Optional<Money> increaseBalance(Long id, Money amount, LocalDateTime updatedAt);
+
+    /**
+     * 잔액이 amount 이상인 'ACTIVE' 계좌의 잔액을 조건부 UPDATE 한 문장으로 감소시키고 변경 후 잔액을 반환합니다.
+     * (계좌가 비활성이거나 잔액이 부족하면 empty)
+     */
+    Optional<Money> decreaseBalance(Long id, Money amount, LocalDateTime updatedAt);
+
+    /**
+     * 여러 'ACTIVE' 계좌의 잔액을 한 번의 집합 연산(UPDATE)으로 증가시키고, 실제로 반영된 계좌 ID를 반환합니다.
+     * 음수 금액은 차감으로 반영되며, 결과 잔액이 음수가 되는 계좌는 반영하지 않습니다.
+     */
+    Set<Long> increaseBalances(Map<Long, Money> amountsById, LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.wirebarley.transfer.core.repository;
+
+import com.wirebarley.transfer.core.domain.idempotency.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 저장소 (키 기준 단건 조회/갱신, 만료 시간 기준 삭제)
+ */
+public interface IdempotencyKeyRepository {
+
+    /**
+     * 키를 IN_PROGRESS 상태로 선점합니다. (호출한 쪽의 트랜잭션과 무관하게 즉시 반영)
+     * 만료된 COMPLETED 키만 다시 선점할 수 있으며, IN_PROGRESS 키는 오래되어도 다시 선점하지 않습니다.
+     * (처리 결과를 알 수 없는 요청이 재시도로 한 번 더 실행되지 않도록, 확인 후 수동으로 정리)
+     *
+     * @return 선점에 성공하면 true
+     */
+    boolean claim(String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt);
+
+    Optional<IdempotencyRecord> findByKey(String key);
+
+    /**
+     * 선점한 키에 응답을 저장하고 COMPLETED 상태로 변경합니다.
+     */
+    void complete(String key, int responseStatus, String responseBody);
+
+    /**
+     * 선점한 키를 해제합니다. (같은 키로 다시 시도할 수 있도록)
+     */
+    void release(String key);
+
+    /**
+     * 만료된 COMPLETED 키를 삭제하고 삭제한 건수를 반환합니다. (IN_PROGRESS 키는 삭제하지 않음)
+     */
+    int deleteExpired(LocalDateTime now);
+
+    /**
+     * createdBefore 이전에 선점된 뒤 완료되지 않은 키의 수를 반환합니다. (결과 확인이 필요한 요청)
+     */
+    int countInProgressBefore(LocalDateTime createdBefore);
+}
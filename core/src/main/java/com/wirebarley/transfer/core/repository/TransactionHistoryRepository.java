@@ -1,14 +1,18 @@
 package com.wirebarley.transfer.core.repository;
 
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransactionHistoryRepository {
 
     TransactionHistory save(TransactionHistory history);
 
+    List<TransactionHistory> saveAll(List<TransactionHistory> histories);
+
     List<TransactionHistory> findByAccountIdAndTypeAndTransactedAtAfter(
             Long accountId,
             TransactionHistory.TransactionType transactionType,
@@ -16,4 +20,16 @@ public interface TransactionHistoryRepository {
     );
 
     List<TransactionHistory> findByAccountIdOrderByTransactedAtDesc(Long accountId);
+
+    /**
+     * (transactedAt, id) 내림차순으로 cursor 다음 위치부터 최대 limit건을 조회합니다.
+     * cursor가 null이면 첫 페이지를 조회합니다.
+     */
+    List<TransactionHistory> findPageByAccountId(Long accountId, HistoryCursor cursor, int limit);
+
+    /**
+     * 계좌의 전체 거래 내역을 최신순으로 DB 커서를 통해 한 건씩 스트리밍합니다.
+     * 트랜잭션 안에서 소비해야 하며, 사용 후 반드시 close 해야 합니다.
+     */
+    Stream<TransactionHistory> streamByAccountId(Long accountId);
 }
\ No newline at end of file
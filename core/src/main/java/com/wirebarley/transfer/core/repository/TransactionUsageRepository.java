@@ -0,0 +1,38 @@
+package com.wirebarley.transfer.core.repository;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계좌/거래유형별 사용량을 시간 단위 버킷으로 누적하는 집계 저장소 (1일 한도 검증용)
+ */
+public interface TransactionUsageRepository {
+
+    /**
+     * 저장된 거래 내역의 금액을 해당 시간 버킷에 누적합니다.
+     * 잔액 변경과 같은 트랜잭션 안에서 호출되어야 합니다.
+     */
+    void accumulate(TransactionHistory history);
+
+    /**
+     * 여러 거래 내역을 (계좌, 거래유형, 시간 버킷) 단위로 묶어 한 번씩만 누적합니다.
+     */
+    void accumulateAll(List<TransactionHistory> histories);
+
+    /**
+     * afterDateTime 이후(초과)에 발생한 거래 금액의 합계를 반환합니다.
+     */
+    Money sumAmountAfter(
+            Long accountId,
+            TransactionHistory.TransactionType transactionType,
+            LocalDateTime afterDateTime
+    );
+
+    /**
+     * bucketStart 이전에 시작한 버킷을 삭제하고 삭제한 버킷 수를 반환합니다. (한도 검증 창을 벗어난 버킷 정리)
+     */
+    int deleteBucketsBefore(LocalDateTime bucketStart);
+}
@@ -1,6 +1,7 @@
 package com.wirebarley.transfer.core.service;
 
 import com.wirebarley.transfer.core.dto.AccountDto;
+import java.util.function.Consumer;
 
 public interface AccountService {
 
@@ -10,11 +11,21 @@ public interface AccountService {
 
     AccountDto.BalanceResponse getAccountBalance(String accountNumber);
 
+    AccountDto.BalanceSlotResponse enableBalanceSlots(String accountNumber, AccountDto.BalanceSlotRequest request);
+
     AccountDto.TransferResponse transfer(AccountDto.TransferRequest request);
 
+    AccountDto.BatchTransferResponse transferBatch(AccountDto.BatchTransferRequest request);
+
     AccountDto.HistoryResponse getTransactionHistory(String accountNumber);
 
+    AccountDto.HistoryPageResponse getTransactionHistoryPage(String accountNumber, String cursor, Integer size);
+
+    void exportTransactionHistory(String accountNumber, Consumer<AccountDto.TransactionDetail> consumer);
+
     AccountDto.DepositResponse deposit(AccountDto.DepositRequest request);
 
+    AccountDto.BulkDepositResponse depositBulk(AccountDto.BulkDepositRequest request);
+
     AccountDto.WithdrawResponse withdraw(AccountDto.WithdrawRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.wirebarley.transfer.core.common.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvUtilTest {
+
+    @Test
+    @DisplayName("구분자, 따옴표, 줄바꿈(\\n, \\r)이 있는 값은 따옴표로 감싸고 내부 따옴표는 두 번 쓴다")
+    void it_quotes_special_characters() {
+        assertThat(CsvUtil.escape(null)).isEmpty();
+        assertThat(CsvUtil.escape("홍길동")).isEqualTo("홍길동");
+        assertThat(CsvUtil.escape("110-123-456789")).isEqualTo("110-123-456789");
+        assertThat(CsvUtil.escape("홍,길동")).isEqualTo("\"홍,길동\"");
+        assertThat(CsvUtil.escape("홍\"길동")).isEqualTo("\"홍\"\"길동\"");
+        assertThat(CsvUtil.escape("홍\n길동")).isEqualTo("\"홍\n길동\"");
+        assertThat(CsvUtil.escape("홍\r길동")).isEqualTo("\"홍\r길동\"");
+    }
+
+    @Test
+    @DisplayName("수식으로 해석될 수 있는 문자로 시작하는 값은 앞에 '를 붙인다")
+    void it_neutralizes_formula_prefix() {
+        assertThat(CsvUtil.escape("=HYPERLINK(\"http://x\")")).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(CsvUtil.escape("+1")).isEqualTo("'+1");
+        assertThat(CsvUtil.escape("-1")).isEqualTo("'-1");
+        assertThat(CsvUtil.escape("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(CsvUtil.escape("\t=1")).isEqualTo("'\t=1");
+        assertThat(CsvUtil.escape("\r=1")).isEqualTo("\"'\r=1\"");
+    }
+}
@@ -0,0 +1,48 @@
+package com.wirebarley.transfer.core.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    private final String salt = SecurityUtil.generateSalt();
+
+    @Test
+    @DisplayName("각 알고리즘으로 생성한 해시는 형식에 맞는 알고리즘으로 검증된다")
+    void it_verifies_hash_by_its_format() {
+        List<PasswordHasher> hashers = List.of(
+                new Sha256PasswordHasher(),
+                new Pbkdf2PasswordHasher(1000),
+                new Argon2PasswordHasher(1024, 1, 1)
+        );
+
+        for (PasswordHasher hasher : hashers) {
+            String passwordHash = hasher.hash("1234", salt);
+
+            assertThat(PasswordHashes.algorithmOf(passwordHash)).isEqualTo(hasher.algorithm());
+            assertThat(SecurityUtil.verifyPassword("1234", salt, passwordHash)).isTrue();
+            assertThat(SecurityUtil.verifyPassword("0000", salt, passwordHash)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("파라미터를 바꿔도 기존 해시는 저장된 파라미터로 검증된다")
+    void it_verifies_hash_with_stored_parameters() {
+        String passwordHash = new Pbkdf2PasswordHasher(1000).hash("1234", salt);
+
+        assertThat(new Pbkdf2PasswordHasher(2000).matches("1234", salt, passwordHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 SHA-256 해시 형식과 호환된다")
+    void it_keeps_legacy_sha256_format() {
+        String passwordHash = SecurityUtil.hashPassword("1234", salt);
+
+        assertThat(passwordHash).doesNotStartWith("$");
+        assertThat(SecurityUtil.verifyPassword("1234", salt, passwordHash)).isTrue();
+    }
+}
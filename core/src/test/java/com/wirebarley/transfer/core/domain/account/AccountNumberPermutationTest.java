@@ -0,0 +1,46 @@
+package com.wirebarley.transfer.core.domain.account;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountNumberPermutationTest {
+
+    private final AccountNumberPermutation permutation = new AccountNumberPermutation(7349215683L);
+
+    @Test
+    @DisplayName("서로 다른 순번은 범위 안의 서로 다른 번호가 된다")
+    void it_maps_sequences_to_distinct_numbers_in_range() {
+        Set<Long> numbers = new HashSet<>();
+
+        for (long sequence = 0; sequence < 200_000; sequence++) {
+            long number = permutation.permute(sequence);
+
+            assertThat(number).isBetween(0L, AccountNumberPermutation.DOMAIN_SIZE - 1);
+            numbers.add(number);
+        }
+
+        assertThat(numbers).hasSize(200_000);
+    }
+
+    @Test
+    @DisplayName("같은 키와 순번은 항상 같은 번호가 된다")
+    void it_is_deterministic() {
+        AccountNumberPermutation sameKey = new AccountNumberPermutation(7349215683L);
+
+        assertThat(sameKey.permute(AccountNumberPermutation.DOMAIN_SIZE - 1))
+                .isEqualTo(permutation.permute(AccountNumberPermutation.DOMAIN_SIZE - 1));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 순번은 예외가 발생한다")
+    void it_throws_exception_when_sequence_is_out_of_range() {
+        assertThatThrownBy(() -> permutation.permute(AccountNumberPermutation.DOMAIN_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.wirebarley.transfer.core.domain.account;
 
+import com.wirebarley.transfer.core.domain.money.Money;
 import com.wirebarley.transfer.core.exception.BusinessException;
 import com.wirebarley.transfer.core.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,7 +25,7 @@ class AccountTest {
                 .id(1L)
                 .accountNumber("110-123-456789")
                 .ownerName("테스터")
-                .balance(new BigDecimal("10000")) // 기본 잔액 10000원
+                .balance(Money.of(10000)) // 기본 잔액 10000원
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .status(Account.AccountStatus.ACTIVE)
@@ -48,7 +49,7 @@ class AccountTest {
         @DisplayName("초기 잔액이 0원 미만이면 예외가 발생한다")
         void it_throws_exception_when_balance_is_negative() {
             assertThatThrownBy(() -> createDefaultAccountBuilder()
-                    .balance(new BigDecimal("-100")) // 잔액 -100원
+                    .balance(Money.of(-100)) // 잔액 -100원
                     .build())
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INITIAL_BALANCE);
@@ -58,19 +59,19 @@ class AccountTest {
         @DisplayName("초기 잔액이 0원이면 정상 생성된다")
         void it_succeeds_when_balance_is_zero() {
             Account account = createDefaultAccountBuilder()
-                    .balance(BigDecimal.ZERO)
+                    .balance(Money.ZERO)
                     .build();
-            assertThat(account.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(account.getBalance()).isEqualTo(Money.ZERO);
         }
 
         @Test
         @DisplayName("초기 잔액에 소수점이 있어도 정수로 정규화(버림)된다")
         void it_normalizes_balance_when_scale_is_not_zero() {
             Account account = createDefaultAccountBuilder()
-                    .balance(new BigDecimal("10000.99")) // 10000.99원
+                    .balance(Account.toInitialBalance(new BigDecimal("10000.99"))) // 10000.99원
                     .build();
             // 10000원으로 저장되어야 함
-            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("10000"));
+            assertThat(account.getBalance()).isEqualTo(Money.of(10000));
         }
     }
 
@@ -82,22 +83,22 @@ class AccountTest {
         @DisplayName("정상 금액을 출금하면 잔액이 감소한다")
         void it_succeeds_and_decreases_balance() {
             Account account = createDefaultAccountBuilder()
-                    .balance(new BigDecimal("10000"))
+                    .balance(Money.of(10000))
                     .build();
 
-            account.withdraw(new BigDecimal("3000"));
+            account.withdraw(Money.of(3000));
 
-            assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("7000"));
+            assertThat(account.getBalance()).isEqualTo(Money.of(7000));
         }
 
         @Test
         @DisplayName("잔액보다 큰 금액을 출금하면 예외가 발생한다")
         void it_throws_exception_when_insufficient_funds() {
             Account account = createDefaultAccountBuilder()
-                    .balance(new BigDecimal("10000"))
+                    .balance(Money.of(10000))
                     .build();
 
-            assertThatThrownBy(() -> account.withdraw(new BigDecimal("10001")))
+            assertThatThrownBy(() -> account.withdraw(Money.of(10001)))
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INSUFFICIENT_FUNDS);
         }
@@ -107,23 +108,57 @@ class AccountTest {
         void it_throws_exception_when_invalid_amount() {
             Account account = createDefaultAccountBuilder().build();
 
-            assertThatThrownBy(() -> account.withdraw(BigDecimal.ZERO)) // 0원
+            assertThatThrownBy(() -> account.withdraw(Money.ZERO)) // 0원
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_WITHDRAW_AMOUNT);
 
-            assertThatThrownBy(() -> account.withdraw(new BigDecimal("-100"))) // 음수
+            assertThatThrownBy(() -> account.withdraw(Money.of(-100))) // 음수
                     .isInstanceOf(BusinessException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_WITHDRAW_AMOUNT);
         }
 
         @Test
-        @DisplayName("소수점이 있는 금액을 출금하면 예외가 발생한다")
+        @DisplayName("소수점이 있는 금액을 출금 요청하면 예외가 발생한다")
         void it_throws_exception_when_amount_has_scale() {
+            assertThatThrownBy(() -> Account.validateWithdrawAmount(new BigDecimal("1000.50")))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_WITHDRAW_AMOUNT);
+        }
+    }
+
+    @Nested
+    @DisplayName("잔액 분산 슬롯 (enableBalanceSlots / absorbSlotBalance)")
+    class Describe_BalanceSlots {
+
+        @Test
+        @DisplayName("슬롯을 설정하면 수취 집중 계좌가 된다")
+        void it_becomes_hot_account() {
             Account account = createDefaultAccountBuilder().build();
 
-            assertThatThrownBy(() -> account.withdraw(new BigDecimal("1000.50")))
+            account.enableBalanceSlots(8);
+
+            assertThat(account.isHotAccount()).isTrue();
+            assertThat(account.getSlotCount()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("기존보다 적은 슬롯 개수로는 변경할 수 없다")
+        void it_throws_exception_when_slot_count_decreases() {
+            Account account = createDefaultAccountBuilder().slotCount(8).build();
+
+            assertThatThrownBy(() -> account.enableBalanceSlots(4))
                     .isInstanceOf(BusinessException.class)
-                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_WITHDRAW_AMOUNT);
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_SLOT_COUNT);
+        }
+
+        @Test
+        @DisplayName("회수한 슬롯 잔액은 본 잔액에 합쳐진다")
+        void it_absorbs_drained_slot_balance() {
+            Account account = createDefaultAccountBuilder().slotCount(8).build();
+
+            account.absorbSlotBalance(Money.of(5000));
+
+            assertThat(account.getBalance()).isEqualTo(Money.of(15000));
         }
     }
 
@@ -0,0 +1,44 @@
+package com.wirebarley.transfer.core.domain.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("수수료는 기존 BigDecimal 계산과 같이 원 미만을 버린다")
+    void it_calculates_fee_like_big_decimal() {
+        BigDecimal feeRate = new BigDecimal("0.01");
+        long basisPoints = Money.basisPointsOf(feeRate);
+
+        for (long amount : new long[]{1, 99, 100, 15_000, 15_099, 9_999_999, Long.MAX_VALUE}) {
+            BigDecimal expected = BigDecimal.valueOf(amount).multiply(feeRate).setScale(0, RoundingMode.DOWN);
+
+            assertThat(Money.of(amount).feeAt(basisPoints).toBigDecimal()).isEqualByComparingTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 덧셈/뺄셈은 예외가 발생한다")
+    void it_throws_exception_on_overflow() {
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE).plus(Money.of(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(Long.MIN_VALUE).minus(Money.of(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("BigDecimal 금액은 소수점 이하를 버리고, long 범위를 넘으면 예외가 발생한다")
+    void it_converts_from_big_decimal() {
+        assertThat(Money.from(new BigDecimal("10000.99"))).isEqualTo(Money.of(10000));
+
+        assertThatThrownBy(() -> Money.from(new BigDecimal("9223372036854775808")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
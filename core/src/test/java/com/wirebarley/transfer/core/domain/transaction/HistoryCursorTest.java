@@ -0,0 +1,32 @@
+package com.wirebarley.transfer.core.domain.transaction;
+
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HistoryCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 가리킨다")
+    void it_round_trips_encoded_cursor() {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000), 42L);
+
+        HistoryCursor decoded = HistoryCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서를 디코딩하면 예외가 발생한다")
+    void it_throws_exception_when_cursor_is_malformed() {
+        assertThatThrownBy(() -> HistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_HISTORY_CURSOR);
+    }
+}
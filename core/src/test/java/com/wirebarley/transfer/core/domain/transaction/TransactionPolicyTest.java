@@ -0,0 +1,59 @@
+package com.wirebarley.transfer.core.domain.transaction;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.exception.BusinessException;
+import com.wirebarley.transfer.core.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionPolicyTest {
+
+    private final TransactionPolicy policy = new TransactionPolicy(new BigDecimal("0.01"), 3_000_000, 1_000_000);
+
+    @Test
+    @DisplayName("이체 수수료는 1%이며 원 미만은 버린다")
+    void it_calculates_transfer_fee() {
+        assertThat(policy.transferFee(Money.of(30_000))).isEqualTo(Money.of(300));
+        assertThat(policy.transferFee(Money.of(15_099))).isEqualTo(Money.of(150));
+    }
+
+    @Test
+    @DisplayName("누적 사용량 + 이번 금액이 한도와 같으면 허용하고, 넘으면 거래 유형별 에러 코드로 거절한다")
+    void it_checks_daily_limit_by_type() {
+        assertThatCode(() -> policy.checkDailyLimit(
+                TransactionHistory.TransactionType.TRANSFER_SEND, Money.of(2_000_000), Money.of(1_000_000)))
+                .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> policy.checkDailyLimit(
+                TransactionHistory.TransactionType.TRANSFER_SEND, Money.of(2_000_000), Money.of(1_000_001)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+        assertThatThrownBy(() -> policy.checkDailyLimit(
+                TransactionHistory.TransactionType.WITHDRAW, Money.ZERO, Money.of(1_000_001)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.WITHDRAW_DAILY_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("입금/수취는 한도 대상이 아니다")
+    void it_rejects_types_without_limit() {
+        assertThatThrownBy(() -> policy.checkDailyLimit(
+                TransactionHistory.TransactionType.DEPOSIT, Money.ZERO, Money.of(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("한도 집계는 직전 24시간부터 시작한다")
+    void it_starts_limit_window_24_hours_ago() {
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 10, 30);
+
+        assertThat(policy.limitWindowStart(now)).isEqualTo(LocalDateTime.of(2024, 4, 30, 10, 30));
+    }
+}
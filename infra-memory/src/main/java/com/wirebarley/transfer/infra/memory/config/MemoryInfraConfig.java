@@ -0,0 +1,21 @@
+package com.wirebarley.transfer.infra.memory.config;
+
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * memory 프로필 설정 (DataSource/JPA/Flyway 자동 설정은 application-memory.properties에서 제외)
+ * DB 트랜잭션 매니저 대신 메모리 저장소의 커밋/롤백을 처리하는 트랜잭션 매니저를 등록합니다.
+ */
+@Configuration
+@Profile("memory")
+public class MemoryInfraConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new MemoryTransactionManager();
+    }
+}
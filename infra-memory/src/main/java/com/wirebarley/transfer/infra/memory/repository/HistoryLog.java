@@ -0,0 +1,120 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 한 개의 거래 내역 배열 ((transactedAt, id) 오름차순)
+ * 추가는 락 안에서 하고, 조회는 락 없이 마지막으로 공개된 스냅샷(배열 + 크기)을 읽습니다.
+ * 순서대로 들어온 내역은 배열 끝에 덧붙이기만 하므로 이미 공개된 구간은 바뀌지 않으며,
+ * 용량이 부족하거나 순서가 어긋난 내역(transactedAt이 더 이른 커밋)이 들어올 때만 새 배열로 복사합니다.
+ */
+final class HistoryLog {
+
+    private static final Comparator<TransactionHistory> ORDER =
+            Comparator.comparing(TransactionHistory::getTransactedAt).thenComparing(TransactionHistory::getId);
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    static final Snapshot EMPTY = new Snapshot(new TransactionHistory[0], 0); // 내역이 없는 계좌의 조회용
+
+    private final Lock lock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(new TransactionHistory[INITIAL_CAPACITY], 0);
+
+    Snapshot snapshot() {
+        return snapshot;
+    }
+
+    void appendAll(List<TransactionHistory> histories) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            TransactionHistory[] items = current.items;
+            int size = current.size;
+
+            for (TransactionHistory history : histories) {
+                int position = size;
+                while (position > 0 && ORDER.compare(items[position - 1], history) > 0) {
+                    position--;
+                }
+
+                if (position == size && size < items.length) {
+                    items[size] = history; // 공개된 구간 뒤에만 쓰므로 기존 스냅샷을 읽는 쪽에 영향 없음
+                } else {
+                    int capacity = (size < items.length) ? items.length : items.length * 2;
+                    TransactionHistory[] copied = new TransactionHistory[capacity];
+                    System.arraycopy(items, 0, copied, 0, position);
+                    copied[position] = history;
+                    System.arraycopy(items, position, copied, position + 1, size - position);
+                    items = copied;
+                }
+                size++;
+            }
+
+            snapshot = new Snapshot(items, size);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static final class Snapshot {
+
+        private final TransactionHistory[] items;
+        private final int size;
+
+        private Snapshot(TransactionHistory[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        TransactionHistory get(int index) {
+            return items[index];
+        }
+
+        /**
+         * transactedAt이 dateTime보다 늦은 첫 위치
+         */
+        int firstAfter(LocalDateTime dateTime) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (items[mid].getTransactedAt().isAfter(dateTime)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * (transactedAt, id)가 커서 위치 이상인 첫 위치 (이 앞의 내역이 커서 다음 페이지 대상)
+         */
+        int firstAtOrAfter(HistoryCursor cursor) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                TransactionHistory history = items[mid];
+                int compared = history.getTransactedAt().compareTo(cursor.getTransactedAt());
+                if (compared > 0 || (compared == 0 && history.getId() >= cursor.getId())) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * long 키(0 이상의 ID) -> 값 동시성 테이블
+ * ID는 1부터 순서대로 발급되므로 해시 대신 4096개 단위 청크 배열에 ID 위치로 바로 저장합니다. (키 boxing, 해시 계산 없음)
+ * 조회/저장은 락 없이 원자 배열로 처리하고, 청크 추가와 디렉터리 확장만 락 안에서 수행합니다.
+ */
+final class LongIndexedTable<T> {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNKS = 16;
+
+    private final Lock growLock = new ReentrantLock();
+    private volatile AtomicReferenceArray<AtomicReferenceArray<T>> chunks = new AtomicReferenceArray<>(INITIAL_CHUNKS);
+
+    T get(long key) {
+        AtomicReferenceArray<T> chunk = chunkOf(key);
+        return (chunk == null) ? null : chunk.get(offsetOf(key));
+    }
+
+    void put(long key, T value) {
+        chunkFor(key).set(offsetOf(key), value);
+    }
+
+    /**
+     * 값이 없을 때만 factory로 만든 값을 저장하고, 저장된 값을 반환합니다.
+     */
+    T computeIfAbsent(long key, LongFunction<T> factory) {
+        T existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        AtomicReferenceArray<T> chunk = chunkFor(key);
+        T created = factory.apply(key);
+        return chunk.compareAndSet(offsetOf(key), null, created) ? created : chunk.get(offsetOf(key));
+    }
+
+    /**
+     * 저장된 값이 expected일 때만 제거합니다.
+     */
+    void remove(long key, T expected) {
+        AtomicReferenceArray<T> chunk = chunkOf(key);
+        if (chunk != null) {
+            chunk.compareAndSet(offsetOf(key), expected, null);
+        }
+    }
+
+    /**
+     * 저장된 모든 값을 순회합니다. (순회 중 추가/제거된 값은 포함되지 않을 수 있음)
+     */
+    void forEachValue(Consumer<T> action) {
+        AtomicReferenceArray<AtomicReferenceArray<T>> current = chunks;
+        for (int i = 0; i < current.length(); i++) {
+            AtomicReferenceArray<T> chunk = current.get(i);
+            if (chunk == null) {
+                continue;
+            }
+            for (int offset = 0; offset < CHUNK_SIZE; offset++) {
+                T value = chunk.get(offset);
+                if (value != null) {
+                    action.accept(value);
+                }
+            }
+        }
+    }
+
+    private AtomicReferenceArray<T> chunkOf(long key) {
+        int index = chunkIndexOf(key);
+        AtomicReferenceArray<AtomicReferenceArray<T>> current = chunks;
+        return (index < current.length()) ? current.get(index) : null;
+    }
+
+    private AtomicReferenceArray<T> chunkFor(long key) {
+        AtomicReferenceArray<T> chunk = chunkOf(key);
+        if (chunk != null) {
+            return chunk;
+        }
+
+        int index = chunkIndexOf(key);
+        growLock.lock();
+        try {
+            AtomicReferenceArray<AtomicReferenceArray<T>> current = chunks;
+            if (index >= current.length()) {
+                AtomicReferenceArray<AtomicReferenceArray<T>> grown =
+                        new AtomicReferenceArray<>(Math.max(current.length() * 2, index + 1));
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                chunks = grown;
+                current = grown;
+            }
+
+            chunk = current.get(index);
+            if (chunk == null) {
+                chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+                current.set(index, chunk);
+            }
+            return chunk;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    private static int chunkIndexOf(long key) {
+        if (key < 0 || (key >>> CHUNK_BITS) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("지원하지 않는 키입니다: " + key);
+        }
+        return (int) (key >>> CHUNK_BITS);
+    }
+
+    private static int offsetOf(long key) {
+        return (int) (key & CHUNK_MASK);
+    }
+}
@@ -0,0 +1,144 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.repository.AccountBalanceSlotRepository;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryRow;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * 슬롯마다 행 락을 두어 적립끼리는 서로 다른 슬롯에서 대기 없이 진행하고,
+ * 회수는 AccountBalanceSlotRepositoryImpl과 같이 계좌 행 -> 슬롯 행 순서로 잠급니다.
+ * 적립 시 계좌 행에 공유 락(FOR SHARE)은 잡지 않고 커밋된 계좌 상태만 확인합니다.
+ */
+@Repository
+@Profile("memory")
+@RequiredArgsConstructor
+public class MemoryAccountBalanceSlotRepository implements AccountBalanceSlotRepository {
+
+    private final MemoryAccountRepository accountRepository;
+    private final LongIndexedTable<List<MemoryRow<Money>>> slotsByAccountId = new LongIndexedTable<>();
+    private final Lock createLock = new ReentrantLock();
+
+    @Value("${memory.lock-timeout-ms}")
+    private long LOCK_TIMEOUT_MS; // 행 락 대기 시간 (DB의 lock_timeout 역할)
+
+    /**
+     * 슬롯 목록은 불변 리스트로 교체하며, 이미 존재하는 슬롯은 유지합니다. (롤백되어도 빈 슬롯은 남음)
+     */
+    @Override
+    public void createSlots(Long accountId, int slotCount, LocalDateTime updatedAt) {
+        createLock.lock();
+        try {
+            List<MemoryRow<Money>> existing = slotsByAccountId.get(accountId);
+            int existingCount = (existing == null) ? 0 : existing.size();
+            if (existingCount >= slotCount) {
+                return;
+            }
+
+            List<MemoryRow<Money>> slots = new ArrayList<>(slotCount);
+            if (existing != null) {
+                slots.addAll(existing);
+            }
+            for (int slotNo = existingCount; slotNo < slotCount; slotNo++) {
+                slots.add(new MemoryRow<>(Money.ZERO));
+            }
+            slotsByAccountId.put(accountId, List.copyOf(slots));
+        } finally {
+            createLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean credit(Long accountId, int slotNo, Money amount, LocalDateTime updatedAt) {
+        List<MemoryRow<Money>> slots = slotsByAccountId.get(accountId);
+        if (slots == null || slotNo < 0 || slotNo >= slots.size() || !accountRepository.isActive(accountId)) {
+            return false;
+        }
+
+        MemoryRow<Money> slot = slots.get(slotNo);
+        return MemoryTransaction.execute(transaction -> {
+            Money balance = transaction.lock(slot, LOCK_TIMEOUT_MS);
+            transaction.write(slot, balance.plus(amount));
+            return true;
+        });
+    }
+
+    /**
+     * 적립과 같은 순서로 계좌 행을 먼저 잠근 뒤, 잔액이 있는 슬롯만 잠가서 비웁니다.
+     */
+    @Override
+    public Money drain(Long accountId, LocalDateTime updatedAt) {
+        MemoryRow<Account> owner = accountRepository.rowOf(accountId);
+        List<MemoryRow<Money>> slots = slotsByAccountId.get(accountId);
+
+        return MemoryTransaction.execute(transaction -> {
+            if (owner != null) {
+                transaction.lock(owner, LOCK_TIMEOUT_MS);
+            }
+            transaction.publishAtomically();
+            if (slots == null) {
+                return Money.ZERO;
+            }
+
+            Money drained = Money.ZERO;
+            for (MemoryRow<Money> slot : slots) {
+                if (!slot.read().isPositive()) {
+                    continue;
+                }
+
+                Money balance = transaction.lock(slot, LOCK_TIMEOUT_MS);
+                if (balance.isPositive()) {
+                    transaction.write(slot, Money.ZERO);
+                    drained = drained.plus(balance);
+                }
+            }
+            return drained;
+        });
+    }
+
+    @Override
+    public Money sumBalances(Long accountId) {
+        return sumSlots(slotsByAccountId.get(accountId));
+    }
+
+    /**
+     * 회수는 계좌 행과 슬롯들을 한 번에 공개하므로, 공개 도중(본 잔액만 반영된 상태 등)의 합계는 읽지 않습니다.
+     * 락을 기다리지 않으므로 슬롯 락을 잡은 적립 트랜잭션 안에서 호출해도 회수와 서로 대기하지 않습니다.
+     */
+    @Override
+    public Money totalBalance(Long accountId) {
+        MemoryRow<Account> owner = accountRepository.rowOf(accountId);
+        if (owner == null) {
+            return Money.ZERO;
+        }
+
+        return MemoryTransaction.readConsistent(() -> {
+            Account account = owner.read();
+            return (account == null) ? Money.ZERO : account.getBalance().plus(sumSlots(slotsByAccountId.get(accountId)));
+        });
+    }
+
+    private static Money sumSlots(List<MemoryRow<Money>> slots) {
+        if (slots == null) {
+            return Money.ZERO;
+        }
+
+        Money sum = Money.ZERO;
+        for (MemoryRow<Money> slot : slots) {
+            sum = sum.plus(slot.read());
+        }
+        return sum;
+    }
+}
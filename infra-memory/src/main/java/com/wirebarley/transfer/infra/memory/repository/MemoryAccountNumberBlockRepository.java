@@ -0,0 +1,26 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+import com.wirebarley.transfer.core.repository.AccountNumberBlockRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * account_number_seq(START WITH 0 INCREMENT BY 1000)와 같은 순서로 블록을 예약합니다.
+ */
+@Repository
+@Profile("memory")
+public class MemoryAccountNumberBlockRepository implements AccountNumberBlockRepository {
+
+    private static final long BLOCK_SIZE = 1000L;
+
+    private final AtomicLong nextBlockStart = new AtomicLong();
+
+    @Override
+    public AccountNumberBlock reserveBlock() {
+        return new AccountNumberBlock(nextBlockStart.getAndAdd(BLOCK_SIZE), BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,353 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryRow;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * 계좌는 ID 위치로 바로 찾는 배열 테이블(LongIndexedTable)과 계좌번호 -> 행 맵에 보관하며,
+ * 계좌마다 행 락을 두어 FOR UPDATE 와 같이 트랜잭션이 끝날 때까지 다른 변경을 막습니다.
+ * 여러 계좌는 DB 어댑터와 같이 id 오름차순으로 잠그므로, 서비스의 락 순서 규칙이 그대로 적용됩니다.
+ * 반환하는 Account는 항상 복사본이므로 호출한 쪽의 변경은 save() 전까지 저장소에 반영되지 않습니다.
+ */
+@Repository
+@Profile("memory")
+public class MemoryAccountRepository implements AccountRepository {
+
+    private final AtomicLong idSequence = new AtomicLong();
+    private final LongIndexedTable<MemoryRow<Account>> rowsById = new LongIndexedTable<>();
+    private final Map<String, MemoryRow<Account>> rowsByNumber = new ConcurrentHashMap<>();
+
+    @Value("${memory.lock-timeout-ms}")
+    private long LOCK_TIMEOUT_MS; // 행 락 대기 시간 (DB의 lock_timeout 역할)
+
+    @Override
+    public Account save(Account account) {
+        return (account.getId() == null) ? insert(account) : update(account);
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<Account> savedAccounts = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            savedAccounts.add(save(account));
+        }
+        return savedAccounts;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return Optional.ofNullable(visibleAccount(id))
+                .map(MemoryAccountRepository::copyOf);
+    }
+
+    @Override
+    public List<Account> findAllByIds(Collection<Long> ids) {
+        List<Account> accounts = new ArrayList<>(ids.size());
+        for (Long id : new HashSet<>(ids)) {
+            Account account = visibleAccount(id);
+            if (account != null) {
+                accounts.add(copyOf(account));
+            }
+        }
+        return accounts;
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        MemoryRow<Account> row = rowsByNumber.get(accountNumber);
+        return Optional.ofNullable((row == null) ? null : row.read())
+                .filter(MemoryAccountRepository::isActive)
+                .map(MemoryAccountRepository::copyOf);
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbers(Collection<String> accountNumbers) {
+        List<Account> accounts = new ArrayList<>(accountNumbers.size());
+        for (String accountNumber : new HashSet<>(accountNumbers)) {
+            findByAccountNumber(accountNumber).ifPresent(accounts::add);
+        }
+        return accounts;
+    }
+
+    /**
+     * 행은 커밋 후에 테이블에서 제거합니다. (롤백되면 그대로 유지)
+     */
+    @Override
+    public void delete(Account account) {
+        MemoryRow<Account> row = rowsById.get(account.getId());
+        if (row == null) {
+            return;
+        }
+
+        MemoryTransaction.execute(transaction -> {
+            Account current = transaction.lock(row, LOCK_TIMEOUT_MS);
+            if (current == null) {
+                return null;
+            }
+            transaction.write(row, null);
+            transaction.onCommit(() -> {
+                rowsById.remove(current.getId(), row);
+                rowsByNumber.remove(current.getAccountNumber(), row);
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Account> findByIdWithLock(Long id) {
+        MemoryRow<Account> row = rowsById.get(id);
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(MemoryTransaction.execute(transaction -> transaction.lock(row, LOCK_TIMEOUT_MS)))
+                .filter(MemoryAccountRepository::isActive)
+                .map(MemoryAccountRepository::copyOf);
+    }
+
+    /**
+     * id 오름차순으로 행 락을 획득합니다. (데드락 방지)
+     */
+    @Override
+    public List<Account> findAllByIdsWithLock(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MemoryRow<Account>> rows = new TreeMap<>();
+        for (Long id : ids) {
+            MemoryRow<Account> row = rowsById.get(id);
+            if (row != null) {
+                rows.put(id, row);
+            }
+        }
+
+        return MemoryTransaction.execute(transaction -> {
+            List<Account> accounts = new ArrayList<>(rows.size());
+            for (MemoryRow<Account> row : rows.values()) {
+                Account account = transaction.lock(row, LOCK_TIMEOUT_MS);
+                if (isActive(account)) {
+                    accounts.add(copyOf(account));
+                }
+            }
+            return accounts;
+        });
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbersWithLock(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (String accountNumber : accountNumbers) {
+            MemoryRow<Account> row = rowsByNumber.get(accountNumber);
+            Account account = (row == null) ? null : row.read();
+            if (account != null) {
+                ids.add(account.getId());
+            }
+        }
+        return findAllByIdsWithLock(ids);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        MemoryRow<Account> row = rowsByNumber.get(accountNumber);
+        return row != null && row.read() != null;
+    }
+
+    @Override
+    public Optional<Money> increaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        MemoryRow<Account> row = rowsById.get(id);
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        return MemoryTransaction.execute(transaction -> {
+            Account current = transaction.lock(row, LOCK_TIMEOUT_MS);
+            if (!isActive(current)) {
+                return Optional.empty();
+            }
+
+            Account updated = withBalance(current, current.getBalance().plus(amount), updatedAt);
+            transaction.write(row, updated);
+            return Optional.of(updated.getBalance());
+        });
+    }
+
+    @Override
+    public Optional<Money> decreaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        MemoryRow<Account> row = rowsById.get(id);
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        return MemoryTransaction.execute(transaction -> {
+            Account current = transaction.lock(row, LOCK_TIMEOUT_MS);
+            if (!isActive(current) || current.getBalance().isLessThan(amount)) {
+                return Optional.empty();
+            }
+
+            Account updated = withBalance(current, current.getBalance().minus(amount), updatedAt);
+            transaction.write(row, updated);
+            return Optional.of(updated.getBalance());
+        });
+    }
+
+    /**
+     * 대상 계좌를 id 순서로 잠근 뒤 갱신합니다. (결과 잔액이 음수가 되는 계좌는 제외)
+     */
+    @Override
+    public Set<Long> increaseBalances(Map<Long, Money> amountsById, LocalDateTime updatedAt) {
+        if (amountsById.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Money> sorted = new TreeMap<>(amountsById);
+        return MemoryTransaction.execute(transaction -> {
+            Set<Long> updatedIds = new HashSet<>();
+            sorted.forEach((id, amount) -> {
+                MemoryRow<Account> row = rowsById.get(id);
+                if (row == null) {
+                    return;
+                }
+
+                Account current = transaction.lock(row, LOCK_TIMEOUT_MS);
+                if (!isActive(current)) {
+                    return;
+                }
+                Money balance = current.getBalance().plus(amount);
+                if (balance.isNegative()) {
+                    return;
+                }
+
+                transaction.write(row, withBalance(current, balance, updatedAt));
+                updatedIds.add(id);
+            });
+            return updatedIds;
+        });
+    }
+
+    /**
+     * 슬롯 저장소가 계좌 행 락(FOR UPDATE)을 잡을 때 사용합니다.
+     */
+    MemoryRow<Account> rowOf(Long id) {
+        return rowsById.get(id);
+    }
+
+    boolean isActive(Long id) {
+        return isActive(visibleAccount(id));
+    }
+
+    private Account insert(Account account) {
+        Long id = idSequence.incrementAndGet();
+        Account stored = copyOf(account, id, 0L);
+        MemoryRow<Account> row = new MemoryRow<>();
+
+        // 계좌번호 유니크 제약 (uk_accounts_account_number)
+        if (rowsByNumber.putIfAbsent(account.getAccountNumber(), row) != null) {
+            throw new DuplicateKeyException("이미 사용 중인 계좌번호입니다: " + account.getAccountNumber());
+        }
+        rowsById.put(id, row);
+
+        MemoryTransaction.execute(transaction -> {
+            transaction.insert(row, stored);
+            transaction.onRollback(() -> {
+                rowsById.remove(id, row);
+                rowsByNumber.remove(account.getAccountNumber(), row);
+            });
+            return null;
+        });
+        return copyOf(stored);
+    }
+
+    /**
+     * @Version과 같이 읽은 시점의 version이 그대로인 경우에만 갱신합니다. (아니면 낙관적 락 충돌)
+     */
+    private Account update(Account account) {
+        MemoryRow<Account> row = rowsById.get(account.getId());
+        if (row == null) {
+            throw new OptimisticLockingFailureException("계좌가 다른 트랜잭션에서 삭제되었습니다. (id=" + account.getId() + ")");
+        }
+
+        Account updated = MemoryTransaction.execute(transaction -> {
+            Account current = transaction.lock(row, LOCK_TIMEOUT_MS);
+            if (current == null || !Objects.equals(current.getVersion(), account.getVersion())) {
+                throw new OptimisticLockingFailureException("계좌가 다른 트랜잭션에서 변경되었습니다. (id=" + account.getId() + ")");
+            }
+
+            Account next = copyOf(account, account.getId(), current.getVersion() + 1);
+            transaction.write(row, next);
+            return next;
+        });
+        return copyOf(updated);
+    }
+
+    private Account visibleAccount(Long id) {
+        MemoryRow<Account> row = rowsById.get(id);
+        return (row == null) ? null : row.read();
+    }
+
+    private static boolean isActive(Account account) {
+        return account != null && account.getStatus() == Account.AccountStatus.ACTIVE;
+    }
+
+    private static Account copyOf(Account account) {
+        return copyOf(account, account.getId(), account.getVersion());
+    }
+
+    private static Account copyOf(Account account, Long id, Long version) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(account.getAccountNumber())
+                .ownerName(account.getOwnerName())
+                .balance(account.getBalance())
+                .createdAt(account.getCreatedAt())
+                .updatedAt(account.getUpdatedAt())
+                .status(account.getStatus())
+                .passwordHash(account.getPasswordHash())
+                .salt(account.getSalt())
+                .version(version)
+                .slotCount(account.getSlotCount())
+                .build();
+    }
+
+    private static Account withBalance(Account account, Money balance, LocalDateTime updatedAt) {
+        return Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .ownerName(account.getOwnerName())
+                .balance(balance)
+                .createdAt(account.getCreatedAt())
+                .updatedAt(updatedAt)
+                .status(account.getStatus())
+                .passwordHash(account.getPasswordHash())
+                .salt(account.getSalt())
+                .version(account.getVersion() + 1)
+                .slotCount(account.getSlotCount())
+                .build();
+    }
+}
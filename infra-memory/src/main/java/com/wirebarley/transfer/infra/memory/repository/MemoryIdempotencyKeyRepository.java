@@ -0,0 +1,111 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.transfer.core.repository.IdempotencyKeyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * IdempotencyKeyRepositoryImpl의 REQUIRES_NEW와 같이 호출한 쪽의 트랜잭션과 무관하게 즉시 반영하며,
+ * 선점/완료/해제는 키 단위 원자 연산(ConcurrentHashMap.compute)으로 처리합니다.
+ */
+@Repository
+@Profile("memory")
+public class MemoryIdempotencyKeyRepository implements IdempotencyKeyRepository {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean claim(String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        entries.compute(key, (k, existing) -> {
+            if (existing != null && !existing.isExpired(now)) {
+                return existing;
+            }
+
+            claimed.set(true);
+            return new Entry(IdempotencyRecord.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .status(IdempotencyRecord.Status.IN_PROGRESS)
+                    .expiresAt(expiresAt)
+                    .build(), now);
+        });
+        return claimed.get();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return Optional.ofNullable(entries.get(key))
+                .map(Entry::getRecord);
+    }
+
+    @Override
+    public void complete(String key, int responseStatus, String responseBody) {
+        entries.computeIfPresent(key, (k, existing) -> {
+            if (existing.getRecord().isCompleted()) {
+                return existing;
+            }
+
+            IdempotencyRecord record = existing.getRecord();
+            return new Entry(IdempotencyRecord.builder()
+                    .key(record.getKey())
+                    .requestHash(record.getRequestHash())
+                    .status(IdempotencyRecord.Status.COMPLETED)
+                    .responseStatus(responseStatus)
+                    .responseBody(responseBody)
+                    .expiresAt(record.getExpiresAt())
+                    .build(), existing.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, existing) -> existing.getRecord().isCompleted() ? existing : null);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        AtomicInteger deleted = new AtomicInteger();
+        entries.values().removeIf(entry -> {
+            boolean expired = entry.isExpired(now);
+            if (expired) {
+                deleted.incrementAndGet();
+            }
+            return expired;
+        });
+        return deleted.get();
+    }
+
+    @Override
+    public int countInProgressBefore(LocalDateTime createdBefore) {
+        return (int) entries.values().stream()
+                .filter(entry -> !entry.getRecord().isCompleted() && entry.getCreatedAt().isBefore(createdBefore))
+                .count();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+
+        private final IdempotencyRecord record;
+        private final LocalDateTime createdAt; // 선점 시각 (결과 확인이 필요한 선점 집계용)
+
+        /**
+         * 만료된 COMPLETED 키만 다시 선점/삭제할 수 있습니다. (IN_PROGRESS 키는 확인 후 수동으로 정리)
+         */
+        boolean isExpired(LocalDateTime now) {
+            return record.isCompleted() && record.getExpiresAt().isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransaction;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * 거래 내역은 계좌별 추가 전용 배열(HistoryLog)에 보관하며, 트랜잭션이 커밋된 뒤에 추가되므로 롤백된 내역은 보이지 않습니다.
+ * 조회는 락 없이 배열 스냅샷에서 이진 탐색으로 시작 위치를 찾습니다.
+ */
+@Repository
+@Profile("memory")
+public class MemoryTransactionHistoryRepository implements TransactionHistoryRepository {
+
+    private final AtomicLong idSequence = new AtomicLong();
+    private final LongIndexedTable<HistoryLog> logsByAccountId = new LongIndexedTable<>();
+
+    @Override
+    public TransactionHistory save(TransactionHistory history) {
+        return saveAll(List.of(history)).get(0);
+    }
+
+    @Override
+    public List<TransactionHistory> saveAll(List<TransactionHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+
+        List<TransactionHistory> savedHistories = new ArrayList<>(histories.size());
+        Map<Long, List<TransactionHistory>> historiesByAccountId = new LinkedHashMap<>();
+        for (TransactionHistory history : histories) {
+            TransactionHistory saved = withId(history, idSequence.incrementAndGet());
+            savedHistories.add(saved);
+            historiesByAccountId.computeIfAbsent(saved.getAccountId(), id -> new ArrayList<>()).add(saved);
+        }
+
+        MemoryTransaction.execute(transaction -> {
+            transaction.onCommit(() -> historiesByAccountId.forEach((accountId, accountHistories) ->
+                    logsByAccountId.computeIfAbsent(accountId, id -> new HistoryLog()).appendAll(accountHistories)));
+            return null;
+        });
+        return savedHistories;
+    }
+
+    @Override
+    public List<TransactionHistory> findByAccountIdAndTypeAndTransactedAtAfter(
+            Long accountId,
+            TransactionHistory.TransactionType transactionType,
+            LocalDateTime afterDateTime
+    ) {
+        HistoryLog.Snapshot snapshot = snapshotOf(accountId);
+        List<TransactionHistory> histories = new ArrayList<>();
+        for (int i = snapshot.firstAfter(afterDateTime); i < snapshot.size(); i++) {
+            TransactionHistory history = snapshot.get(i);
+            if (history.getType() == transactionType) {
+                histories.add(history);
+            }
+        }
+        return histories;
+    }
+
+    @Override
+    public List<TransactionHistory> findByAccountIdOrderByTransactedAtDesc(Long accountId) {
+        HistoryLog.Snapshot snapshot = snapshotOf(accountId);
+        List<TransactionHistory> histories = new ArrayList<>(snapshot.size());
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            histories.add(snapshot.get(i));
+        }
+        return histories;
+    }
+
+    @Override
+    public List<TransactionHistory> findPageByAccountId(Long accountId, HistoryCursor cursor, int limit) {
+        HistoryLog.Snapshot snapshot = snapshotOf(accountId);
+        int end = (cursor == null) ? snapshot.size() : snapshot.firstAtOrAfter(cursor);
+
+        List<TransactionHistory> histories = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && histories.size() < limit; i--) {
+            histories.add(snapshot.get(i));
+        }
+        return histories;
+    }
+
+    /**
+     * 호출 시점의 스냅샷을 최신순으로 스트리밍합니다. (close 할 자원 없음)
+     */
+    @Override
+    public Stream<TransactionHistory> streamByAccountId(Long accountId) {
+        HistoryLog.Snapshot snapshot = snapshotOf(accountId);
+        int size = snapshot.size();
+        return IntStream.range(0, size)
+                .mapToObj(i -> snapshot.get(size - 1 - i));
+    }
+
+    /**
+     * from 초과 ~ to 미만 구간의 거래 금액 합계 (1일 한도 집계의 경계 버킷용)
+     */
+    long sumAmountBetween(Long accountId, TransactionHistory.TransactionType transactionType,
+                          LocalDateTime from, LocalDateTime to) {
+        HistoryLog.Snapshot snapshot = snapshotOf(accountId);
+        long sum = 0L;
+        for (int i = snapshot.firstAfter(from); i < snapshot.size(); i++) {
+            TransactionHistory history = snapshot.get(i);
+            if (!history.getTransactedAt().isBefore(to)) {
+                break;
+            }
+            if (history.getType() == transactionType) {
+                sum = Math.addExact(sum, history.getAmount().longValue());
+            }
+        }
+        return sum;
+    }
+
+    private HistoryLog.Snapshot snapshotOf(Long accountId) {
+        HistoryLog log = logsByAccountId.get(accountId);
+        return (log == null) ? HistoryLog.EMPTY : log.snapshot();
+    }
+
+    private static TransactionHistory withId(TransactionHistory history, Long id) {
+        return TransactionHistory.builder()
+                .id(id)
+                .accountId(history.getAccountId())
+                .counterpartyAccountId(history.getCounterpartyAccountId())
+                .type(history.getType())
+                .amount(history.getAmount())
+                .fee(history.getFee())
+                .transactedAt(history.getTransactedAt())
+                .build();
+    }
+}
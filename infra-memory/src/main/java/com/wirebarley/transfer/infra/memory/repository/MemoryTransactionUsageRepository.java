@@ -0,0 +1,127 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * memory 프로필용 어댑터 (DB 없음, 단일 인스턴스 전용)
+ * 계좌/거래유형별 시간 버킷 합계를 커밋 후에 누적하며, 합산 방식은 TransactionUsageRepositoryImpl과 같습니다.
+ * (기준 시각이 걸친 첫 버킷은 거래 내역에서 정확히 합산하고, 이후 버킷은 버킷 합계를 사용)
+ */
+@Repository
+@Profile("memory")
+@RequiredArgsConstructor
+public class MemoryTransactionUsageRepository implements TransactionUsageRepository {
+
+    private final MemoryTransactionHistoryRepository historyRepository;
+    private final LongIndexedTable<AccountUsage> usagesByAccountId = new LongIndexedTable<>();
+
+    @Override
+    public void accumulate(TransactionHistory history) {
+        accumulateAll(List.of(history));
+    }
+
+    @Override
+    public void accumulateAll(List<TransactionHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        MemoryTransaction.execute(transaction -> {
+            transaction.onCommit(() -> {
+                for (TransactionHistory history : histories) {
+                    usagesByAccountId.computeIfAbsent(history.getAccountId(), id -> new AccountUsage())
+                            .add(history.getType(), toBucketStart(history.getTransactedAt()), history.getAmount());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public Money sumAmountAfter(
+            Long accountId,
+            TransactionHistory.TransactionType transactionType,
+            LocalDateTime afterDateTime
+    ) {
+        LocalDateTime edgeBucketStart = toBucketStart(afterDateTime);
+
+        AccountUsage usage = usagesByAccountId.get(accountId);
+        long bucketSum = (usage == null) ? 0L : usage.sumAfter(transactionType, edgeBucketStart);
+        long edgeSum = historyRepository.sumAmountBetween(
+                accountId, transactionType, afterDateTime, edgeBucketStart.plusHours(1));
+
+        return Money.of(Math.addExact(bucketSum, edgeSum));
+    }
+
+    /**
+     * 누적(커밋 후 반영)과 같이 호출한 쪽의 트랜잭션과 무관하게 즉시 삭제합니다.
+     */
+    @Override
+    public int deleteBucketsBefore(LocalDateTime bucketStart) {
+        AtomicInteger deleted = new AtomicInteger();
+        usagesByAccountId.forEachValue(usage -> deleted.addAndGet(usage.removeBefore(bucketStart)));
+        return deleted.get();
+    }
+
+    private LocalDateTime toBucketStart(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * 계좌 한 개의 거래유형별 시간 버킷 합계
+     */
+    private static final class AccountUsage {
+
+        private final Map<TransactionHistory.TransactionType, ConcurrentNavigableMap<LocalDateTime, AtomicLong>> buckets =
+                new EnumMap<>(TransactionHistory.TransactionType.class);
+
+        private AccountUsage() {
+            for (TransactionHistory.TransactionType type : TransactionHistory.TransactionType.values()) {
+                buckets.put(type, new ConcurrentSkipListMap<>());
+            }
+        }
+
+        void add(TransactionHistory.TransactionType type, LocalDateTime bucketStart, Money amount) {
+            buckets.get(type).computeIfAbsent(bucketStart, start -> new AtomicLong())
+                    .accumulateAndGet(amount.longValue(), Math::addExact);
+        }
+
+        long sumAfter(TransactionHistory.TransactionType type, LocalDateTime bucketStart) {
+            long sum = 0L;
+            for (AtomicLong bucket : buckets.get(type).tailMap(bucketStart, false).values()) {
+                sum = Math.addExact(sum, bucket.get());
+            }
+            return sum;
+        }
+
+        int removeBefore(LocalDateTime bucketStart) {
+            int removed = 0;
+            for (ConcurrentNavigableMap<LocalDateTime, AtomicLong> typeBuckets : buckets.values()) {
+                Map.Entry<LocalDateTime, AtomicLong> oldest = typeBuckets.firstEntry();
+                while (oldest != null && oldest.getKey().isBefore(bucketStart)) {
+                    if (typeBuckets.remove(oldest.getKey(), oldest.getValue())) {
+                        removed++;
+                    }
+                    oldest = typeBuckets.firstEntry();
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.wirebarley.transfer.infra.memory.transaction;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 저장소의 행 (DB의 행 락 + READ COMMITTED 가시성과 같은 규칙)
+ * - 값을 바꾸려면 MemoryTransaction.lock()으로 행 락을 먼저 획득하며, 락은 트랜잭션이 끝날 때(커밋/롤백) 해제됩니다.
+ * - 락을 잡은 트랜잭션은 자신이 쓴 값을, 다른 트랜잭션은 마지막으로 커밋된 값을 읽습니다.
+ * 저장하는 값은 불변으로 다루어야 합니다. (변경은 항상 새 객체로 write)
+ */
+public final class MemoryRow<T> {
+
+    // 재진입 불가 (같은 스레드의 REQUIRES_NEW 트랜잭션도 DB와 같이 바깥 트랜잭션의 락을 기다림)
+    private final Semaphore lock = new Semaphore(1);
+
+    private volatile T committed; // null이면 아직 커밋되지 않았거나 삭제된 행
+    private volatile MemoryTransaction owner;
+    private T pending; // owner 트랜잭션만 접근
+
+    /**
+     * 아직 커밋되지 않은 새 행 (MemoryTransaction.insert로 값을 씁니다)
+     */
+    public MemoryRow() {
+    }
+
+    public MemoryRow(T committed) {
+        this.committed = committed;
+    }
+
+    /**
+     * 현재 트랜잭션에서 보이는 값을 락 없이 읽습니다. (없으면 null)
+     */
+    public T read() {
+        MemoryTransaction current = MemoryTransaction.currentOrNull();
+        return (current != null && owner == current) ? pending : committed;
+    }
+
+    boolean tryLock(MemoryTransaction transaction, long timeoutMs) throws InterruptedException {
+        if (owner == transaction) {
+            return true;
+        }
+        if (!lock.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        owner = transaction;
+        pending = committed;
+        return true;
+    }
+
+    boolean isLockedBy(MemoryTransaction transaction) {
+        return owner == transaction;
+    }
+
+    T pending() {
+        return pending;
+    }
+
+    void write(T value) {
+        pending = value;
+    }
+
+    void release(boolean commit) {
+        if (commit) {
+            committed = pending;
+        }
+        pending = null;
+        owner = null;
+        lock.release();
+    }
+}
@@ -0,0 +1,189 @@
+package com.wirebarley.transfer.infra.memory.transaction;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Spring 트랜잭션 하나에 대응하는 메모리 저장소의 작업 단위
+ * 트랜잭션 안에서 처음 사용될 때 트랜잭션 동기화에 등록되며, 잠근 행과 커밋/롤백 시 실행할 작업을 모아 두었다가
+ * 커밋되면 행의 변경을 공개(커밋 후 작업 실행)하고, 롤백되면 변경을 버린(롤백 작업 실행) 뒤 행 락을 해제합니다.
+ */
+public final class MemoryTransaction implements TransactionSynchronization {
+
+    private static final Object RESOURCE_KEY = MemoryTransaction.class;
+
+    // 여러 행의 변경을 한 번에 공개해야 하는 트랜잭션의 공개 구간과 readConsistent를 배제 (그 외 커밋은 사용하지 않음)
+    private static final StampedLock PUBLISH_LOCK = new StampedLock();
+
+    private final List<MemoryRow<?>> lockedRows = new ArrayList<>();
+    private final List<Runnable> commitActions = new ArrayList<>();
+    private final List<Runnable> rollbackActions = new ArrayList<>();
+    private boolean atomicPublish;
+
+    private MemoryTransaction() {
+    }
+
+    /**
+     * 진행 중인 트랜잭션에 참여하여 work를 실행합니다.
+     * 트랜잭션 밖에서 호출되면 work 하나만 감싸는 자동 커밋 단위로 실행하고 바로 반영합니다. (DB의 autocommit과 같음)
+     */
+    public static <R> R execute(Function<MemoryTransaction, R> work) {
+        MemoryTransaction current = joinCurrent();
+        if (current != null) {
+            return work.apply(current);
+        }
+
+        MemoryTransaction autoCommit = new MemoryTransaction();
+        R result;
+        try {
+            result = work.apply(autoCommit);
+        } catch (RuntimeException | Error e) {
+            autoCommit.complete(false);
+            throw e;
+        }
+        autoCommit.complete(true);
+        return result;
+    }
+
+    /**
+     * publishAtomically()로 표시된 트랜잭션이 커밋 중이 아닐 때의 값으로 read를 실행합니다. (행 락 없음)
+     * 그런 트랜잭션이 바꾼 여러 행을 일부만 커밋된 상태로 읽지 않습니다.
+     */
+    public static <R> R readConsistent(Supplier<R> read) {
+        long stamp = PUBLISH_LOCK.tryOptimisticRead();
+        R result = read.get();
+        if (PUBLISH_LOCK.validate(stamp)) {
+            return result;
+        }
+
+        stamp = PUBLISH_LOCK.readLock();
+        try {
+            return read.get();
+        } finally {
+            PUBLISH_LOCK.unlockRead(stamp);
+        }
+    }
+
+    static MemoryTransaction currentOrNull() {
+        return (MemoryTransaction) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+    }
+
+    private static MemoryTransaction joinCurrent() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        MemoryTransaction current = currentOrNull();
+        if (current == null) {
+            current = new MemoryTransaction();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, current);
+            TransactionSynchronizationManager.registerSynchronization(current);
+        }
+        return current;
+    }
+
+    /**
+     * 행 락을 획득하고(이미 잡고 있으면 그대로) 이 트랜잭션에서 보이는 값을 반환합니다. (SELECT ... FOR UPDATE)
+     * timeoutMs 안에 획득하지 못하면 CannotAcquireLockException이 발생합니다.
+     */
+    public <T> T lock(MemoryRow<T> row, long timeoutMs) {
+        boolean alreadyLocked = row.isLockedBy(this);
+        try {
+            if (!row.tryLock(this, timeoutMs)) {
+                throw new CannotAcquireLockException("행 락을 " + timeoutMs + "ms 안에 획득하지 못했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("행 락을 기다리는 중 인터럽트되었습니다.", e);
+        }
+
+        if (!alreadyLocked) {
+            lockedRows.add(row);
+        }
+        return row.pending();
+    }
+
+    /**
+     * 락을 잡은 행의 값을 바꿉니다. (커밋 전까지 다른 트랜잭션에는 보이지 않음)
+     */
+    public <T> void write(MemoryRow<T> row, T value) {
+        if (!row.isLockedBy(this)) {
+            throw new IllegalStateException("락을 획득하지 않은 행은 변경할 수 없습니다.");
+        }
+        row.write(value);
+    }
+
+    /**
+     * 아직 커밋되지 않은 새 행에 값을 씁니다. (새 행은 다른 트랜잭션이 잠글 수 없으므로 대기하지 않음)
+     */
+    public <T> void insert(MemoryRow<T> row, T value) {
+        lock(row, 0L);
+        row.write(value);
+    }
+
+    /**
+     * 커밋 시 이 트랜잭션의 변경을 readConsistent와 배제하여 한 번에 공개합니다. (잔액 회수처럼 여러 행의 합이 유지되어야 하는 경우)
+     */
+    public void publishAtomically() {
+        atomicPublish = true;
+    }
+
+    public void onCommit(Runnable action) {
+        commitActions.add(action);
+    }
+
+    public void onRollback(Runnable action) {
+        rollbackActions.add(action);
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResource(RESOURCE_KEY);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(RESOURCE_KEY, this);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+        complete(status == STATUS_COMMITTED);
+    }
+
+    private void complete(boolean commit) {
+        if (commit && atomicPublish) {
+            long stamp = PUBLISH_LOCK.writeLock();
+            try {
+                releaseRows(true);
+            } finally {
+                PUBLISH_LOCK.unlockWrite(stamp);
+            }
+        } else {
+            releaseRows(commit);
+        }
+
+        List<Runnable> actions = commit ? commitActions : rollbackActions;
+        for (Runnable action : actions) {
+            action.run();
+        }
+        commitActions.clear();
+        rollbackActions.clear();
+    }
+
+    private void releaseRows(boolean commit) {
+        for (MemoryRow<?> row : lockedRows) {
+            row.release(commit);
+        }
+        lockedRows.clear();
+        atomicPublish = false;
+    }
+}
@@ -0,0 +1,86 @@
+package com.wirebarley.transfer.infra.memory.transaction;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * memory 프로필용 트랜잭션 매니저 (DB 커넥션 없음)
+ * 트랜잭션 경계와 전파(REQUIRED, REQUIRES_NEW 등)만 관리하고,
+ * 변경의 반영/되돌리기와 행 락 해제는 트랜잭션 동기화에 등록된 MemoryTransaction이 커밋/롤백 시점에 수행합니다.
+ */
+public class MemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        TransactionObject transaction = new TransactionObject();
+        transaction.state = (TransactionState) TransactionSynchronizationManager.getResource(this);
+        return transaction;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((TransactionObject) transaction).state != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionState state = new TransactionState();
+        TransactionSynchronizationManager.bindResource(this, state);
+        ((TransactionObject) transaction).state = state;
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((TransactionObject) transaction).state = null;
+        return TransactionSynchronizationManager.unbindResource(this);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(this, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        // 반영은 MemoryTransaction.afterCompletion(STATUS_COMMITTED)에서 수행
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // 되돌리기는 MemoryTransaction.afterCompletion(STATUS_ROLLED_BACK)에서 수행
+    }
+
+    /**
+     * 참여한 트랜잭션(REQUIRED)에서 예외가 나면 바깥 트랜잭션도 커밋되지 않도록 표시합니다.
+     */
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((TransactionObject) status.getTransaction()).state.rollbackOnly = true;
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(this);
+    }
+
+    private static final class TransactionState {
+        private volatile boolean rollbackOnly;
+    }
+
+    private static final class TransactionObject implements SmartTransactionObject {
+
+        private TransactionState state;
+
+        @Override
+        public boolean isRollbackOnly() {
+            return state != null && state.rollbackOnly;
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.wirebarley.transfer.infra.memory.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.infra.memory.transaction.MemoryTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoryAccountRepositoryTest {
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new MemoryTransactionManager());
+    private final MemoryAccountRepository repository = new MemoryAccountRepository();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "LOCK_TIMEOUT_MS", 100L);
+    }
+
+    @Test
+    @DisplayName("롤백되면 잔액 변경과 새로 저장한 계좌가 모두 버려진다")
+    void it_discards_changes_on_rollback() {
+        Long id = repository.save(newAccount("110-000-000001", 1000)).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.increaseBalance(id, Money.of(500), LocalDateTime.now());
+            repository.save(newAccount("110-000-000002", 0));
+            status.setRollbackOnly();
+        });
+
+        assertThat(repository.findById(id).map(Account::getBalance)).contains(Money.of(1000));
+        assertThat(repository.existsByAccountNumber("110-000-000002")).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋 전의 변경은 다른 트랜잭션에 보이지 않고, 행 락은 커밋할 때까지 유지된다")
+    void it_holds_row_lock_until_commit() {
+        Long id = repository.save(newAccount("110-000-000003", 1000)).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.findByIdWithLock(id).orElseThrow();
+            assertThat(repository.increaseBalance(id, Money.of(500), LocalDateTime.now())).contains(Money.of(1500));
+
+            Optional<Money> seenByOthers = CompletableFuture
+                    .supplyAsync(() -> repository.findById(id).map(Account::getBalance))
+                    .join();
+            assertThat(seenByOthers).contains(Money.of(1000));
+
+            CompletableFuture<Optional<Money>> blockedWrite = CompletableFuture
+                    .supplyAsync(() -> repository.decreaseBalance(id, Money.of(100), LocalDateTime.now()));
+            assertThatThrownBy(blockedWrite::join).hasCauseInstanceOf(CannotAcquireLockException.class);
+        });
+
+        assertThat(repository.findById(id).map(Account::getBalance)).contains(Money.of(1500));
+    }
+
+    private Account newAccount(String accountNumber, long balance) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .ownerName("홍길동")
+                .balance(Money.of(balance))
+                .passwordHash("hash")
+                .salt("salt")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
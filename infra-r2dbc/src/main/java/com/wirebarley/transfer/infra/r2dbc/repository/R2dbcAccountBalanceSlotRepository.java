@@ -0,0 +1,77 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수취 집중(Hot) 계좌의 잔액 분산 슬롯 논블로킹 어댑터
+ * 락 순서는 JDBC 어댑터와 같이 항상 계좌 행 -> 슬롯 행입니다. (데드락 방지)
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcAccountBalanceSlotRepository {
+
+    private static final String DRAIN_SQL = """
+            WITH drained AS (
+                SELECT slot_no, balance FROM account_balance_slots
+                WHERE account_id = :accountId AND balance > 0
+                ORDER BY slot_no
+                FOR UPDATE
+            )
+            UPDATE account_balance_slots s
+            SET balance = 0, updated_at = :updatedAt
+            FROM drained d
+            WHERE s.account_id = :accountId AND s.slot_no = d.slot_no
+            RETURNING d.balance
+            """;
+
+    private static final String TOTAL_BALANCE_SQL = """
+            SELECT CAST(a.balance + COALESCE(SUM(s.balance), 0) AS BIGINT) AS total
+            FROM accounts a
+            LEFT JOIN account_balance_slots s ON s.account_id = a.id
+            WHERE a.id = :accountId
+            GROUP BY a.id, a.balance
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 계좌 행을 잠근 뒤 모든 슬롯 잔액을 0으로 비우고, 비운 금액의 합계를 반환합니다.
+     * 반환된 금액은 같은 트랜잭션 안에서 본 잔액에 더해야 합니다.
+     */
+    public Mono<Money> drain(Long accountId, LocalDateTime updatedAt) {
+        Mono<Void> lockOwner = databaseClient.sql("SELECT id FROM accounts WHERE id = :accountId FOR UPDATE")
+                .bind("accountId", accountId)
+                .then();
+
+        return lockOwner.then(databaseClient.sql(DRAIN_SQL)
+                .bind("accountId", accountId)
+                .bind("updatedAt", updatedAt)
+                .map(row -> Money.of(row.get("balance", Long.class)))
+                .all()
+                .reduce(Money.ZERO, Money::plus));
+    }
+
+    public Mono<Money> sumBalances(Long accountId) {
+        return databaseClient.sql("SELECT CAST(COALESCE(SUM(balance), 0) AS BIGINT) AS total FROM account_balance_slots WHERE account_id = :accountId")
+                .bind("accountId", accountId)
+                .map(row -> Money.of(row.get("total", Long.class)))
+                .one();
+    }
+
+    /**
+     * 본 잔액과 슬롯 잔액의 합계를 한 문장(한 스냅샷)으로 조회합니다. (계좌가 없으면 0)
+     */
+    public Mono<Money> totalBalance(Long accountId) {
+        return databaseClient.sql(TOTAL_BALANCE_SQL)
+                .bind("accountId", accountId)
+                .map(row -> Money.of(row.get("total", Long.class)))
+                .one()
+                .defaultIfEmpty(Money.ZERO);
+    }
+}
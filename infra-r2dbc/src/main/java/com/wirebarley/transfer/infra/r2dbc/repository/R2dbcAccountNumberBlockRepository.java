@@ -0,0 +1,30 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 계좌번호 순번 블록(account_number_seq) 논블로킹 어댑터
+ * 서블릿 애플리케이션과 같은 시퀀스를 사용하므로 두 애플리케이션이 함께 운영되어도 블록이 겹치지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcAccountNumberBlockRepository {
+
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval('account_number_seq') AS block_start, seqincrement AS block_size
+            FROM pg_sequence
+            WHERE seqrelid = 'account_number_seq'::regclass
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<AccountNumberBlock> reserveBlock() {
+        return databaseClient.sql(RESERVE_BLOCK_SQL)
+                .map(row -> new AccountNumberBlock(row.get("block_start", Long.class), row.get("block_size", Long.class)))
+                .one();
+    }
+}
@@ -0,0 +1,142 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * accounts 테이블의 논블로킹 어댑터 (DatabaseClient)
+ * 잔액 변경 쿼리는 JDBC 어댑터(AccountRepositoryImpl)와 같은 조건부 UPDATE / FOR UPDATE 순서를 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcAccountRepository {
+
+    private static final String COLUMNS =
+            "id, account_number, owner_name, balance, created_at, updated_at, status, password_hash, salt, version, slot_count";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO accounts (id, account_number, owner_name, balance, created_at, updated_at, status,
+                                  password_hash, salt, version, slot_count)
+            VALUES (:id, :accountNumber, :ownerName, :balance, :createdAt, :updatedAt, 'ACTIVE', :passwordHash, :salt, 0, 0)
+            RETURNING\s""" + COLUMNS;
+
+    // 잔액이 음수가 되지 않는 경우에만 반영 (delta가 음수이면 출금)
+    private static final String ADD_BALANCE_SQL = """
+            UPDATE accounts
+            SET balance = balance + :delta, updated_at = :updatedAt, version = version + 1
+            WHERE id = :id AND status = 'ACTIVE' AND balance + :delta >= 0
+            RETURNING balance
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcPooledIdAllocator idAllocator;
+
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM accounts WHERE account_number = :accountNumber AND status = 'ACTIVE'")
+                .bind("accountNumber", accountNumber)
+                .map(R2dbcAccountRepository::toAccount)
+                .one();
+    }
+
+    /**
+     * 상태와 관계없이 ID로 조회합니다. (거래 내역의 상대방 계좌 표시용)
+     */
+    public Flux<Account> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM accounts WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(R2dbcAccountRepository::toAccount)
+                .all();
+    }
+
+    /**
+     * 계좌 번호로 'ACTIVE' 계좌들을 조회하면서 한 문장에서 id 오름차순으로 행 락을 획득합니다. (데드락 방지)
+     */
+    public Flux<Account> findAllByAccountNumbersForUpdate(Collection<String> accountNumbers) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM accounts "
+                        + "WHERE account_number IN (:accountNumbers) AND status = 'ACTIVE' ORDER BY id FOR UPDATE")
+                .bind("accountNumbers", accountNumbers)
+                .map(R2dbcAccountRepository::toAccount)
+                .all();
+    }
+
+    public Mono<Account> findByIdForUpdate(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM accounts WHERE id = :id AND status = 'ACTIVE' FOR UPDATE")
+                .bind("id", id)
+                .map(R2dbcAccountRepository::toAccount)
+                .one();
+    }
+
+    public Mono<Account> insert(Account account) {
+        return idAllocator.nextId("accounts_seq")
+                .flatMap(id -> databaseClient.sql(INSERT_SQL)
+                        .bind("id", id)
+                        .bind("accountNumber", account.getAccountNumber())
+                        .bind("ownerName", account.getOwnerName())
+                        .bind("balance", account.getBalance().longValue())
+                        .bind("createdAt", account.getCreatedAt())
+                        .bind("updatedAt", account.getUpdatedAt())
+                        .bind("passwordHash", account.getPasswordHash())
+                        .bind("salt", account.getSalt())
+                        .map(R2dbcAccountRepository::toAccount)
+                        .one());
+    }
+
+    /**
+     * 'ACTIVE' 계좌의 잔액을 조건부 UPDATE 한 문장으로 변경하고 변경 후 잔액을 반환합니다.
+     * (계좌가 없거나 잔액이 부족하면 empty)
+     */
+    public Mono<Money> addBalance(Long id, Money delta, LocalDateTime updatedAt) {
+        return databaseClient.sql(ADD_BALANCE_SQL)
+                .bind("delta", delta.longValue())
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .map(row -> Money.of(row.get("balance", Long.class)))
+                .one();
+    }
+
+    /**
+     * FOR UPDATE로 잠근 계좌의 변경된 잔액을 저장합니다.
+     */
+    public Mono<Void> updateBalance(Account account, LocalDateTime updatedAt) {
+        return databaseClient.sql("UPDATE accounts SET balance = :balance, updated_at = :updatedAt, version = version + 1 WHERE id = :id")
+                .bind("balance", account.getBalance().longValue())
+                .bind("updatedAt", updatedAt)
+                .bind("id", account.getId())
+                .then();
+    }
+
+    public Mono<Void> markDeleted(Long id, LocalDateTime updatedAt) {
+        return databaseClient.sql("UPDATE accounts SET status = 'DELETED', updated_at = :updatedAt, version = version + 1 WHERE id = :id")
+                .bind("updatedAt", updatedAt)
+                .bind("id", id)
+                .then();
+    }
+
+    private static Account toAccount(Row row) {
+        return Account.builder()
+                .id(row.get("id", Long.class))
+                .accountNumber(row.get("account_number", String.class))
+                .ownerName(row.get("owner_name", String.class))
+                .balance(Money.of(row.get("balance", Long.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .status(Account.AccountStatus.valueOf(row.get("status", String.class)))
+                .passwordHash(row.get("password_hash", String.class))
+                .salt(row.get("salt", String.class))
+                .version(row.get("version", Long.class))
+                .slotCount(row.get("slot_count", Integer.class))
+                .build();
+    }
+}
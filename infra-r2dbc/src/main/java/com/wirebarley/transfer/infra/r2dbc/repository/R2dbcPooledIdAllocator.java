@@ -0,0 +1,70 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * accounts_seq / transaction_history_seq에서 ID를 발급하는 논블로킹 발급기
+ * JPA 엔티티와 같은 pooled 방식(nextval 값을 블록의 상한으로 보고 (상한 - INCREMENT + 1) ~ 상한을 사용)으로 발급하므로,
+ * 서블릿 애플리케이션의 Hibernate가 예약한 블록과 겹치지 않습니다. (컬럼 기본값 nextval을 그대로 쓰면 겹침)
+ */
+@Component
+@RequiredArgsConstructor
+public class R2dbcPooledIdAllocator {
+
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval(CAST(:sequence AS regclass)) AS block_end, seqincrement AS block_size
+            FROM pg_sequence
+            WHERE seqrelid = CAST(:sequence AS regclass)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final Map<String, AtomicReference<IdBlock>> blocks = new ConcurrentHashMap<>();
+
+    public Mono<Long> nextId(String sequence) {
+        AtomicReference<IdBlock> current = blocks.computeIfAbsent(sequence, key -> new AtomicReference<>(IdBlock.EMPTY));
+
+        return Mono.defer(() -> {
+            IdBlock block = current.get();
+            long id = block.next();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+            // 동시에 여러 요청이 예약하면 먼저 교체된 블록을 사용하고 나머지 블록은 버림
+            return databaseClient.sql(RESERVE_BLOCK_SQL)
+                    .bind("sequence", sequence)
+                    .map(row -> new IdBlock(row.get("block_end", Long.class), row.get("block_size", Long.class)))
+                    .one()
+                    .doOnNext(reserved -> current.compareAndSet(block, reserved))
+                    .then(nextId(sequence));
+        });
+    }
+
+    /**
+     * 예약한 블록 안에서 다음 ID를 원자적으로 발급합니다. (모두 소진하면 -1)
+     */
+    private static final class IdBlock {
+
+        private static final IdBlock EMPTY = new IdBlock(0, 0);
+
+        private final AtomicLong nextId;
+        private final long blockEnd;
+
+        private IdBlock(long blockEnd, long blockSize) {
+            this.nextId = new AtomicLong(blockEnd - blockSize + 1);
+            this.blockEnd = blockEnd;
+        }
+
+        long next() {
+            long id = nextId.getAndIncrement();
+            return (id <= blockEnd && id > 0) ? id : -1;
+        }
+    }
+}
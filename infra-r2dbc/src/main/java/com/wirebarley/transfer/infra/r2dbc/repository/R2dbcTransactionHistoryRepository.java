@@ -0,0 +1,94 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * transaction_history 테이블의 논블로킹 어댑터
+ * ID는 R2dbcPooledIdAllocator로 발급하여 서블릿 애플리케이션(JPA)이 예약한 범위와 겹치지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcTransactionHistoryRepository {
+
+    private static final int FETCH_SIZE = 500; // 스트리밍 조회 시 한 번에 가져오는 행 수
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transaction_history (id, account_id, counterparty_account_id, type, amount, fee, transacted_at)
+            VALUES (:id, :accountId, :counterpartyAccountId, :type, :amount, :fee, :transactedAt)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcPooledIdAllocator idAllocator;
+
+    public Mono<Void> saveAll(List<TransactionHistory> histories) {
+        return Flux.fromIterable(histories)
+                .concatMap(this::insert)
+                .then();
+    }
+
+    /**
+     * 계좌의 전체 거래 내역을 최신순으로 스트리밍합니다. (구독자의 요청량만큼 행을 가져옴)
+     */
+    public Flux<TransactionHistory> streamByAccountId(Long accountId) {
+        return databaseClient.sql("SELECT id, account_id, counterparty_account_id, type, amount, fee, transacted_at "
+                        + "FROM transaction_history WHERE account_id = :accountId ORDER BY transacted_at DESC, id DESC")
+                .bind("accountId", accountId)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(R2dbcTransactionHistoryRepository::toHistory)
+                .all();
+    }
+
+    public Mono<Money> sumAmountBetween(Long accountId, TransactionHistory.TransactionType type,
+                                        LocalDateTime from, LocalDateTime to) {
+        return databaseClient.sql("SELECT CAST(COALESCE(SUM(amount), 0) AS BIGINT) AS total FROM transaction_history "
+                        + "WHERE account_id = :accountId AND type = :type AND transacted_at > :from AND transacted_at < :to")
+                .bind("accountId", accountId)
+                .bind("type", type.name())
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> Money.of(row.get("total", Long.class)))
+                .one();
+    }
+
+    private Mono<Void> insert(TransactionHistory history) {
+        return idAllocator.nextId("transaction_history_seq")
+                .flatMap(id -> insert(id, history));
+    }
+
+    private Mono<Void> insert(Long id, TransactionHistory history) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_SQL)
+                .bind("id", id)
+                .bind("accountId", history.getAccountId())
+                .bind("type", history.getType().name())
+                .bind("amount", history.getAmount().longValue())
+                .bind("fee", history.getFee().longValue())
+                .bind("transactedAt", history.getTransactedAt());
+
+        spec = (history.getCounterpartyAccountId() == null)
+                ? spec.bindNull("counterpartyAccountId", Long.class)
+                : spec.bind("counterpartyAccountId", history.getCounterpartyAccountId());
+        return spec.then();
+    }
+
+    private static TransactionHistory toHistory(Row row) {
+        return TransactionHistory.builder()
+                .id(row.get("id", Long.class))
+                .accountId(row.get("account_id", Long.class))
+                .counterpartyAccountId(row.get("counterparty_account_id", Long.class))
+                .type(TransactionHistory.TransactionType.valueOf(row.get("type", String.class)))
+                .amount(Money.of(row.get("amount", Long.class)))
+                .fee(Money.of(row.get("fee", Long.class)))
+                .transactedAt(row.get("transacted_at", LocalDateTime.class))
+                .build();
+    }
+}
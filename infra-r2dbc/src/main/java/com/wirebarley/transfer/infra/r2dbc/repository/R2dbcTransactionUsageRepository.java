@@ -0,0 +1,63 @@
+package com.wirebarley.transfer.infra.r2dbc.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * transaction_usage(1시간 단위 사용량 집계) 테이블의 논블로킹 어댑터
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcTransactionUsageRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO transaction_usage (account_id, type, bucket_start, amount)
+            VALUES (:accountId, :type, :bucketStart, :amount)
+            ON CONFLICT (account_id, type, bucket_start)
+            DO UPDATE SET amount = transaction_usage.amount + EXCLUDED.amount
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcTransactionHistoryRepository transactionHistoryRepository;
+
+    public Mono<Void> accumulate(TransactionHistory history) {
+        return databaseClient.sql(UPSERT_SQL)
+                .bind("accountId", history.getAccountId())
+                .bind("type", history.getType().name())
+                .bind("bucketStart", toBucketStart(history.getTransactedAt()))
+                .bind("amount", history.getAmount().longValue())
+                .then();
+    }
+
+    /**
+     * 기준 시각이 걸친 첫 버킷은 거래 내역에서 정확히 합산하고,
+     * 이후의 버킷들은 집계 테이블에서 합산합니다. (JDBC 어댑터와 동일)
+     */
+    public Mono<Money> sumAmountAfter(Long accountId, TransactionHistory.TransactionType type,
+                                      LocalDateTime afterDateTime) {
+        LocalDateTime edgeBucketStart = toBucketStart(afterDateTime);
+
+        Mono<Money> bucketSum = databaseClient.sql("SELECT CAST(COALESCE(SUM(amount), 0) AS BIGINT) AS total FROM transaction_usage "
+                        + "WHERE account_id = :accountId AND type = :type AND bucket_start > :bucketStart")
+                .bind("accountId", accountId)
+                .bind("type", type.name())
+                .bind("bucketStart", edgeBucketStart)
+                .map(row -> Money.of(row.get("total", Long.class)))
+                .one();
+        Mono<Money> edgeSum = transactionHistoryRepository.sumAmountBetween(
+                accountId, type, afterDateTime, edgeBucketStart.plusHours(1));
+
+        return Mono.zip(bucketSum, edgeSum, Money::plus);
+    }
+
+    private LocalDateTime toBucketStart(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.HOURS);
+    }
+}
@@ -0,0 +1,22 @@
+package com.wirebarley.transfer.infra.entity;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 도메인 금액(Money)과 bigint 금액 컬럼(원 단위 정수) 사이의 변환기
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return (money == null) ? null : money.longValue();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long value) {
+        return (value == null) ? null : Money.of(value);
+    }
+}
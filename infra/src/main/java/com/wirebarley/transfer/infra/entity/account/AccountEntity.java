@@ -1,6 +1,8 @@
 package com.wirebarley.transfer.infra.entity.account;
 
 import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.infra.entity.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -9,7 +11,6 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 public class AccountEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq_generator")
+    @SequenceGenerator(name = "accounts_seq_generator", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -28,8 +30,9 @@ public class AccountEntity {
     @Column(nullable = false)
     private String ownerName;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false)
-    private BigDecimal balance;
+    private Money balance;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -49,10 +52,17 @@ public class AccountEntity {
     @Column(nullable = false, length = 64)
     private String salt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private int slotCount;
+
     @Builder
-    public AccountEntity(Long id, String accountNumber, String ownerName, BigDecimal balance,
+    public AccountEntity(Long id, String accountNumber, String ownerName, Money balance,
                          LocalDateTime createdAt, LocalDateTime updatedAt, Account.AccountStatus status,
-                         String passwordHash, String salt) {
+                         String passwordHash, String salt, Long version, int slotCount) {
         this.id = id;
         this.accountNumber = accountNumber;
         this.ownerName = ownerName;
@@ -62,5 +72,7 @@ public class AccountEntity {
         this.status = status;
         this.passwordHash = passwordHash;
         this.salt = salt;
+        this.version = version;
+        this.slotCount = slotCount;
     }
 }
\ No newline at end of file
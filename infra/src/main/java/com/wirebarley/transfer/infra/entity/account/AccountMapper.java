@@ -19,6 +19,8 @@ public class AccountMapper {
                 .status(account.getStatus())
                 .passwordHash(account.getPasswordHash())
                 .salt(account.getSalt())
+                .version(account.getVersion())
+                .slotCount(account.getSlotCount())
                 .build();
     }
 
@@ -37,6 +39,8 @@ public class AccountMapper {
                 .status(entity.getStatus())
                 .passwordHash(entity.getPasswordHash())
                 .salt(entity.getSalt())
+                .version(entity.getVersion())
+                .slotCount(entity.getSlotCount())
                 .build();
     }
 }
\ No newline at end of file
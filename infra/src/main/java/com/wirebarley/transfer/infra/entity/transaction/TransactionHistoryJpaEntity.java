@@ -1,15 +1,18 @@
 package com.wirebarley.transfer.infra.entity.transaction;
 
+import com.wirebarley.transfer.core.domain.money.Money;
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.infra.entity.MoneyConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,7 +27,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class TransactionHistoryJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_history_seq_generator")
+    @SequenceGenerator(name = "transaction_history_seq_generator", sequenceName = "transaction_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, updatable = false)
@@ -37,11 +41,13 @@ public class TransactionHistoryJpaEntity {
     @Column(nullable = false, updatable = false)
     private TransactionHistory.TransactionType type;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, updatable = false)
-    private BigDecimal amount;
+    private Money amount;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, updatable = false)
-    private BigDecimal fee;
+    private Money fee;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -50,7 +56,7 @@ public class TransactionHistoryJpaEntity {
     @Builder
     public TransactionHistoryJpaEntity(Long id, Long accountId, Long counterpartyAccountId,
                                        TransactionHistory.TransactionType type,
-                                       BigDecimal amount, BigDecimal fee, LocalDateTime transactedAt) {
+                                       Money amount, Money fee, LocalDateTime transactedAt) {
         this.id = id;
         this.accountId = accountId;
         this.counterpartyAccountId = counterpartyAccountId;
@@ -0,0 +1,36 @@
+package com.wirebarley.transfer.infra.entity.usage;
+
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionUsageId implements Serializable {
+
+    @Column(nullable = false, updatable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private TransactionHistory.TransactionType type;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime bucketStart;
+
+    public TransactionUsageId(Long accountId, TransactionHistory.TransactionType type, LocalDateTime bucketStart) {
+        this.accountId = accountId;
+        this.type = type;
+        this.bucketStart = bucketStart;
+    }
+}
@@ -0,0 +1,35 @@
+package com.wirebarley.transfer.infra.entity.usage;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.infra.entity.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌/거래유형별 1시간 단위 사용량 집계
+ * (account_id, type, bucket_start) 복합키에 대한 UPSERT로만 갱신됩니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "transaction_usage")
+public class TransactionUsageJpaEntity {
+
+    @EmbeddedId
+    private TransactionUsageId id;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false)
+    private Money amount;
+
+    public TransactionUsageJpaEntity(TransactionUsageId id, Money amount) {
+        this.id = id;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,164 @@
+package com.wirebarley.transfer.infra.partition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * transaction_history 월 파티션 관리
+ * - 현재 월부터 premake-months 개월 뒤까지의 파티션을 미리 생성합니다. (트랜잭션 단위 advisory lock)
+ * - retention-months가 설정되면 보관 기간이 지난 파티션을 DETACH 합니다.
+ *   (DETACH된 테이블은 독립 테이블로 남으므로 아카이빙 후 별도로 DROP 합니다.)
+ *
+ * DETACH는 트랜잭션 밖에서 DETACH PARTITION ... CONCURRENTLY로 실행하여, 부모 테이블에
+ * ACCESS EXCLUSIVE 대신 SHARE UPDATE EXCLUSIVE 락만 잡고 진행 중인 거래 내역 INSERT를 막지 않습니다.
+ * CONCURRENTLY는 DEFAULT 파티션이 있으면 사용할 수 없으므로, transaction_history에 DEFAULT 파티션을 추가하면 안 됩니다.
+ * (범위 밖 transacted_at은 INSERT 오류가 나며, 미래 파티션은 이 클래스가 미리 생성합니다.)
+ */
+@Slf4j
+@Component
+@Profile("!memory")
+@RequiredArgsConstructor
+public class TransactionHistoryPartitionManager {
+
+    private static final String PARTITION_PREFIX = "transaction_history_";
+    private static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LOCK_KEY_SQL = "hashtext('transaction_history_partition')";
+
+    // inhdetachpending: CONCURRENTLY 도중 중단되어 FINALIZE가 필요한 파티션 (PostgreSQL 14+)
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT c.relname, i.inhdetachpending FROM pg_inherits i " +
+                    "JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "JOIN pg_class p ON p.oid = i.inhparent " +
+                    "WHERE p.relname = 'transaction_history'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transaction-history.partition.premake-months}")
+    private int PREMAKE_MONTHS; // 미리 생성할 파티션 개월 수 3
+
+    @Value("${transaction-history.partition.retention-months}")
+    private int RETENTION_MONTHS; // 파티션 보관 개월 수 (0이면 DETACH 하지 않음)
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transaction-history.partition.cron}")
+    public void maintainPartitions() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> createFuturePartitions());
+        if (RETENTION_MONTHS > 0) {
+            detachExpiredPartitions();
+        }
+    }
+
+    private void createFuturePartitions() {
+        // 여러 인스턴스가 동시에 실행하지 않도록 트랜잭션 단위 advisory lock 획득
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(" + LOCK_KEY_SQL + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("다른 인스턴스에서 거래 내역 파티션 생성이 진행 중입니다.");
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= PREMAKE_MONTHS; i++) {
+            LocalDate monthStart = current.plusMonths(i).atDay(1);
+            jdbcTemplate.queryForObject(
+                    "SELECT create_transaction_history_partition(?)", String.class, monthStart);
+        }
+    }
+
+    /**
+     * DETACH ... CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로, 자동 커밋 커넥션 하나에서
+     * 세션 단위 advisory lock을 잡은 채 실행하고 마지막에 직접 해제합니다.
+     */
+    private void detachExpiredPartitions() {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(RETENTION_MONTHS);
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!connection.getAutoCommit()) {
+                throw new IllegalStateException("파티션 DETACH는 트랜잭션 밖(자동 커밋)에서 실행해야 합니다.");
+            }
+            if (!callLockFunction(connection, "pg_try_advisory_lock")) {
+                log.info("다른 인스턴스에서 거래 내역 파티션 DETACH가 진행 중입니다.");
+                return null;
+            }
+
+            try {
+                for (ExpiredPartition partition : findExpiredPartitions(connection, oldestRetained)) {
+                    String mode = partition.isDetachPending() ? "FINALIZE" : "CONCURRENTLY";
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("ALTER TABLE transaction_history DETACH PARTITION "
+                                + partition.getName() + " " + mode);
+                    }
+                    log.info("보관 기간이 지난 거래 내역 파티션 DETACH ({}): {}", mode, partition.getName());
+                }
+            } finally {
+                callLockFunction(connection, "pg_advisory_unlock");
+            }
+            return null;
+        });
+    }
+
+    private boolean callLockFunction(Connection connection, String function) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT " + function + "(" + LOCK_KEY_SQL + ")")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private List<ExpiredPartition> findExpiredPartitions(Connection connection, YearMonth oldestRetained)
+            throws SQLException {
+        List<ExpiredPartition> expired = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PARTITIONS_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                String partition = resultSet.getString(1);
+                YearMonth partitionMonth = parsePartitionMonth(partition);
+                if (partitionMonth != null && partitionMonth.isBefore(oldestRetained)) {
+                    expired.add(new ExpiredPartition(partition, resultSet.getBoolean(2)));
+                }
+            }
+        }
+        return expired;
+    }
+
+    private YearMonth parsePartitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX_FORMAT);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ExpiredPartition {
+
+        private final String name;
+        private final boolean detachPending; // 이전 CONCURRENTLY가 중단되어 FINALIZE가 필요한지 여부
+    }
+}
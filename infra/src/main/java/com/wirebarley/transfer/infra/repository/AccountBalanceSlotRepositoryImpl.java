@@ -0,0 +1,102 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.repository.AccountBalanceSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class AccountBalanceSlotRepositoryImpl implements AccountBalanceSlotRepository {
+
+    private static final String CREATE_SLOTS_SQL = """
+            INSERT INTO account_balance_slots (account_id, slot_no, balance, updated_at)
+            SELECT ?, slot_no, 0, ? FROM generate_series(0, ? - 1) AS slot_no
+            ON CONFLICT (account_id, slot_no) DO NOTHING
+            """;
+
+    private static final String CREDIT_SQL = """
+            WITH owner AS (
+                SELECT id FROM accounts
+                WHERE id = ? AND status = 'ACTIVE'
+                FOR SHARE
+            )
+            UPDATE account_balance_slots s
+            SET balance = s.balance + ?, updated_at = ?
+            FROM owner
+            WHERE s.account_id = owner.id AND s.slot_no = ?
+            """;
+
+    private static final String LOCK_OWNER_SQL = "SELECT id FROM accounts WHERE id = ? FOR UPDATE";
+
+    private static final String DRAIN_SQL = """
+            WITH drained AS (
+                SELECT slot_no, balance FROM account_balance_slots
+                WHERE account_id = ? AND balance > 0
+                ORDER BY slot_no
+                FOR UPDATE
+            )
+            UPDATE account_balance_slots s
+            SET balance = 0, updated_at = ?
+            FROM drained d
+            WHERE s.account_id = ? AND s.slot_no = d.slot_no
+            RETURNING d.balance
+            """;
+
+    private static final String SUM_BALANCES_SQL =
+            "SELECT CAST(COALESCE(SUM(balance), 0) AS BIGINT) FROM account_balance_slots WHERE account_id = ?";
+
+    // 한 문장(한 스냅샷)으로 읽어야 본 잔액과 슬롯 합계 사이에 회수가 커밋되어도 합계가 어긋나지 않음
+    private static final String TOTAL_BALANCE_SQL = """
+            SELECT CAST(a.balance + COALESCE(SUM(s.balance), 0) AS BIGINT)
+            FROM accounts a
+            LEFT JOIN account_balance_slots s ON s.account_id = a.id
+            WHERE a.id = ?
+            GROUP BY a.id, a.balance
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void createSlots(Long accountId, int slotCount, LocalDateTime updatedAt) {
+        jdbcTemplate.update(CREATE_SLOTS_SQL, accountId, Timestamp.valueOf(updatedAt), slotCount);
+    }
+
+    @Override
+    public boolean credit(Long accountId, int slotNo, Money amount, LocalDateTime updatedAt) {
+        return jdbcTemplate.update(CREDIT_SQL, accountId, amount.longValue(), Timestamp.valueOf(updatedAt), slotNo) == 1;
+    }
+
+    /**
+     * 적립(계좌 행 공유 락 -> 슬롯)과 같은 순서로 계좌 행을 먼저 잠근 뒤 슬롯을 비웁니다.
+     */
+    @Override
+    public Money drain(Long accountId, LocalDateTime updatedAt) {
+        jdbcTemplate.queryForList(LOCK_OWNER_SQL, Long.class, accountId);
+
+        return jdbcTemplate.queryForList(DRAIN_SQL, Long.class,
+                        accountId, Timestamp.valueOf(updatedAt), accountId).stream()
+                .map(Money::of)
+                .reduce(Money.ZERO, Money::plus);
+    }
+
+    @Override
+    public Money sumBalances(Long accountId) {
+        Long sum = jdbcTemplate.queryForObject(SUM_BALANCES_SQL, Long.class, accountId);
+        return (sum == null) ? Money.ZERO : Money.of(sum);
+    }
+
+    @Override
+    public Money totalBalance(Long accountId) {
+        return jdbcTemplate.queryForList(TOTAL_BALANCE_SQL, Long.class, accountId).stream()
+                .findFirst()
+                .map(Money::of)
+                .orElse(Money.ZERO);
+    }
+}
@@ -0,0 +1,95 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 조건부 UPDATE ... RETURNING 으로 잔액만 변경하는 JDBC 문장 모음
+ * JPA 어댑터(AccountRepositoryImpl)와 JDBC 어댑터(JdbcAccountRepositoryImpl)가 함께 사용합니다.
+ */
+@Component
+@Profile("!memory")
+@RequiredArgsConstructor
+class AccountBalanceStatements {
+
+    private static final String INCREASE_BALANCE_SQL = """
+            UPDATE accounts
+            SET balance = balance + ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND status = 'ACTIVE'
+            RETURNING balance
+            """;
+
+    private static final String DECREASE_BALANCE_SQL = """
+            UPDATE accounts
+            SET balance = balance - ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND status = 'ACTIVE' AND balance >= ?
+            RETURNING balance
+            """;
+
+    private static final String INCREASE_BALANCES_SQL = """
+            WITH locked AS (
+                SELECT id FROM accounts
+                WHERE id = ANY (?) AND status = 'ACTIVE'
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE accounts a
+            SET balance = a.balance + v.amount, updated_at = ?, version = a.version + 1
+            FROM unnest(?, ?) AS v(id, amount)
+            WHERE a.id = v.id AND a.id IN (SELECT id FROM locked) AND a.balance + v.amount >= 0
+            RETURNING a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    Optional<Money> increaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForList(INCREASE_BALANCE_SQL, Long.class,
+                        amount.longValue(), Timestamp.valueOf(updatedAt), id).stream()
+                .findFirst()
+                .map(Money::of);
+    }
+
+    Optional<Money> decreaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForList(DECREASE_BALANCE_SQL, Long.class,
+                        amount.longValue(), Timestamp.valueOf(updatedAt), id, amount.longValue()).stream()
+                .findFirst()
+                .map(Money::of);
+    }
+
+    /**
+     * 대상 계좌를 id 순서로 잠근 뒤(데드락 방지) unnest 배열과 조인하여 한 문장으로 갱신합니다.
+     */
+    Set<Long> increaseBalances(Map<Long, Money> amountsById, LocalDateTime updatedAt) {
+        if (amountsById.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Money> sorted = new TreeMap<>(amountsById);
+        Long[] ids = sorted.keySet().toArray(new Long[0]);
+        Long[] amounts = sorted.values().stream().map(Money::longValue).toArray(Long[]::new);
+
+        List<Long> updatedIds = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INCREASE_BALANCES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setTimestamp(2, Timestamp.valueOf(updatedAt));
+            ps.setArray(3, connection.createArrayOf("bigint", ids));
+            ps.setArray(4, connection.createArrayOf("bigint", amounts));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+
+        return new HashSet<>(updatedIds);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.account.AccountNumberBlock;
+import com.wirebarley.transfer.core.repository.AccountNumberBlockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class AccountNumberBlockRepositoryImpl implements AccountNumberBlockRepository {
+
+    // 블록 시작 순번과 블록 크기(시퀀스 증가 값)를 한 번의 왕복으로 조회
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval('account_number_seq') AS block_start, seqincrement AS block_size
+            FROM pg_sequence
+            WHERE seqrelid = 'account_number_seq'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public AccountNumberBlock reserveBlock() {
+        return jdbcTemplate.queryForObject(RESERVE_BLOCK_SQL, (rs, rowNum) ->
+                new AccountNumberBlock(rs.getLong("block_start"), rs.getLong("block_size")));
+    }
+}
@@ -1,19 +1,32 @@
 package com.wirebarley.transfer.infra.repository;
 
 import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
 import com.wirebarley.transfer.core.repository.AccountRepository;
 import com.wirebarley.transfer.infra.entity.account.AccountEntity;
 import com.wirebarley.transfer.infra.entity.account.AccountMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * 기본 어댑터 (Spring Data JPA), jdbc 프로필에서는 JdbcAccountRepositoryImpl, memory 프로필에서는 MemoryAccountRepository가 대신 사용됩니다.
+ */
 @Repository
+@Profile("!jdbc & !memory")
 @RequiredArgsConstructor
 public class AccountRepositoryImpl implements AccountRepository {
 
     private final SpringDataAccountRepository jpaRepository;
+    private final AccountBalanceStatements balanceStatements;
 
     @Override
     public Account save(Account account) {
@@ -22,18 +35,51 @@ public class AccountRepositoryImpl implements AccountRepository {
         return AccountMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<AccountEntity> entities = accounts.stream()
+                .map(AccountMapper::toEntity)
+                .collect(Collectors.toList());
+
+        return jpaRepository.saveAll(entities).stream()
+                .map(AccountMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Account> findById(Long id) {
         return jpaRepository.findById(id)
                 .map(AccountMapper::toDomain);
     }
 
+    @Override
+    public List<Account> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllById(ids).stream()
+                .map(AccountMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
-        return jpaRepository.findByAccountNumberAndStatus(accountNumber, Account.AccountStatus.ACTIVE)
+        return jpaRepository.findActiveByAccountNumber(accountNumber)
                 .map(AccountMapper::toDomain);
     }
 
+    @Override
+    public List<Account> findAllByAccountNumbers(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllByAccountNumberInAndStatus(accountNumbers, Account.AccountStatus.ACTIVE).stream()
+                .map(AccountMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Account account) {
         AccountEntity entity = AccountMapper.toEntity(account);
@@ -46,8 +92,45 @@ public class AccountRepositoryImpl implements AccountRepository {
                 .map(AccountMapper::toDomain);
     }
 
+    @Override
+    public List<Account> findAllByIdsWithLock(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllByIdsWithLockAndStatus(ids, Account.AccountStatus.ACTIVE).stream()
+                .map(AccountMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbersWithLock(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaRepository.findAllByAccountNumbersWithLockAndStatus(accountNumbers, Account.AccountStatus.ACTIVE).stream()
+                .map(AccountMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByAccountNumber(String accountNumber) {
         return jpaRepository.existsByAccountNumber(accountNumber);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Money> increaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return balanceStatements.increaseBalance(id, amount, updatedAt);
+    }
+
+    @Override
+    public Optional<Money> decreaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return balanceStatements.decreaseBalance(id, amount, updatedAt);
+    }
+
+    @Override
+    public Set<Long> increaseBalances(Map<Long, Money> amountsById, LocalDateTime updatedAt) {
+        return balanceStatements.increaseBalances(amountsById, updatedAt);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.idempotency.IdempotencyRecord;
+import com.wirebarley.transfer.core.repository.IdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class IdempotencyKeyRepositoryImpl implements IdempotencyKeyRepository {
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, status, created_at, expires_at)
+            VALUES (?, ?, 'IN_PROGRESS', ?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE
+            SET request_hash = EXCLUDED.request_hash, status = 'IN_PROGRESS',
+                response_status = NULL, response_body = NULL,
+                created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.status = 'COMPLETED' AND idempotency_keys.expires_at < EXCLUDED.created_at
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT idempotency_key, request_hash, status, response_status, response_body, expires_at
+            FROM idempotency_keys
+            WHERE idempotency_key = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys
+            SET status = 'COMPLETED', response_status = ?, response_body = ?
+            WHERE idempotency_key = ? AND status = 'IN_PROGRESS'
+            """;
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status = 'IN_PROGRESS'";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM idempotency_keys WHERE status = 'COMPLETED' AND expires_at < ?";
+
+    private static final String COUNT_IN_PROGRESS_SQL =
+            "SELECT COUNT(*) FROM idempotency_keys WHERE status = 'IN_PROGRESS' AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claim(String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(CLAIM_SQL, key, requestHash, Timestamp.valueOf(now),
+                Timestamp.valueOf(expiresAt)) == 1;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> IdempotencyRecord.builder()
+                        .key(rs.getString("idempotency_key"))
+                        .requestHash(rs.getString("request_hash"))
+                        .status(IdempotencyRecord.Status.valueOf(rs.getString("status")))
+                        .responseStatus((Integer) rs.getObject("response_status"))
+                        .responseBody(rs.getString("response_body"))
+                        .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                        .build(), key)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(String key, int responseStatus, String responseBody) {
+        jdbcTemplate.update(COMPLETE_SQL, responseStatus, responseBody, key);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(now));
+    }
+
+    @Override
+    public int countInProgressBefore(LocalDateTime createdBefore) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_IN_PROGRESS_SQL, Integer.class, Timestamp.valueOf(createdBefore));
+        return (count == null) ? 0 : count;
+    }
+}
@@ -0,0 +1,245 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.account.Account;
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * jdbc 프로필용 어댑터 (JdbcTemplate)
+ * 영속성 컨텍스트/엔티티 변환 없이 행을 도메인(Account)으로 바로 매핑하고,
+ * save()는 merge용 재조회 없이 INSERT 또는 version 조건부 UPDATE ... RETURNING 한 문장으로 처리합니다.
+ */
+@Repository
+@Profile("jdbc & !memory")
+@RequiredArgsConstructor
+public class JdbcAccountRepositoryImpl implements AccountRepository {
+
+    private static final String COLUMNS =
+            "id, account_number, owner_name, balance, created_at, updated_at, status, password_hash, salt, version, slot_count";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO accounts (id, account_number, owner_name, balance, created_at, updated_at, status,
+                                  password_hash, salt, version, slot_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    // @Version과 같이 읽은 시점의 version이 그대로인 경우에만 갱신 (아니면 낙관적 락 충돌)
+    private static final String UPDATE_SQL = """
+            UPDATE accounts
+            SET owner_name = ?, balance = ?, updated_at = ?, status = ?, password_hash = ?, salt = ?,
+                version = version + 1, slot_count = ?
+            WHERE id = ? AND version = ?
+            RETURNING version
+            """;
+
+    private static final RowMapper<Account> ACCOUNT_ROW_MAPPER = JdbcAccountRepositoryImpl::toAccount;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PooledSequenceIdAllocator idAllocator;
+    private final AccountBalanceStatements balanceStatements;
+
+    @Override
+    public Account save(Account account) {
+        return (account.getId() == null) ? insert(account) : update(account);
+    }
+
+    @Override
+    public List<Account> saveAll(List<Account> accounts) {
+        List<Account> savedAccounts = new ArrayList<>(accounts.size());
+        for (Account account : accounts) {
+            savedAccounts.add(save(account));
+        }
+        return savedAccounts;
+    }
+
+    @Override
+    public Optional<Account> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM accounts WHERE id = ?", ACCOUNT_ROW_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Account> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query("SELECT " + COLUMNS + " FROM accounts WHERE id IN (:ids)",
+                Map.of("ids", ids), ACCOUNT_ROW_MAPPER);
+    }
+
+    /**
+     * status 조건을 리터럴로 고정하여 부분 인덱스(idx_accounts_active_account_number)를 항상 사용하도록 합니다.
+     */
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM accounts WHERE account_number = ? AND status = 'ACTIVE'",
+                        ACCOUNT_ROW_MAPPER, accountNumber)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbers(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM accounts WHERE account_number IN (:accountNumbers) AND status = 'ACTIVE'",
+                Map.of("accountNumbers", accountNumbers), ACCOUNT_ROW_MAPPER);
+    }
+
+    @Override
+    public void delete(Account account) {
+        jdbcTemplate.update("DELETE FROM accounts WHERE id = ?", account.getId());
+    }
+
+    @Override
+    public Optional<Account> findByIdWithLock(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM accounts WHERE id = ? AND status = 'ACTIVE' FOR UPDATE",
+                        ACCOUNT_ROW_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * id 오름차순으로 정렬된 순서대로 행 락을 획득하여 여러 계좌를 동시에 잠가도 데드락이 발생하지 않습니다.
+     */
+    @Override
+    public List<Account> findAllByIdsWithLock(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM accounts WHERE id IN (:ids) AND status = 'ACTIVE' ORDER BY id FOR UPDATE",
+                Map.of("ids", ids), ACCOUNT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Account> findAllByAccountNumbersWithLock(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return namedParameterJdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM accounts "
+                        + "WHERE account_number IN (:accountNumbers) AND status = 'ACTIVE' ORDER BY id FOR UPDATE",
+                Map.of("accountNumbers", accountNumbers), ACCOUNT_ROW_MAPPER);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM accounts WHERE account_number = ?)", Boolean.class, accountNumber));
+    }
+
+    @Override
+    public Optional<Money> increaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return balanceStatements.increaseBalance(id, amount, updatedAt);
+    }
+
+    @Override
+    public Optional<Money> decreaseBalance(Long id, Money amount, LocalDateTime updatedAt) {
+        return balanceStatements.decreaseBalance(id, amount, updatedAt);
+    }
+
+    @Override
+    public Set<Long> increaseBalances(Map<Long, Money> amountsById, LocalDateTime updatedAt) {
+        return balanceStatements.increaseBalances(amountsById, updatedAt);
+    }
+
+    private Account insert(Account account) {
+        long id = idAllocator.nextId("accounts_seq");
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdAt = (account.getCreatedAt() == null) ? now : account.getCreatedAt();
+        LocalDateTime updatedAt = (account.getUpdatedAt() == null) ? now : account.getUpdatedAt();
+
+        jdbcTemplate.update(INSERT_SQL,
+                id,
+                account.getAccountNumber(),
+                account.getOwnerName(),
+                account.getBalance().longValue(),
+                Timestamp.valueOf(createdAt),
+                Timestamp.valueOf(updatedAt),
+                account.getStatus().name(),
+                account.getPasswordHash(),
+                account.getSalt(),
+                account.getSlotCount());
+
+        return copyOf(account, id, createdAt, updatedAt, 0L);
+    }
+
+    private Account update(Account account) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        List<Long> versions = jdbcTemplate.queryForList(UPDATE_SQL, Long.class,
+                account.getOwnerName(),
+                account.getBalance().longValue(),
+                Timestamp.valueOf(updatedAt),
+                account.getStatus().name(),
+                account.getPasswordHash(),
+                account.getSalt(),
+                account.getSlotCount(),
+                account.getId(),
+                account.getVersion());
+        if (versions.isEmpty()) {
+            throw new OptimisticLockingFailureException("계좌가 다른 요청에 의해 변경되었습니다: " + account.getId());
+        }
+
+        return copyOf(account, account.getId(), account.getCreatedAt(), updatedAt, versions.get(0));
+    }
+
+    private static Account copyOf(Account account, Long id, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        return Account.builder()
+                .id(id)
+                .accountNumber(account.getAccountNumber())
+                .ownerName(account.getOwnerName())
+                .balance(account.getBalance())
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .status(account.getStatus())
+                .passwordHash(account.getPasswordHash())
+                .salt(account.getSalt())
+                .version(version)
+                .slotCount(account.getSlotCount())
+                .build();
+    }
+
+    private static Account toAccount(ResultSet rs, int rowNum) throws SQLException {
+        return Account.builder()
+                .id(rs.getLong("id"))
+                .accountNumber(rs.getString("account_number"))
+                .ownerName(rs.getString("owner_name"))
+                .balance(Money.of(rs.getLong("balance")))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .status(Account.AccountStatus.valueOf(rs.getString("status")))
+                .passwordHash(rs.getString("password_hash"))
+                .salt(rs.getString("salt"))
+                .version(rs.getLong("version"))
+                .slotCount(rs.getInt("slot_count"))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * jdbc 프로필용 어댑터 (JdbcTemplate)
+ * ID는 PooledSequenceIdAllocator로 미리 발급하고 INSERT는 JDBC 배치(reWriteBatchedInserts)로 전송하며,
+ * 조회 결과는 엔티티를 거치지 않고 도메인(TransactionHistory)으로 바로 매핑합니다.
+ */
+@Repository
+@Profile("jdbc & !memory")
+@RequiredArgsConstructor
+public class JdbcTransactionHistoryRepositoryImpl implements TransactionHistoryRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500; // 스트리밍 조회 시 한 번에 가져오는 행 수
+
+    private static final String COLUMNS = "id, account_id, counterparty_account_id, type, amount, fee, transacted_at";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transaction_history (id, account_id, counterparty_account_id, type, amount, fee, transacted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIRST_PAGE_SQL = "SELECT " + COLUMNS + " FROM transaction_history "
+            + "WHERE account_id = ? ORDER BY transacted_at DESC, id DESC LIMIT ?";
+
+    private static final String PAGE_AFTER_SQL = "SELECT " + COLUMNS + " FROM transaction_history "
+            + "WHERE account_id = ? AND transacted_at <= ? AND (transacted_at < ? OR id < ?) "
+            + "ORDER BY transacted_at DESC, id DESC LIMIT ?";
+
+    private static final RowMapper<TransactionHistory> HISTORY_ROW_MAPPER = JdbcTransactionHistoryRepositoryImpl::toHistory;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledSequenceIdAllocator idAllocator;
+
+    @Override
+    public TransactionHistory save(TransactionHistory history) {
+        return saveAll(List.of(history)).get(0);
+    }
+
+    @Override
+    public List<TransactionHistory> saveAll(List<TransactionHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
+
+        long[] ids = idAllocator.nextIds("transaction_history_seq", histories.size());
+        List<TransactionHistory> savedHistories = new ArrayList<>(histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            savedHistories.add(withId(histories.get(i), ids[i]));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, savedHistories, savedHistories.size(), this::bindInsert);
+        return savedHistories;
+    }
+
+    @Override
+    public List<TransactionHistory> findByAccountIdAndTypeAndTransactedAtAfter(
+            Long accountId,
+            TransactionHistory.TransactionType transactionType,
+            LocalDateTime afterDateTime
+    ) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM transaction_history "
+                        + "WHERE account_id = ? AND type = ? AND transacted_at > ?",
+                HISTORY_ROW_MAPPER, accountId, transactionType.name(), Timestamp.valueOf(afterDateTime));
+    }
+
+    @Override
+    public List<TransactionHistory> findByAccountIdOrderByTransactedAtDesc(Long accountId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM transaction_history "
+                        + "WHERE account_id = ? ORDER BY transacted_at DESC",
+                HISTORY_ROW_MAPPER, accountId);
+    }
+
+    @Override
+    public List<TransactionHistory> findPageByAccountId(Long accountId, HistoryCursor cursor, int limit) {
+        if (cursor == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, HISTORY_ROW_MAPPER, accountId, limit);
+        }
+
+        Timestamp transactedAt = Timestamp.valueOf(cursor.getTransactedAt());
+        return jdbcTemplate.query(PAGE_AFTER_SQL, HISTORY_ROW_MAPPER,
+                accountId, transactedAt, transactedAt, cursor.getId(), limit);
+    }
+
+    /**
+     * fetch size를 지정해 PostgreSQL 커서로 나누어 가져옵니다. (트랜잭션 안에서 소비해야 함)
+     */
+    @Override
+    public Stream<TransactionHistory> streamByAccountId(Long accountId) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT " + COLUMNS + " FROM transaction_history "
+                    + "WHERE account_id = ? ORDER BY transacted_at DESC, id DESC");
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, accountId);
+            return ps;
+        }, HISTORY_ROW_MAPPER);
+    }
+
+    private void bindInsert(PreparedStatement ps, TransactionHistory history) throws SQLException {
+        ps.setLong(1, history.getId());
+        ps.setLong(2, history.getAccountId());
+        if (history.getCounterpartyAccountId() == null) {
+            ps.setNull(3, Types.BIGINT);
+        } else {
+            ps.setLong(3, history.getCounterpartyAccountId());
+        }
+        ps.setString(4, history.getType().name());
+        ps.setLong(5, history.getAmount().longValue());
+        ps.setLong(6, history.getFee().longValue());
+        ps.setTimestamp(7, Timestamp.valueOf(history.getTransactedAt()));
+    }
+
+    private static TransactionHistory withId(TransactionHistory history, long id) {
+        return TransactionHistory.builder()
+                .id(id)
+                .accountId(history.getAccountId())
+                .counterpartyAccountId(history.getCounterpartyAccountId())
+                .type(history.getType())
+                .amount(history.getAmount())
+                .fee(history.getFee())
+                .transactedAt(history.getTransactedAt())
+                .build();
+    }
+
+    private static TransactionHistory toHistory(ResultSet rs, int rowNum) throws SQLException {
+        return TransactionHistory.builder()
+                .id(rs.getLong("id"))
+                .accountId(rs.getLong("account_id"))
+                .counterpartyAccountId(rs.getObject("counterparty_account_id", Long.class))
+                .type(TransactionHistory.TransactionType.valueOf(rs.getString("type")))
+                .amount(Money.of(rs.getLong("amount")))
+                .fee(Money.of(rs.getLong("fee")))
+                .transactedAt(rs.getObject("transacted_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.wirebarley.transfer.infra.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JDBC 어댑터용 ID 발급기 (accounts_seq / transaction_history_seq)
+ * JPA 엔티티의 pooled optimizer와 같이 nextval 값을 블록의 상한으로 보고 (상한 - INCREMENT + 1) ~ 상한을 메모리에서 발급하므로,
+ * 두 어댑터를 쓰는 인스턴스가 함께 운영되어도 ID가 겹치지 않고 INSERT마다 nextval을 호출하지 않습니다.
+ */
+@Component
+@Profile("jdbc & !memory")
+@RequiredArgsConstructor
+class PooledSequenceIdAllocator {
+
+    private static final String RESERVE_BLOCK_SQL = """
+            SELECT nextval(CAST(? AS regclass)) AS block_end, seqincrement AS block_size
+            FROM pg_sequence
+            WHERE seqrelid = CAST(? AS regclass)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, IdBlock> blocks = new ConcurrentHashMap<>();
+
+    long nextId(String sequence) {
+        return nextIds(sequence, 1)[0];
+    }
+
+    /**
+     * count개의 ID를 발급합니다. (블록이 모자라면 필요한 만큼 새 블록 예약)
+     */
+    long[] nextIds(String sequence, int count) {
+        IdBlock block = blocks.computeIfAbsent(sequence, key -> new IdBlock());
+        long[] ids = new long[count];
+
+        // 블록 예약(DB 호출) 중 대기하는 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 사용
+        block.lock.lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                if (block.nextId > block.blockEnd) {
+                    jdbcTemplate.query(RESERVE_BLOCK_SQL, rs -> {
+                        block.blockEnd = rs.getLong("block_end");
+                        block.nextId = block.blockEnd - rs.getLong("block_size") + 1;
+                    }, sequence, sequence);
+                }
+                ids[i] = block.nextId++;
+            }
+        } finally {
+            block.lock.unlock();
+        }
+        return ids;
+    }
+
+    private static final class IdBlock {
+        private final Lock lock = new ReentrantLock();
+        private long nextId = 1; // guarded by lock
+        private long blockEnd = 0; // guarded by lock
+    }
+}
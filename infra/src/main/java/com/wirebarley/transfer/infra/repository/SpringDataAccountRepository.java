@@ -8,16 +8,42 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataAccountRepository extends JpaRepository<AccountEntity, Long> {
 
     Optional<AccountEntity> findByAccountNumberAndStatus(String accountNumber, Account.AccountStatus status);
 
+    /**
+     * status 조건을 리터럴로 고정하여 부분 인덱스(idx_accounts_active_account_number)를 항상 사용하도록 합니다.
+     */
+    @Query(value = "SELECT * FROM accounts WHERE account_number = :accountNumber AND status = 'ACTIVE'",
+            nativeQuery = true)
+    Optional<AccountEntity> findActiveByAccountNumber(@Param("accountNumber") String accountNumber);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM AccountEntity a WHERE a.id = :id AND a.status = :status")
     Optional<AccountEntity> findByIdWithLockAndStatus(@Param("id") Long id, @Param("status") Account.AccountStatus status);
 
+    List<AccountEntity> findAllByAccountNumberInAndStatus(Collection<String> accountNumbers, Account.AccountStatus status);
+
+    /**
+     * id 오름차순으로 정렬된 순서대로 행 락을 획득하여 여러 계좌를 동시에 잠가도 데드락이 발생하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.id IN :ids AND a.status = :status ORDER BY a.id")
+    List<AccountEntity> findAllByIdsWithLockAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Account.AccountStatus status);
+
+    /**
+     * 계좌 번호로 조회하면서 id 오름차순으로 행 락을 획득합니다. (여러 계좌의 번호 해석과 락을 한 번의 왕복으로 처리)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.accountNumber IN :accountNumbers AND a.status = :status ORDER BY a.id")
+    List<AccountEntity> findAllByAccountNumbersWithLockAndStatus(@Param("accountNumbers") Collection<String> accountNumbers,
+                                                                 @Param("status") Account.AccountStatus status);
+
     boolean existsByAccountNumberAndStatus(String accountNumber, Account.AccountStatus status);
 
     boolean existsByAccountNumber(String accountNumber);
@@ -2,10 +2,17 @@ package com.wirebarley.transfer.infra.repository;
 
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
 import com.wirebarley.transfer.infra.entity.transaction.TransactionHistoryJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SpringDataTransactionHistoryRepository
         extends JpaRepository<TransactionHistoryJpaEntity, Long> {
@@ -17,4 +24,43 @@ public interface SpringDataTransactionHistoryRepository
     );
 
     List<TransactionHistoryJpaEntity> findByAccountIdOrderByTransactedAtDesc(Long accountId);
+
+    @Query("SELECT h FROM TransactionHistoryJpaEntity h WHERE h.accountId = :accountId " +
+            "ORDER BY h.transactedAt DESC, h.id DESC")
+    List<TransactionHistoryJpaEntity> findFirstPage(
+            @Param("accountId") Long accountId,
+            Pageable pageable
+    );
+
+    @Query("SELECT h FROM TransactionHistoryJpaEntity h WHERE h.accountId = :accountId " +
+            "AND h.transactedAt <= :transactedAt " +
+            "AND (h.transactedAt < :transactedAt OR h.id < :id) " +
+            "ORDER BY h.transactedAt DESC, h.id DESC")
+    List<TransactionHistoryJpaEntity> findPageAfter(
+            @Param("accountId") Long accountId,
+            @Param("transactedAt") LocalDateTime transactedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h FROM TransactionHistoryJpaEntity h WHERE h.accountId = :accountId " +
+            "ORDER BY h.transactedAt DESC, h.id DESC")
+    Stream<TransactionHistoryJpaEntity> streamByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 금액 컬럼(Money, bigint)의 합계는 컨버터를 거치지 않도록 네이티브 쿼리로 bigint를 그대로 합산합니다.
+     */
+    @Query(value = "SELECT CAST(COALESCE(SUM(amount), 0) AS BIGINT) FROM transaction_history " +
+            "WHERE account_id = :accountId AND type = :type " +
+            "AND transacted_at > :from AND transacted_at < :to", nativeQuery = true)
+    long sumAmountByAccountIdAndTypeAndTransactedAtBetween(
+            @Param("accountId") Long accountId,
+            @Param("type") String type,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.infra.entity.usage.TransactionUsageId;
+import com.wirebarley.transfer.infra.entity.usage.TransactionUsageJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SpringDataTransactionUsageRepository
+        extends JpaRepository<TransactionUsageJpaEntity, TransactionUsageId> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO transaction_usage (account_id, type, bucket_start, amount)
+            VALUES (:accountId, :type, :bucketStart, :amount)
+            ON CONFLICT (account_id, type, bucket_start)
+            DO UPDATE SET amount = transaction_usage.amount + EXCLUDED.amount
+            """, nativeQuery = true)
+    void upsertAmount(
+            @Param("accountId") Long accountId,
+            @Param("type") String type,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("amount") long amount
+    );
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(amount), 0) AS BIGINT) FROM transaction_usage " +
+            "WHERE account_id = :accountId AND type = :type AND bucket_start > :bucketStart", nativeQuery = true)
+    long sumAmountByBucketStartAfter(
+            @Param("accountId") Long accountId,
+            @Param("type") String type,
+            @Param("bucketStart") LocalDateTime bucketStart
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_usage WHERE bucket_start < :bucketStart", nativeQuery = true)
+    int deleteByBucketStartBefore(@Param("bucketStart") LocalDateTime bucketStart);
+}
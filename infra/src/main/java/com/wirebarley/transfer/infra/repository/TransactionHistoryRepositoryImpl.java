@@ -1,22 +1,35 @@
 package com.wirebarley.transfer.infra.repository;
 
+import com.wirebarley.transfer.core.domain.transaction.HistoryCursor;
 import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
 import com.wirebarley.transfer.core.repository.TransactionHistoryRepository;
 import com.wirebarley.transfer.infra.entity.transaction.TransactionHistoryJpaEntity;
 import com.wirebarley.transfer.infra.entity.transaction.TransactionHistoryMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * transaction_history는 transacted_at 기준 월 파티션 테이블입니다.
+ * 최근 데이터만 필요한 조회는 transacted_at 범위 조건을 단순 비교로 전달하여 파티션 프루닝이 적용되도록 합니다.
+ * 기본 어댑터 (Spring Data JPA), jdbc 프로필에서는 JdbcTransactionHistoryRepositoryImpl, memory 프로필에서는 MemoryTransactionHistoryRepository가 대신 사용됩니다.
+ */
 @Repository
+@Profile("!jdbc & !memory")
 @RequiredArgsConstructor
 public class TransactionHistoryRepositoryImpl implements TransactionHistoryRepository {
 
     private final SpringDataTransactionHistoryRepository jpaRepository;
     private final TransactionHistoryMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public TransactionHistory save(TransactionHistory history) {
@@ -25,6 +38,20 @@ public class TransactionHistoryRepositoryImpl implements TransactionHistoryRepos
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * 시퀀스(pooled) ID 발급으로 INSERT가 flush 시점에 JDBC 배치로 전송됩니다.
+     */
+    @Override
+    public List<TransactionHistory> saveAll(List<TransactionHistory> histories) {
+        List<TransactionHistoryJpaEntity> entities = histories.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+
+        return jpaRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<TransactionHistory> findByAccountIdAndTypeAndTransactedAtAfter(
             Long accountId,
@@ -52,4 +79,29 @@ public class TransactionHistoryRepositoryImpl implements TransactionHistoryRepos
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<TransactionHistory> findPageByAccountId(Long accountId, HistoryCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        List<TransactionHistoryJpaEntity> entities = (cursor == null)
+                ? jpaRepository.findFirstPage(accountId, pageable)
+                : jpaRepository.findPageAfter(accountId, cursor.getTransactedAt(), cursor.getId(), pageable);
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 영속성 컨텍스트에 엔티티가 쌓이지 않도록 변환 직후 detach 합니다.
+     */
+    @Override
+    public Stream<TransactionHistory> streamByAccountId(Long accountId) {
+        return jpaRepository.streamByAccountId(accountId)
+                .map(entity -> {
+                    entityManager.detach(entity);
+                    return mapper.toDomain(entity);
+                });
+    }
+}
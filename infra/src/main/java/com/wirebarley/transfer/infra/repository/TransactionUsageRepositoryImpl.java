@@ -0,0 +1,85 @@
+package com.wirebarley.transfer.infra.repository;
+
+import com.wirebarley.transfer.core.domain.money.Money;
+import com.wirebarley.transfer.core.domain.transaction.TransactionHistory;
+import com.wirebarley.transfer.core.repository.TransactionUsageRepository;
+import com.wirebarley.transfer.infra.entity.usage.TransactionUsageId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("!memory")
+@RequiredArgsConstructor
+public class TransactionUsageRepositoryImpl implements TransactionUsageRepository {
+
+    private final SpringDataTransactionUsageRepository usageRepository;
+    private final SpringDataTransactionHistoryRepository historyRepository;
+
+    @Override
+    public void accumulate(TransactionHistory history) {
+        usageRepository.upsertAmount(
+                history.getAccountId(),
+                history.getType().name(),
+                toBucketStart(history.getTransactedAt()),
+                history.getAmount().longValue()
+        );
+    }
+
+    @Override
+    public void accumulateAll(List<TransactionHistory> histories) {
+        Map<TransactionUsageId, Money> amountsByBucket = histories.stream()
+                .collect(Collectors.groupingBy(
+                        history -> new TransactionUsageId(
+                                history.getAccountId(),
+                                history.getType(),
+                                toBucketStart(history.getTransactedAt())
+                        ),
+                        Collectors.reducing(Money.ZERO, TransactionHistory::getAmount, Money::plus)
+                ));
+
+        amountsByBucket.forEach((bucket, amount) -> usageRepository.upsertAmount(
+                bucket.getAccountId(),
+                bucket.getType().name(),
+                bucket.getBucketStart(),
+                amount.longValue()
+        ));
+    }
+
+    /**
+     * 기준 시각이 걸친 첫 버킷은 거래 내역에서 정확히 합산하고,
+     * 이후의 버킷들은 집계 테이블에서 합산합니다. (최대 25개 버킷 + 1시간 구간)
+     */
+    @Override
+    public Money sumAmountAfter(
+            Long accountId,
+            TransactionHistory.TransactionType transactionType,
+            LocalDateTime afterDateTime
+    ) {
+        LocalDateTime edgeBucketStart = toBucketStart(afterDateTime);
+
+        long bucketSum = usageRepository.sumAmountByBucketStartAfter(
+                accountId, transactionType.name(), edgeBucketStart);
+        long edgeSum = historyRepository.sumAmountByAccountIdAndTypeAndTransactedAtBetween(
+                accountId, transactionType.name(), afterDateTime, edgeBucketStart.plusHours(1));
+
+        return Money.of(Math.addExact(bucketSum, edgeSum));
+    }
+
+    @Override
+    @Transactional
+    public int deleteBucketsBefore(LocalDateTime bucketStart) {
+        return usageRepository.deleteByBucketStartBefore(bucketStart);
+    }
+
+    private LocalDateTime toBucketStart(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(ChronoUnit.HOURS);
+    }
+}
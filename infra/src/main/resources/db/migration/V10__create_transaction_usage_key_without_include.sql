@@ -0,0 +1,10 @@
+-- V2에서 transaction_usage 기본키에 INCLUDE (amount)를 추가하여, amount만 바꾸는 upsert(DO UPDATE SET amount = ...)도
+-- 인덱스 컬럼 변경으로 취급되어 HOT 갱신이 되지 않고 매번 기본키 인덱스에 새 항목이 추가되었습니다.
+-- amount를 포함하지 않는 같은 키의 유니크 인덱스를 만들고, V11에서 기본키를 이 인덱스로 교체합니다.
+-- CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 (Flyway가 트랜잭션 없이 실행) 교체와 다른 마이그레이션으로 분리합니다.
+-- 중단되어 INVALID 인덱스가 남은 경우 DROP 후 다시 실행합니다.
+
+DROP INDEX CONCURRENTLY IF EXISTS transaction_usage_pkey_new;
+
+CREATE UNIQUE INDEX CONCURRENTLY transaction_usage_pkey_new
+    ON transaction_usage (account_id, type, bucket_start);
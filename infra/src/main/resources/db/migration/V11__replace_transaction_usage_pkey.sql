@@ -0,0 +1,10 @@
+-- V10에서 만든 유니크 인덱스로 기본키를 교체합니다. (인덱스 이름은 transaction_usage_pkey로 바뀜)
+-- 인덱스를 새로 만들지 않으므로 ACCESS EXCLUSIVE 락은 카탈로그 변경 동안만 유지됩니다.
+-- 버킷 합계(sumAmountAfter)는 더 이상 index-only scan이 아니지만, 계좌/유형별로 24시간 창에는 버킷이 최대 25개뿐입니다.
+
+ALTER TABLE transaction_usage
+    DROP CONSTRAINT transaction_usage_pkey,
+    ADD CONSTRAINT transaction_usage_pkey PRIMARY KEY USING INDEX transaction_usage_pkey_new;
+
+-- 같은 페이지에 갱신된 행을 둘 여유 공간을 남겨 HOT 갱신 비율을 높임 (새로 채워지는 페이지부터 적용)
+ALTER TABLE transaction_usage SET (fillfactor = 80);
@@ -0,0 +1,15 @@
+-- 사용량 버킷(transaction_usage) 도입 전에 기록된 거래 내역은 버킷에 없어, 배포 직후 24시간 동안 한도가 과소 계산되었습니다.
+-- 최근 25시간(24시간 창 + 기준 시각이 걸친 첫 버킷)의 출금/이체 송금 내역으로 시간 버킷을 다시 계산합니다.
+-- 버킷은 거래 내역과 같은 트랜잭션에서 누적되므로, 거래 내역 합계로 덮어써도 이미 누적된 버킷이 두 번 더해지지 않습니다.
+-- 계산 중 다른 인스턴스가 버킷을 누적하여 덮어쓰기로 사라지지 않도록, 이 마이그레이션 동안 버킷 쓰기를 막습니다.
+
+LOCK TABLE transaction_usage IN EXCLUSIVE MODE;
+
+INSERT INTO transaction_usage (account_id, type, bucket_start, amount)
+SELECT account_id, type, date_trunc('hour', transacted_at), SUM(amount)
+FROM transaction_history
+WHERE type IN ('WITHDRAW', 'TRANSFER_SEND')
+  AND transacted_at >= date_trunc('hour', LOCALTIMESTAMP) - INTERVAL '25 hours'
+GROUP BY account_id, type, date_trunc('hour', transacted_at)
+ON CONFLICT (account_id, type, bucket_start)
+DO UPDATE SET amount = EXCLUDED.amount;
@@ -0,0 +1,35 @@
+-- 기존 ddl-auto(update)로 생성되던 스키마와 동일한 초기 스키마
+-- (이미 운영 중인 DB는 baseline(V1)으로 등록되어 이 스크립트를 건너뜁니다.)
+
+CREATE TABLE accounts (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_number VARCHAR(255)   NOT NULL,
+    owner_name     VARCHAR(255)   NOT NULL,
+    balance        NUMERIC(38, 2) NOT NULL,
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL,
+    status         VARCHAR(255)   NOT NULL CHECK (status IN ('ACTIVE', 'DELETED')),
+    password_hash  VARCHAR(256)   NOT NULL,
+    salt           VARCHAR(64)    NOT NULL,
+    CONSTRAINT uk_accounts_account_number UNIQUE (account_number)
+);
+
+CREATE TABLE transaction_history (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id              BIGINT         NOT NULL,
+    counterparty_account_id BIGINT,
+    type                    VARCHAR(255)   NOT NULL
+        CHECK (type IN ('WITHDRAW', 'DEPOSIT', 'TRANSFER_SEND', 'TRANSFER_RECEIVE')),
+    amount                  NUMERIC(38, 2) NOT NULL,
+    fee                     NUMERIC(38, 2) NOT NULL,
+    transacted_at           TIMESTAMP(6)   NOT NULL
+);
+
+CREATE TABLE transaction_usage (
+    account_id   BIGINT         NOT NULL,
+    type         VARCHAR(255)   NOT NULL
+        CHECK (type IN ('WITHDRAW', 'DEPOSIT', 'TRANSFER_SEND', 'TRANSFER_RECEIVE')),
+    bucket_start TIMESTAMP(6)   NOT NULL,
+    amount       NUMERIC(38, 2) NOT NULL,
+    PRIMARY KEY (account_id, type, bucket_start)
+);
@@ -0,0 +1,19 @@
+-- 이체/출금 1일 한도 검증: (account_id, type, transacted_at) 범위 조회 + amount 합계 (index-only scan)
+CREATE INDEX IF NOT EXISTS idx_transaction_history_account_type_transacted_at
+    ON transaction_history (account_id, type, transacted_at)
+    INCLUDE (amount);
+
+-- 거래 내역 조회/페이지 조회/내보내기: account_id 기준 (transacted_at, id) 최신순 정렬
+CREATE INDEX IF NOT EXISTS idx_transaction_history_account_transacted_at_id
+    ON transaction_history (account_id, transacted_at DESC, id DESC);
+
+-- 모든 거래의 시작점인 활성 계좌 조회 (계좌번호 -> 계좌)
+CREATE INDEX IF NOT EXISTS idx_accounts_active_account_number
+    ON accounts (account_number)
+    INCLUDE (id)
+    WHERE status = 'ACTIVE';
+
+-- 시간 버킷 사용량 합계: 기본키에 amount를 포함하여 테이블 접근 없이 합산
+ALTER TABLE transaction_usage DROP CONSTRAINT IF EXISTS transaction_usage_pkey;
+ALTER TABLE transaction_usage
+    ADD CONSTRAINT transaction_usage_pkey PRIMARY KEY (account_id, type, bucket_start) INCLUDE (amount);
@@ -0,0 +1,71 @@
+-- transaction_history를 transacted_at 기준 월 단위 RANGE 파티션 테이블로 전환합니다.
+-- 파티션 테이블의 기본키는 파티션 키를 포함해야 하므로 (id, transacted_at)으로 구성하고,
+-- PostgreSQL 17 이전 버전은 파티션 테이블에 IDENTITY 컬럼을 지원하지 않으므로 시퀀스 기본값을 사용합니다.
+
+CREATE SEQUENCE transaction_history_seq;
+SELECT setval('transaction_history_seq', COALESCE((SELECT MAX(id) FROM transaction_history), 0) + 1, false);
+
+ALTER TABLE transaction_history RENAME TO transaction_history_legacy;
+ALTER INDEX idx_transaction_history_account_type_transacted_at RENAME TO idx_transaction_history_legacy_account_type;
+ALTER INDEX idx_transaction_history_account_transacted_at_id RENAME TO idx_transaction_history_legacy_account_id;
+
+CREATE TABLE transaction_history (
+    id                      BIGINT         NOT NULL DEFAULT nextval('transaction_history_seq'),
+    account_id              BIGINT         NOT NULL,
+    counterparty_account_id BIGINT,
+    type                    VARCHAR(255)   NOT NULL
+        CHECK (type IN ('WITHDRAW', 'DEPOSIT', 'TRANSFER_SEND', 'TRANSFER_RECEIVE')),
+    amount                  NUMERIC(38, 2) NOT NULL,
+    fee                     NUMERIC(38, 2) NOT NULL,
+    transacted_at           TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id, transacted_at)
+) PARTITION BY RANGE (transacted_at);
+
+ALTER SEQUENCE transaction_history_seq OWNED BY transaction_history.id;
+
+CREATE INDEX idx_transaction_history_account_type_transacted_at
+    ON transaction_history (account_id, type, transacted_at)
+    INCLUDE (amount);
+
+CREATE INDEX idx_transaction_history_account_transacted_at_id
+    ON transaction_history (account_id, transacted_at DESC, id DESC);
+
+-- 월 파티션 생성 함수 (애플리케이션의 TransactionHistoryPartitionManager가 주기적으로 호출)
+CREATE OR REPLACE FUNCTION create_transaction_history_partition(month_start DATE)
+    RETURNS TEXT
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_start DATE := date_trunc('month', month_start)::DATE;
+    partition_name  TEXT := 'transaction_history_' || to_char(partition_start, 'YYYYMM');
+BEGIN
+    EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF transaction_history FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            partition_start,
+            (partition_start + INTERVAL '1 month')::DATE
+        );
+    RETURN partition_name;
+END;
+$$;
+
+-- 기존 데이터의 가장 오래된 월부터 3개월 뒤까지 파티션을 미리 생성
+DO
+$$
+DECLARE
+    month_cursor DATE := date_trunc('month', COALESCE((SELECT MIN(transacted_at) FROM transaction_history_legacy), now()))::DATE;
+BEGIN
+    WHILE month_cursor <= (date_trunc('month', now()) + INTERVAL '3 months')::DATE
+        LOOP
+            PERFORM create_transaction_history_partition(month_cursor);
+            month_cursor := (month_cursor + INTERVAL '1 month')::DATE;
+        END LOOP;
+END;
+$$;
+
+INSERT INTO transaction_history (id, account_id, counterparty_account_id, type, amount, fee, transacted_at)
+SELECT id, account_id, counterparty_account_id, type, amount, fee, transacted_at
+FROM transaction_history_legacy;
+
+DROP TABLE transaction_history_legacy;
@@ -0,0 +1,11 @@
+-- IDENTITY 대신 시퀀스(pooled optimizer, allocationSize=50)로 ID를 발급하여
+-- Hibernate가 INSERT를 flush 시점까지 미루고 JDBC 배치로 전송할 수 있도록 합니다.
+-- pooled optimizer는 nextval 값을 블록의 상한으로 사용하므로 (MAX(id) + 50)부터 시작합니다.
+
+ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE accounts_seq INCREMENT BY 50 OWNED BY accounts.id;
+SELECT setval('accounts_seq', COALESCE((SELECT MAX(id) FROM accounts), 0) + 50, false);
+ALTER TABLE accounts ALTER COLUMN id SET DEFAULT nextval('accounts_seq');
+
+ALTER SEQUENCE transaction_history_seq INCREMENT BY 50;
+SELECT setval('transaction_history_seq', COALESCE((SELECT MAX(id) FROM transaction_history), 0) + 50, false);
@@ -0,0 +1,2 @@
+-- 낙관적 락(@Version)용 버전 컬럼
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
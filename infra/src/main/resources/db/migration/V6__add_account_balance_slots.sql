@@ -0,0 +1,11 @@
+-- 수취 집중(Hot) 계좌의 잔액 분산 슬롯
+-- 잔액 = accounts.balance(본 잔액) + 슬롯 잔액 합계, slot_count = 0 이면 일반 계좌
+ALTER TABLE accounts ADD COLUMN slot_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE account_balance_slots (
+    account_id BIGINT         NOT NULL REFERENCES accounts (id),
+    slot_no    INTEGER        NOT NULL,
+    balance    NUMERIC(38, 2) NOT NULL DEFAULT 0 CHECK (balance >= 0),
+    updated_at TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (account_id, slot_no)
+);
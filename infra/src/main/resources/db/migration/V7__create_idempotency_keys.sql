@@ -0,0 +1,13 @@
+-- Idempotency-Key 저장소 (재시도 요청에 저장된 응답을 반환)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL CHECK (status IN ('IN_PROGRESS', 'COMPLETED')),
+    response_status INTEGER,
+    response_body   TEXT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL
+);
+
+-- 만료 키 정리
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
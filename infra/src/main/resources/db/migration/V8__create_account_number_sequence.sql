@@ -0,0 +1,6 @@
+-- 계좌번호 순번 블록(hi/lo) 시퀀스
+-- nextval 한 번으로 [값, 값 + 1000) 범위의 순번을 예약하고, 애플리케이션은 블록 안의 순번을 메모리에서 발급합니다.
+-- 블록 크기를 바꾸려면 INCREMENT BY만 변경하면 됩니다. (이미 예약된 범위와 겹치지 않음)
+-- 순번은 Feistel 순열로 섞여 0 ~ 999,999,999 범위의 계좌번호(110-XXX-XXXXXX)가 됩니다.
+
+CREATE SEQUENCE account_number_seq MINVALUE 0 START WITH 0 INCREMENT BY 1000;
@@ -0,0 +1,17 @@
+-- 금액 컬럼을 NUMERIC(38, 2)에서 원 단위 정수 BIGINT로 변경합니다. (도메인 Money = long)
+-- 애플리케이션은 이미 원 미만을 버린(RoundingMode.DOWN) 정수만 저장하므로 trunc는 기존 값을 바꾸지 않으며,
+-- 소수점이 남아 있는 값이 있더라도 반올림이 아닌 버림으로 변환합니다.
+-- 파티션 테이블(transaction_history)은 모든 파티션과 INCLUDE (amount) 인덱스가 함께 변경됩니다.
+
+ALTER TABLE accounts
+    ALTER COLUMN balance TYPE BIGINT USING trunc(balance)::BIGINT;
+
+ALTER TABLE account_balance_slots
+    ALTER COLUMN balance TYPE BIGINT USING trunc(balance)::BIGINT;
+
+ALTER TABLE transaction_history
+    ALTER COLUMN amount TYPE BIGINT USING trunc(amount)::BIGINT,
+    ALTER COLUMN fee TYPE BIGINT USING trunc(fee)::BIGINT;
+
+ALTER TABLE transaction_usage
+    ALTER COLUMN amount TYPE BIGINT USING trunc(amount)::BIGINT;